@@ -167,7 +167,7 @@ public final class Bundle extends BaseBundle implements Cloneable, Parcelable {
             PathTaint contained = new PathTaint();
             contained.site = taint;
             contained.delta = -2;
-            contained.timeStamp = System.nanoTime();
+            contained.timeStamp = PathTaint.nextTimeStamp(null, null);
             return contained;
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getBundleTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taint);
@@ -218,6 +218,19 @@ public final class Bundle extends BaseBundle implements Cloneable, Parcelable {
         }
         return taint;
     }
+
+    // PathTaintArena
+    public static void addBundleTaintArena(Bundle bundle, int parcelTaint, Object object) {
+        addBundleTaint(bundle, PathTaintArena.toPathTaint(parcelTaint), object);
+    }
+
+    public static void addBundleTaintArena(Bundle bundle, int parcelTaint) {
+        addBundleTaint(bundle, PathTaintArena.toPathTaint(parcelTaint));
+    }
+
+    public static int getBundleTaintArena(Bundle bundle) {
+        return PathTaintArena.fromPathTaint(getBundleTaint(bundle));
+    }
     // End Khaled
 
     /**
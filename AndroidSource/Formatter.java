@@ -2585,6 +2585,25 @@ public final class Formatter implements Closeable, Flushable {
         // end Khaled
     }
 
+    public void addTaintArena() {
+        // Khaled: add taint
+        try {
+            // The handle of the appendable, kept in the int TaintDroid keeps its taint in
+            int objectTaint = Thread.getParamTaintTaintDroid1int(Thread.currentThread());
+            if (objectTaint != 0) {
+                if (appendablePathTaintTaintDroid == 0) {
+                    appendablePathTaintTaintDroid = PathTaintArena.propagateOneArg(objectTaint, Thread.currentThread().taintSite, Thread.currentThread().taintDelta);
+                } else {
+                    appendablePathTaintTaintDroid = PathTaintArena.propagateTwoArgs(appendablePathTaintTaintDroid, objectTaint, Thread.currentThread().taintSite, Thread.currentThread().taintDelta);
+                }
+                PathTaintArena.setTaintContainer(appendablePathTaintTaintDroid);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        // end Khaled
+    }
+
     public void addTaintTaintDroid() {
         // Khaled: add taint
         try {
@@ -10029,7 +10029,7 @@ public class Intent implements Parcelable, Cloneable {
             PathTaint contained = new PathTaint();
             contained.site = taint;
             contained.delta = -2;
-            contained.timeStamp = System.nanoTime();
+            contained.timeStamp = PathTaint.nextTimeStamp(null, null);
             return contained;
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getParcelTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taint);
@@ -10060,4 +10060,17 @@ public class Intent implements Parcelable, Cloneable {
     public static int getParcelTaintTaintDroid(Intent intent) {
         return intent.getIntExtra("ZZZ_taintField", 0);
     }
+
+    // PathTaintArena
+    public static void addParcelTaintArena(Intent intent, int parcelTaint, Object object) {
+        addParcelTaint(intent, PathTaintArena.toPathTaint(parcelTaint), object);
+    }
+
+    public static void addParcelTaintArena(Intent intent, int parcelTaint) {
+        addParcelTaint(intent, PathTaintArena.toPathTaint(parcelTaint));
+    }
+
+    public static int getParcelTaintArena(Intent intent) {
+        return PathTaintArena.fromPathTaint(getParcelTaint(intent));
+    }
 }
@@ -2,6 +2,12 @@ package java.lang;
 
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPOutputStream;
@@ -10,6 +16,8 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Collections;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -20,7 +28,9 @@ import java.lang.IllegalAccessException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Deque;
@@ -57,12 +67,66 @@ public class PathTaint {
 
     static Set<Integer> taintCache = new HashSet<>();
 
+    /**
+     * The key of an interned node: its site and delta, and the identity of its left and right nodes.
+     */
+    private static class InternKey {
+        private final String site;
+        private final int delta;
+        private final PathTaint left;
+        private final PathTaint right;
+        private final int hash;
+
+        private InternKey(String site, int delta, PathTaint left, PathTaint right) {
+            this.site = site;
+            this.delta = delta;
+            this.left = left;
+            this.right = right;
+            this.hash = ((Objects.hashCode(site) * 31 + delta) * 31 + System.identityHashCode(left)) * 31 + System.identityHashCode(right);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof InternKey)) {
+                return false;
+            }
+            InternKey other = (InternKey) obj;
+            return delta == other.delta && left == other.left && right == other.right && Objects.equals(site, other.site);
+        }
+    }
+
+    // The node of an entry, which keeps its key to remove the entry once the node is collected
+    private static class InternRef extends WeakReference<PathTaint> {
+        private final InternKey key;
+
+        private InternRef(PathTaint node, InternKey key, ReferenceQueue<PathTaint> queue) {
+            super(node, queue);
+            this.key = key;
+        }
+    }
+
+    private static final Map<InternKey, InternRef> internTable = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<PathTaint> collectedInterned = new ReferenceQueue<>();
+
+    // The low bits of a node's timeStamp hold the number of the thread that made it, so the ids of threads do not clash
+    private static final int THREAD_BITS = 20;
+    private static final int MAX_THREAD_NUMBER = (1 << THREAD_BITS) - 1;
+    // The number of the threads that started after all numbers were taken, which share sharedClock
+    private static final int UNNUMBERED = -1;
+    private static final AtomicInteger nextThreadNumber = new AtomicInteger(0);
+    private static final AtomicLong sharedClock = new AtomicLong(0);
+
     static long sizeCollectedBytes = 0;
     static long numCollected = 0;
     static long sizeAlloc = 0;
     static long numAlloc = 0;
 
-    public static class TaintDump extends Thread {
+    public static class TaintDump implements Runnable {
 
         public List<Object> args;
         public String toPrint = null;
@@ -70,6 +134,7 @@ public class PathTaint {
         public Set<Integer> visitedTaints;
         public Set<Object> visitedObjects;
         public boolean tainted = false;
+        private volatile boolean started = false;
 
         public TaintDump(List<Object> args, int taintNum, String toPrint) {
             this.args = new ArrayList<>(args);
@@ -81,6 +146,7 @@ public class PathTaint {
 
         @Override
         public void run() {
+            DumpQueue.start(this);
 
             long startTime = Thread.getNativeCurrentTime();
 
@@ -109,7 +175,162 @@ public class PathTaint {
                 long endTime = Thread.getNativeCurrentTime();
                 long elapsed = endTime - startTime;
                 System.out.println("DumpTaintTime: " + elapsed);
+                DumpQueue.reportEvery();
+            }
+        }
+
+        // Whether this dump has every root of the other dump
+        private boolean covers(TaintDump other) {
+            for (Object otherArg : other.args) {
+                boolean found = false;
+                for (Object arg : args) {
+                    if (arg == otherArg) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
             }
+            return true;
+        }
+    }
+
+    /**
+     * The queue all taint dumps go through, to a small pool of dump threads instead of a new thread per dump.
+     *
+     * The dumps of sinks are queued and not waited for. A sink dump whose roots are all roots of the sink dump
+     * queued before it, and not started yet, is coalesced into it. When the queue is full, the thread of the sink
+     * runs the dump itself, or drops it when debug.vialin.dumpDropWhenFull is true. The dumps of parcels and files are
+     * run by the calling thread, since their number goes with the taint only if they found taint, and waiting on
+     * the pool would stall a Binder or UI thread behind every queued sink dump. The dumps of the arenas are never
+     * dropped: when the queue is full, the calling thread runs them. The pool has debug.vialin.dumpThreads threads,
+     * 1 by default, and the queue debug.vialin.dumpQueueSize entries, 1024 by default. The state of the queue is
+     * printed at most once every REPORT_EVERY_MILLIS.
+     *
+     * The settings are Android system properties, as the app processes are forked from zygote and get no Java
+     * system properties. They are read by each process when it queues its first dump.
+     */
+    public static class DumpQueue {
+        private static final int THREADS = Math.max(1, getIntSetting("debug.vialin.dumpThreads", 1));
+        private static final int CAPACITY = Math.max(1, getIntSetting("debug.vialin.dumpQueueSize", 1024));
+        private static final boolean DROP_WHEN_FULL = Boolean.parseBoolean(getSetting("debug.vialin.dumpDropWhenFull"));
+        private static final int REPORT_DROPS_EVERY = 1000;
+        private static final long REPORT_EVERY_MILLIS = 10000;
+
+        private static class DumpThread extends Thread {
+            private DumpThread(Runnable runnable) {
+                super(runnable, "TaintDump");
+                setDaemon(true);
+            }
+        }
+
+        private static final ArrayBlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(CAPACITY);
+        private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 0, TimeUnit.MILLISECONDS, queue, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new DumpThread(runnable);
+            }
+        });
+        private static final AtomicLong dropped = new AtomicLong(0);
+        private static final AtomicLong coalesced = new AtomicLong(0);
+        private static final AtomicLong inline = new AtomicLong(0);
+        private static final AtomicLong lastReport = new AtomicLong(0);
+        private static TaintDump lastSinkDump = null;
+
+        /**
+         * Queues the dump of a sink.
+         */
+        public static void submitSink(TaintDump taintDump) {
+            synchronized (DumpQueue.class) {
+                if (lastSinkDump != null && !lastSinkDump.started && lastSinkDump.covers(taintDump)) {
+                    coalesced.incrementAndGet();
+                    return;
+                }
+                if (offer(taintDump)) {
+                    lastSinkDump = taintDump;
+                    return;
+                }
+            }
+            if (DROP_WHEN_FULL) {
+                long drops = dropped.incrementAndGet();
+                if (drops % REPORT_DROPS_EVERY == 1) {
+                    report();
+                }
+                return;
+            }
+            taintDump.run();
+        }
+
+        // Marks a dump as started, so no dump is coalesced into it, and lets go of it if it was the last sink dump
+        private static void start(TaintDump taintDump) {
+            synchronized (DumpQueue.class) {
+                taintDump.started = true;
+                if (lastSinkDump == taintDump) {
+                    lastSinkDump = null;
+                }
+            }
+        }
+
+        /**
+         * Runs a dump on the calling thread, and gets whether it found taint.
+         */
+        public static boolean runInline(TaintDump taintDump) {
+            inline.incrementAndGet();
+            taintDump.run();
+            return taintDump.tainted;
+        }
+
+        /**
+         * Queues a dump that must not be dropped.
+         */
+        public static void submitRequired(Runnable dump) {
+            if (Thread.currentThread() instanceof DumpThread || !offer(dump)) {
+                dump.run();
+            }
+        }
+
+        private static boolean offer(Runnable dump) {
+            try {
+                executor.execute(dump);
+                return true;
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Prints the state of the queue, unless it was printed less than REPORT_EVERY_MILLIS ago.
+         */
+        public static void reportEvery() {
+            long now = System.currentTimeMillis();
+            long last = lastReport.get();
+            if (now - last >= REPORT_EVERY_MILLIS && lastReport.compareAndSet(last, now)) {
+                report();
+            }
+        }
+
+        // java.lang cannot link to the framework, so SystemProperties is called by reflection
+        private static String getSetting(String name) {
+            try {
+                Class<?> systemProperties = Class.forName("android.os.SystemProperties");
+                return (String) systemProperties.getMethod("get", String.class).invoke(null, name);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return "";
+            }
+        }
+
+        private static int getIntSetting(String name, int defaultValue) {
+            try {
+                return Integer.parseInt(getSetting(name));
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
+
+        public static void report() {
+            System.out.format("DumpTaintQueue: depth %s, dropped %s, coalesced %s, inline %s%n", queue.size(), dropped.get(), coalesced.get(), inline.get());
         }
     }
 
@@ -164,6 +385,45 @@ public class PathTaint {
         System.out.format("PathTaint: SinkFound: %s(%s), %s%n", signature, delta, sink);
     }
 
+    /**
+     * Gets the timeStamp of a new node made from the given nodes, either may be null. The high bits are a logical
+     * clock of the thread, moved past the clocks of the given nodes, so that a node orders after the nodes it was
+     * made from, as the offline tools order the statements of a path, without reading the system clock.
+     *
+     * The first MAX_THREAD_NUMBER threads that make a node get a number of their own, which is not reused. The
+     * threads after them have 0 in the low bits and take the high bits from one clock they share, which is slower
+     * but keeps the timeStamps unique.
+     */
+    public static long nextTimeStamp(PathTaint left, PathTaint right) {
+        Thread thread = Thread.currentThread();
+        if (thread.taintThreadNumber == 0) {
+            int number = nextThreadNumber.get();
+            while (number < MAX_THREAD_NUMBER && !nextThreadNumber.compareAndSet(number, number + 1)) {
+                number = nextThreadNumber.get();
+            }
+            thread.taintThreadNumber = number < MAX_THREAD_NUMBER ? number + 1 : UNNUMBERED;
+        }
+        long clock = thread.taintClock;
+        if (left != null) {
+            clock = Math.max(clock, left.timeStamp >>> THREAD_BITS);
+        }
+        if (right != null) {
+            clock = Math.max(clock, right.timeStamp >>> THREAD_BITS);
+        }
+        clock++;
+        if (thread.taintThreadNumber == UNNUMBERED) {
+            long shared = sharedClock.get();
+            while (!sharedClock.compareAndSet(shared, Math.max(shared + 1, clock))) {
+                shared = sharedClock.get();
+            }
+            clock = Math.max(shared + 1, clock);
+            thread.taintClock = clock;
+            return clock << THREAD_BITS;
+        }
+        thread.taintClock = clock;
+        return (clock << THREAD_BITS) | (thread.taintThreadNumber & (long) MAX_THREAD_NUMBER);
+    }
+
     public static PathTaint addTaintSource(PathTaint pathTaint, String site, int delta) {
         PathTaint newTaint = new PathTaint();
         newTaint.site = site;
@@ -172,7 +432,7 @@ public class PathTaint {
             newTaint.left = pathTaint.left;
             newTaint.right = pathTaint.right;
         }
-        newTaint.timeStamp = System.nanoTime();
+        newTaint.timeStamp = nextTimeStamp(newTaint.left, newTaint.right);
         System.out.format("PathTaint: SourceFound: %s(%s)id(%s)%n", newTaint.site, newTaint.delta, newTaint.timeStamp);
         return newTaint;
     }
@@ -191,11 +451,68 @@ public class PathTaint {
         newTaint.site = site;
         newTaint.delta = delta;
         newTaint.left = other;
-        newTaint.timeStamp = System.nanoTime();
+        newTaint.timeStamp = nextTimeStamp(other, null);
         // System.out.format("PathTaint: propagateOneArg %s <-- %s%n", newTaint, other);
         return newTaint;
     }
 
+    /**
+     * Propagates as propagateOneArg does, but returns the node made by an earlier call with the same site, delta
+     * and left node while it is alive, so that a loop over the same taint does not grow a chain of equal nodes.
+     */
+    public static PathTaint propagateOneArgInterned(PathTaint other, String site, int delta) {
+        if (other == null || other.site == null) {
+            return propagateOneArg(other, site, delta);
+        }
+        return intern(site, delta, other, null);
+    }
+
+    /**
+     * Propagates as propagateTwoArgs does, but returns the node made by an earlier call with the same site, delta,
+     * left and right nodes while it is alive.
+     */
+    public static PathTaint propagateTwoArgsInterned(PathTaint left, PathTaint right, String site, int delta) {
+        if ((left == null && right == null) || (left != null && left.site == null) || (right != null && right.site == null)) {
+            return propagateTwoArgs(left, right, site, delta);
+        }
+        return intern(site, delta, left, right);
+    }
+
+    private static PathTaint intern(String site, int delta, PathTaint left, PathTaint right) {
+        InternRef collected;
+        while ((collected = (InternRef) collectedInterned.poll()) != null) {
+            internTable.remove(collected.key, collected);
+        }
+
+        InternKey key = new InternKey(site, delta, left, right);
+        InternRef ref = internTable.get(key);
+        PathTaint interned = ref != null ? ref.get() : null;
+        if (interned != null) {
+            return interned;
+        }
+
+        PathTaint newTaint = new PathTaint();
+        newTaint.site = site;
+        newTaint.delta = delta;
+        newTaint.left = left;
+        newTaint.right = right;
+        newTaint.timeStamp = nextTimeStamp(left, right);
+        InternRef newRef = new InternRef(newTaint, key, collectedInterned);
+        while (true) {
+            InternRef previous = internTable.putIfAbsent(key, newRef);
+            if (previous == null) {
+                return newTaint;
+            }
+            interned = previous.get();
+            if (interned != null) {
+                return interned;
+            }
+            if (internTable.replace(key, previous, newRef)) {
+                return newTaint;
+            }
+        }
+    }
+
     public void setSite(String site) {
         this.site = site;
     }
@@ -244,7 +561,7 @@ public class PathTaint {
         newTaint.delta = delta;
         newTaint.left = left;
         newTaint.right = right;
-        newTaint.timeStamp = System.nanoTime();
+        newTaint.timeStamp = nextTimeStamp(left, right);
         // System.out.format("PathTaint: propagateTwoArgs %s <-- %s ^ %s %n", newTaint, left, right);
         return newTaint;
     }
@@ -259,7 +576,7 @@ public class PathTaint {
         String toPrint = "DumpTaint for sink: " + num;
         TaintDump taintDump = new TaintDump(args, num, toPrint);
         args.clear();
-        taintDump.start();
+        DumpQueue.submitSink(taintDump);
     }
 
     private static boolean dumpObjectLoop(Object object, int num, Set<Integer> visitedTaints, Set<Object> visitedObjects, ByteArrayOutputStream os, DeflaterOutputStream dos) {
@@ -299,6 +616,11 @@ public class PathTaint {
                 // System.out.println("DumpTaint: FieldAccessPath: ");
                 tainted = tainted || dumpTraverseLoop(pathTaint.left, num, visitedTaints, os, dos);
             }
+        } else if (field.getType().equals(int.class) && field.getName().endsWith(PathTaintArena.FIELD_SUFFIX)) {
+            PathTaint pathTaint = PathTaintArena.toPathTaint(field.getInt(next));
+            if (pathTaint != null && pathTaint.left != null) {
+                tainted = tainted || dumpTraverseLoop(pathTaint.left, num, visitedTaints, os, dos);
+            }
         } else {
             Object value = field.get(next);
             if (value != null) {
@@ -601,10 +923,7 @@ public class PathTaint {
             List <Object> args = new ArrayList<>();
             args.add(pathTaint);
             TaintDump taintDump = new TaintDump(args, num, toPrint);
-            // taintDump.start();
-            // return String.valueOf(num);
-            taintDump.run();
-            if (taintDump.tainted) {
+            if (DumpQueue.runInline(taintDump)) {
                 return String.valueOf(num);
             }
             return "";
@@ -633,10 +952,7 @@ public class PathTaint {
         }
         args.add(object);
         TaintDump taintDump = new TaintDump(args, num, toPrint);
-        // taintDump.start();
-        // return String.valueOf(num);
-        taintDump.run();
-        if (taintDump.tainted) {
+        if (DumpQueue.runInline(taintDump)) {
             return String.valueOf(num);
         }
         return "";
@@ -661,10 +977,7 @@ public class PathTaint {
             List <Object> args = new ArrayList<>();
             args.add(pathTaint);
             TaintDump taintDump = new TaintDump(args, num, toPrint);
-            // taintDump.start();
-            // return String.valueOf(num);
-            taintDump.run();
-            if (taintDump.tainted) {
+            if (DumpQueue.runInline(taintDump)) {
                 return String.valueOf(num);
             }
             return "";
@@ -695,10 +1008,7 @@ public class PathTaint {
         }
         args.add(object);
         TaintDump taintDump = new TaintDump(args, num, toPrint);
-        // taintDump.start();
-        // return String.valueOf(num);
-        taintDump.run();
-        if (taintDump.tainted) {
+        if (DumpQueue.runInline(taintDump)) {
             return String.valueOf(num);
         }
         return "";
@@ -746,7 +1056,7 @@ public class PathTaint {
             PathTaint contained = new PathTaint();
             contained.site = taint;
             contained.delta = -2;
-            contained.timeStamp = System.nanoTime();
+            contained.timeStamp = nextTimeStamp(null, null);
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getSerializedTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taint);
             return contained;
@@ -833,7 +1143,7 @@ public class PathTaint {
             PathTaint contained = new PathTaint();
             contained.site = taint;
             contained.delta = -2;
-            contained.timeStamp = System.nanoTime();
+            contained.timeStamp = nextTimeStamp(null, null);
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getFileTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taint);
             return contained;
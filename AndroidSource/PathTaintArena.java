@@ -0,0 +1,504 @@
+package java.lang;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The path taints of the arena mode of ViaLin, kept in parallel int arrays instead of as PathTaint objects,
+ * so that a propagation writes four ints instead of allocating an object for the GC to trace.
+ *
+ * A taint is an int handle to a node, 0 for no taint. The high bits of a handle are the number of the chunk
+ * of the node and the low bits its index in the chunk. Each thread takes a chunk of its own and fills it
+ * without locking, and takes the next chunk when it is full. The chunks are numbered in the order they are
+ * taken, and every EPOCH_CHUNKS chunks form an epoch. When the first chunk of an epoch is taken, the epoch
+ * two before it is dumped as one graph and its chunks are dropped. A handle to a dropped node then stands for
+ * a node with the dump number as its site and -2 as its delta, as the taint of a parcel or file does, so the
+ * offline tools link the paths through the dump. The owner of a chunk publishes each node with a compare-and-set
+ * on the size of the chunk, and the drop seals the size, so a node is either in the dump or written again to a
+ * new chunk.
+ *
+ * The sinks and the models of the framework work on PathTaint objects: the nodes reachable from a handle
+ * are turned into objects when they are dumped or stored, and the objects the models return are turned into
+ * nodes.
+ */
+public class PathTaintArena {
+
+    public static final String FIELD_SUFFIX = "_pathTaintArena";
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int OFFSET_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1 << (31 - CHUNK_BITS);
+    private static final int EPOCH_CHUNKS = 128;
+    private static final int MAX_ENTRIES = 100*1024;
+
+    public static class Arena {
+        private Chunk chunk = null;
+        private int chunkNumber = 0;
+        private int next = CHUNK_SIZE;
+        private String lastSite = null;
+        private int lastSiteId = 0;
+        private int taintContainer = 0;
+    }
+
+    private static class Chunk {
+        private final int[] site = new int[CHUNK_SIZE];
+        private final int[] delta = new int[CHUNK_SIZE];
+        private final int[] left = new int[CHUNK_SIZE];
+        private final int[] right = new int[CHUNK_SIZE];
+        // The number of nodes written, with the sign bit set once the chunk is dropped
+        private final AtomicInteger size = new AtomicInteger(0);
+
+        // Publishes the node at offset, fails if the chunk was dropped before it
+        private boolean publish(int offset) {
+            return size.compareAndSet(offset, offset + 1);
+        }
+
+        // Stops the owner from publishing more nodes and returns how many it published
+        private int seal() {
+            while (true) {
+                int written = size.get();
+                if (written < 0 || size.compareAndSet(written, written | SEALED)) {
+                    return written & ~SEALED;
+                }
+            }
+        }
+    }
+
+    private static final int SEALED = Integer.MIN_VALUE;
+
+    private static final AtomicReferenceArray<Chunk> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    // Chunk 0 holds no nodes, so that no handle is 0
+    private static final AtomicInteger nextChunk = new AtomicInteger(1);
+    private static final AtomicInteger droppedBelow = new AtomicInteger(0);
+    private static final AtomicIntegerArray epochDumpNums = new AtomicIntegerArray(MAX_CHUNKS / EPOCH_CHUNKS);
+    private static volatile boolean exhausted = false;
+
+    // Site 0 is no site, for the nodes that are read before they are written
+    private static final Map<String, Integer> siteIds = new ConcurrentHashMap<>();
+    private static volatile String[] siteNames = new String[1024];
+    private static int numSites = 1;
+
+    private static Map<Integer, PathTaint> materialized = Collections.synchronizedMap(new LinkedHashMap<Integer, PathTaint>(MAX_ENTRIES+1, .75F, true) {
+        @Override
+        public boolean removeEldestEntry(Map.Entry<Integer, PathTaint> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    public static int addTaintSource(int taint, String site, int delta) {
+        int left = 0;
+        int right = 0;
+        Chunk chunk = getChunk(taint);
+        if (chunk != null) {
+            left = chunk.left[taint & OFFSET_MASK];
+            right = chunk.right[taint & OFFSET_MASK];
+        }
+        int newTaint = newNode(getSiteId(site), delta, left, right);
+        if (newTaint == 0) {
+            return taint;
+        }
+        System.out.format("PathTaint: SourceFound: %s(%s)id(%s)%n", site, delta, newTaint);
+        return newTaint;
+    }
+
+    public static int propagateOneArg(int other, String site, int delta) {
+        int newTaint = newNode(getSiteId(site), delta, other, 0);
+        return newTaint != 0 ? newTaint : other;
+    }
+
+    public static int propagateTwoArgs(int left, int right, String site, int delta) {
+        if (left == 0 && right == 0) {
+            return 0;
+        }
+        int newTaint = newNode(getSiteId(site), delta, left, right);
+        return newTaint != 0 ? newTaint : (left != 0 ? left : right);
+    }
+
+    private static int newNode(int siteId, int delta, int left, int right) {
+        Thread thread = Thread.currentThread();
+        Arena arena = thread.pathTaintArena;
+        if (arena == null) {
+            arena = new Arena();
+            thread.pathTaintArena = arena;
+        }
+        while (true) {
+            if (arena.next == CHUNK_SIZE || arena.chunkNumber < droppedBelow.get()) {
+                if (!takeChunk(arena)) {
+                    return 0;
+                }
+            }
+            Chunk chunk = arena.chunk;
+            int offset = arena.next++;
+            chunk.site[offset] = siteId;
+            chunk.delta[offset] = delta;
+            chunk.left[offset] = left;
+            chunk.right[offset] = right;
+            if (chunk.publish(offset)) {
+                return (arena.chunkNumber << CHUNK_BITS) | offset;
+            }
+            // The chunk was dropped while the node was written, so the dump misses it, write it to a new chunk
+            arena.next = CHUNK_SIZE;
+        }
+    }
+
+    private static boolean takeChunk(Arena arena) {
+        if (exhausted) {
+            return false;
+        }
+        int chunkNumber = nextChunk.getAndIncrement();
+        if (chunkNumber >= MAX_CHUNKS) {
+            exhausted = true;
+            System.out.println("PathTaint: the arena ran out of handles, the taints stop growing their paths");
+            return false;
+        }
+        Chunk chunk = new Chunk();
+        chunks.set(chunkNumber, chunk);
+        arena.chunk = chunk;
+        arena.chunkNumber = chunkNumber;
+        arena.next = 0;
+        if (chunkNumber % EPOCH_CHUNKS == 0 && chunkNumber >= 2 * EPOCH_CHUNKS) {
+            dropEpoch(chunkNumber / EPOCH_CHUNKS - 2);
+        }
+        return true;
+    }
+
+    private static void dropEpoch(int epoch) {
+        int num = ((new Random()).nextInt()) & Integer.MAX_VALUE;
+        // Set before the chunks are dropped, so a thread that finds a chunk gone also finds its dump number
+        epochDumpNums.set(epoch, num);
+        int first = epoch * EPOCH_CHUNKS;
+        // Epochs can be dropped out of order by different threads, so the bound only grows
+        int below = droppedBelow.get();
+        while (below < first + EPOCH_CHUNKS && !droppedBelow.compareAndSet(below, first + EPOCH_CHUNKS)) {
+            below = droppedBelow.get();
+        }
+        final Chunk[] dropped = new Chunk[EPOCH_CHUNKS];
+        final int[] sizes = new int[EPOCH_CHUNKS];
+        for (int i = 0; i < EPOCH_CHUNKS; i++) {
+            dropped[i] = chunks.getAndSet(first + i, null);
+            if (dropped[i] != null) {
+                sizes[i] = dropped[i].seal();
+            }
+        }
+        final int dumpNum = num;
+        final int firstChunk = first;
+        PathTaint.DumpQueue.submitRequired(new Runnable() {
+            @Override
+            public void run() {
+                dumpEpoch(dropped, sizes, firstChunk, dumpNum);
+            }
+        });
+    }
+
+    private static void dumpEpoch(Chunk[] dropped, int[] sizes, int firstChunk, int num) {
+        String header = "DumpTaint-" + num + ": ->";
+        boolean tainted = false;
+        for (int i = 0; i < dropped.length; i++) {
+            Chunk chunk = dropped[i];
+            if (chunk == null) {
+                continue;
+            }
+            int size = sizes[i];
+            for (int offset = 0; offset < size; offset++) {
+                int handle = ((firstChunk + i) << CHUNK_BITS) | offset;
+                int left = chunk.left[offset];
+                int right = chunk.right[offset];
+                String site = getSiteName(chunk.site[offset]);
+                if (inFramework(site) && inFramework(siteOf(left, dropped, firstChunk)) && inFramework(siteOf(right, dropped, firstChunk))) {
+                    continue;
+                }
+                StringBuilder sb = new StringBuilder(header);
+                appendNode(sb, site, chunk.delta[offset], handle);
+                if (left != 0) {
+                    sb.append("->left->");
+                    appendNode(sb, siteOf(left, dropped, firstChunk), deltaOf(left, dropped, firstChunk), left);
+                } else {
+                    sb.append("->left->STARTPATH(");
+                    sb.append(handle);
+                    sb.append(")");
+                }
+                if (right != 0) {
+                    sb.append("->right->");
+                    appendNode(sb, siteOf(right, dropped, firstChunk), deltaOf(right, dropped, firstChunk), right);
+                }
+                System.out.println(sb.toString());
+                tainted = true;
+            }
+        }
+        if (tainted) {
+            System.out.println("DumpTaint for arena: " + num);
+        }
+    }
+
+    // The nodes of the epoch being dumped are no longer in the table, and the others are looked up there
+    private static String siteOf(int taint, Chunk[] dropped, int firstChunk) {
+        int i = (taint >>> CHUNK_BITS) - firstChunk;
+        if (taint != 0 && i >= 0 && i < dropped.length && dropped[i] != null) {
+            return getSiteName(dropped[i].site[taint & OFFSET_MASK]);
+        }
+        return siteOf(taint);
+    }
+
+    private static int deltaOf(int taint, Chunk[] dropped, int firstChunk) {
+        int i = (taint >>> CHUNK_BITS) - firstChunk;
+        if (taint != 0 && i >= 0 && i < dropped.length && dropped[i] != null) {
+            return dropped[i].delta[taint & OFFSET_MASK];
+        }
+        return deltaOf(taint);
+    }
+
+    private static void appendNode(StringBuilder sb, String site, int delta, int handle) {
+        sb.append(site);
+        sb.append("(");
+        sb.append(delta);
+        sb.append(")id(");
+        sb.append(handle);
+        sb.append(")");
+    }
+
+    private static boolean inFramework(String site) {
+        return site == null || site.startsWith("Ljava") || site.startsWith("Landroid")
+        || site.startsWith("Lcom/google") || site.startsWith("Lcom/android")
+        || site.startsWith("Lkotlin");
+    }
+
+    private static Chunk getChunk(int taint) {
+        if (taint == 0) {
+            return null;
+        }
+        return chunks.get(taint >>> CHUNK_BITS);
+    }
+
+    private static boolean isDropped(int taint) {
+        return (taint >>> CHUNK_BITS) < droppedBelow.get() && getChunk(taint) == null;
+    }
+
+    private static String siteOf(int taint) {
+        if (taint == 0) {
+            return null;
+        }
+        Chunk chunk = getChunk(taint);
+        if (chunk == null) {
+            return isDropped(taint) ? String.valueOf(epochDumpNums.get((taint >>> CHUNK_BITS) / EPOCH_CHUNKS)) : null;
+        }
+        return getSiteName(chunk.site[taint & OFFSET_MASK]);
+    }
+
+    private static int deltaOf(int taint) {
+        Chunk chunk = getChunk(taint);
+        if (chunk == null) {
+            return -2;
+        }
+        return chunk.delta[taint & OFFSET_MASK];
+    }
+
+    private static int getSiteId(String site) {
+        Arena arena = Thread.currentThread().pathTaintArena;
+        if (arena != null && site == arena.lastSite) {
+            return arena.lastSiteId;
+        }
+        Integer id = siteIds.get(site);
+        if (id == null) {
+            id = addSite(site);
+        }
+        if (arena != null) {
+            arena.lastSite = site;
+            arena.lastSiteId = id;
+        }
+        return id;
+    }
+
+    private static synchronized int addSite(String site) {
+        Integer id = siteIds.get(site);
+        if (id != null) {
+            return id;
+        }
+        String[] names = siteNames;
+        if (numSites == names.length) {
+            String[] newNames = new String[names.length * 2];
+            System.arraycopy(names, 0, newNames, 0, names.length);
+            names = newNames;
+        }
+        names[numSites] = site;
+        siteNames = names;
+        siteIds.put(site, numSites);
+        return numSites++;
+    }
+
+    private static String getSiteName(int siteId) {
+        String[] names = siteNames;
+        return siteId < names.length ? names[siteId] : null;
+    }
+
+    /**
+     * Gets the PathTaint objects of the nodes reachable from a handle, at most MAX_ENTRIES new ones, past which
+     * the paths are cut as the dumps cut them. The objects are kept for the next calls, so that the dumps of
+     * the same nodes find them in their cache, except for the objects whose paths were cut, which the next
+     * calls convert again.
+     */
+    public static PathTaint toPathTaint(int taint) {
+        if (taint == 0) {
+            return null;
+        }
+        PathTaint cached = materialized.get(taint);
+        if (cached != null) {
+            return cached;
+        }
+        Map<Integer, PathTaint> made = new HashMap<>();
+        // The nodes made in this call whose paths were cut
+        Set<Integer> cutNodes = new HashSet<>();
+        Deque<Integer> stack = new ArrayDeque<>(1024);
+        stack.push(taint);
+        while (!stack.isEmpty()) {
+            int next = stack.peek();
+            if (made.containsKey(next)) {
+                stack.pop();
+                continue;
+            }
+            PathTaint node = materialized.get(next);
+            if (node == null) {
+                Chunk chunk = getChunk(next);
+                node = new PathTaint();
+                node.timeStamp = next;
+                if (chunk == null) {
+                    node.site = siteOf(next);
+                    node.delta = -2;
+                } else {
+                    int offset = next & OFFSET_MASK;
+                    int left = chunk.left[offset];
+                    int right = chunk.right[offset];
+                    boolean cut = made.size() >= MAX_ENTRIES;
+                    boolean ready = true;
+                    if (left != 0 && !made.containsKey(left) && !cut) {
+                        stack.push(left);
+                        ready = false;
+                    }
+                    if (right != 0 && !made.containsKey(right) && !cut) {
+                        stack.push(right);
+                        ready = false;
+                    }
+                    if (!ready) {
+                        continue;
+                    }
+                    node.site = getSiteName(chunk.site[offset]);
+                    node.delta = chunk.delta[offset];
+                    node.left = made.get(left);
+                    node.right = made.get(right);
+                    if ((left != 0 && (node.left == null || cutNodes.contains(left)))
+                            || (right != 0 && (node.right == null || cutNodes.contains(right)))) {
+                        cutNodes.add(next);
+                    }
+                }
+                if (!cutNodes.contains(next)) {
+                    materialized.put(next, node);
+                }
+            }
+            made.put(next, node);
+            stack.pop();
+        }
+        return made.get(taint);
+    }
+
+    /**
+     * Gets the handle of a copy of the nodes reachable from a PathTaint object.
+     */
+    public static int fromPathTaint(PathTaint pathTaint) {
+        if (pathTaint == null) {
+            return 0;
+        }
+        Map<PathTaint, Integer> made = new IdentityHashMap<>();
+        Deque<PathTaint> stack = new ArrayDeque<>();
+        stack.push(pathTaint);
+        while (!stack.isEmpty()) {
+            PathTaint next = stack.peek();
+            if (made.containsKey(next)) {
+                stack.pop();
+                continue;
+            }
+            boolean ready = true;
+            if (next.left != null && !made.containsKey(next.left)) {
+                stack.push(next.left);
+                ready = false;
+            }
+            if (next.right != null && !made.containsKey(next.right)) {
+                stack.push(next.right);
+                ready = false;
+            }
+            if (!ready) {
+                continue;
+            }
+            int left = next.left != null ? made.get(next.left) : 0;
+            int right = next.right != null ? made.get(next.right) : 0;
+            int handle = newNode(getSiteId(next.site), next.delta, left, right);
+            if (handle == 0) {
+                return 0;
+            }
+            made.put(next, handle);
+            stack.pop();
+        }
+        return made.get(pathTaint);
+    }
+
+    public static void addToTaintDump(int taint) {
+        Thread.currentThread().dumpTaintArgs.add(toPathTaint(taint));
+    }
+
+    public static void addToTaintDump(int taint, Object obj) {
+        List<Object> args = Thread.currentThread().dumpTaintArgs;
+        args.add(toPathTaint(taint));
+        args.add(obj);
+    }
+
+    public static void finishDumpTaint() {
+        PathTaint.finishDumpTaint();
+    }
+
+    public static int getTaintContainer(int taint) {
+        int container = getArena().taintContainer;
+        if (taint == 0) {
+            return container;
+        }
+        Chunk chunk = getChunk(taint);
+        int delta = chunk != null ? chunk.delta[taint & OFFSET_MASK] : -2;
+        return propagateTwoArgs(container, taint, siteOf(taint), delta);
+    }
+
+    public static void setTaintContainer(int taint) {
+        getArena().taintContainer = taint;
+    }
+
+    private static Arena getArena() {
+        Thread thread = Thread.currentThread();
+        if (thread.pathTaintArena == null) {
+            thread.pathTaintArena = new Arena();
+        }
+        return thread.pathTaintArena;
+    }
+
+    public static void addFileTaint(File file, int fileTaint, Object object) {
+        PathTaint.addFileTaint(file, toPathTaint(fileTaint), object);
+    }
+
+    public static void addFileTaint(File file, int fileTaint) {
+        PathTaint.addFileTaint(file, toPathTaint(fileTaint));
+    }
+
+    public static int getFileTaint(File file) {
+        return fromPathTaint(PathTaint.getFileTaint(file));
+    }
+}
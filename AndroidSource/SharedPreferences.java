@@ -104,6 +104,14 @@ public interface SharedPreferences {
             }
         }
 
+        public static void addSharedPrefsTaintArena(Editor editor, String key, int fileTaint, Object object) {
+            addSharedPrefsTaint(editor, key, PathTaintArena.toPathTaint(fileTaint), object);
+        }
+
+        public static void addSharedPrefsTaintArena(Editor editor, String key, int fileTaint) {
+            addSharedPrefsTaint(editor, key, PathTaintArena.toPathTaint(fileTaint));
+        }
+
 
         /**
          * Set a String value in the preferences editor, to be written back once
@@ -274,7 +282,7 @@ public interface SharedPreferences {
             PathTaint contained = new PathTaint();
             contained.site = taint;
             contained.delta = -2;
-            contained.timeStamp = System.nanoTime();
+            contained.timeStamp = PathTaint.nextTimeStamp(null, null);
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getSharedPrefsTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taint);
             return contained;
@@ -299,6 +307,7 @@ public interface SharedPreferences {
             PathTaint contained = new PathTaint();
             contained.site = taintStr;
             contained.delta = -2;
+            contained.timeStamp = PathTaint.nextTimeStamp(null, null);
             return contained;
             // StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
             // System.out.format("PathTaint: getSharedPrefsTaint: in method %s->%s, taint is %s %n", ste.getClassName(), ste.getMethodName(), taintStr);
@@ -326,6 +335,14 @@ public interface SharedPreferences {
         return taint;
     }
 
+    public static int getSharedPrefsTaintArena(SharedPreferences prefs, String key) {
+        return PathTaintArena.fromPathTaint(getSharedPrefsTaint(prefs, key));
+    }
+
+    public static int getSharedPrefsTaintAllArena(SharedPreferences prefs) {
+        return PathTaintArena.fromPathTaint(getSharedPrefsTaintAll(prefs));
+    }
+
     /**
      * Retrieve all values from the preferences.
      *
@@ -246,6 +246,8 @@ class Thread implements Runnable {
 
     /**
      * Khaled: Added paramter array
+     * The taints of the parameters of a call, at the index of the parameter. Instrumented code reads and
+     * writes them with aget/aput, or through getParamTaintN and setParamTaintN.
      */
 
     public PathTaint[] paramTaintArray = new PathTaint[256];
@@ -255,167 +257,10 @@ class Thread implements Runnable {
     public PathTaint throwTaint;
     public static PathTaint asyncTaskParam;
     public static PathTaint orderedIntentParam;
-    public PathTaint paramTaint0;
-    public PathTaint paramTaint1;
-    public PathTaint paramTaint2;
-    public PathTaint paramTaint3;
-    public PathTaint paramTaint4;
-    public PathTaint paramTaint5;
-    public PathTaint paramTaint6;
-    public PathTaint paramTaint7;
-    public PathTaint paramTaint8;
-    public PathTaint paramTaint9;
-    public PathTaint paramTaint10;
-    public PathTaint paramTaint11;
-    public PathTaint paramTaint12;
-    public PathTaint paramTaint13;
-    public PathTaint paramTaint14;
-    public PathTaint paramTaint15;
-    public PathTaint paramTaint16;
-    public PathTaint paramTaint17;
-    public PathTaint paramTaint18;
-    public PathTaint paramTaint19;
-    public PathTaint paramTaint20;
-    public PathTaint paramTaint21;
-    public PathTaint paramTaint22;
-    public PathTaint paramTaint23;
-    public PathTaint paramTaint24;
-    public PathTaint paramTaint25;
-    public PathTaint paramTaint26;
-    public PathTaint paramTaint27;
-    public PathTaint paramTaint28;
-    public PathTaint paramTaint29;
-    public PathTaint paramTaint30;
-    public PathTaint paramTaint31;
-    public PathTaint paramTaint32;
-    public PathTaint paramTaint33;
-    public PathTaint paramTaint34;
-    public PathTaint paramTaint35;
-    public PathTaint paramTaint36;
-    public PathTaint paramTaint37;
-    public PathTaint paramTaint38;
-    public PathTaint paramTaint39;
-    public PathTaint paramTaint40;
-    public PathTaint paramTaint41;
-    public PathTaint paramTaint42;
-    public PathTaint paramTaint43;
-    public PathTaint paramTaint44;
-    public PathTaint paramTaint45;
-    public PathTaint paramTaint46;
-    public PathTaint paramTaint47;
-    public PathTaint paramTaint48;
-    public PathTaint paramTaint49;
-    public PathTaint paramTaint50;
-    public PathTaint paramTaint51;
-    public PathTaint paramTaint52;
-    public PathTaint paramTaint53;
-    public PathTaint paramTaint54;
-    public PathTaint paramTaint55;
-    public PathTaint paramTaint56;
-    public PathTaint paramTaint57;
-    public PathTaint paramTaint58;
-    public PathTaint paramTaint59;
-    public PathTaint paramTaint60;
-    public PathTaint paramTaint61;
-    public PathTaint paramTaint62;
-    public PathTaint paramTaint63;
-    public PathTaint paramTaint64;
-    public PathTaint paramTaint65;
-    public PathTaint paramTaint66;
-    public PathTaint paramTaint67;
-    public PathTaint paramTaint68;
-    public PathTaint paramTaint69;
-    public PathTaint paramTaint70;
-    public PathTaint paramTaint71;
-    public PathTaint paramTaint72;
-    public PathTaint paramTaint73;
-    public PathTaint paramTaint74;
-    public PathTaint paramTaint75;
-    public PathTaint paramTaint76;
-    public PathTaint paramTaint77;
-    public PathTaint paramTaint78;
-    public PathTaint paramTaint79;
-    public PathTaint paramTaint80;
-    public PathTaint paramTaint81;
-    public PathTaint paramTaint82;
-    public PathTaint paramTaint83;
-    public PathTaint paramTaint84;
-    public PathTaint paramTaint85;
-    public PathTaint paramTaint86;
-    public PathTaint paramTaint87;
-    public PathTaint paramTaint88;
-    public PathTaint paramTaint89;
-    public PathTaint paramTaint90;
-    public PathTaint paramTaint91;
-    public PathTaint paramTaint92;
-    public PathTaint paramTaint93;
-    public PathTaint paramTaint94;
-    public PathTaint paramTaint95;
-    public PathTaint paramTaint96;
-    public PathTaint paramTaint97;
-    public PathTaint paramTaint98;
-    public PathTaint paramTaint99;
-    public PathTaint paramTaint100;
-    public PathTaint paramTaint101;
-    public PathTaint paramTaint102;
-    public PathTaint paramTaint103;
-    public PathTaint paramTaint104;
-    public PathTaint paramTaint105;
-    public PathTaint paramTaint106;
-    public PathTaint paramTaint107;
-    public PathTaint paramTaint108;
-    public PathTaint paramTaint109;
-    public PathTaint paramTaint110;
-    public PathTaint paramTaint111;
-    public PathTaint paramTaint112;
-    public PathTaint paramTaint113;
-    public PathTaint paramTaint114;
-    public PathTaint paramTaint115;
-    public PathTaint paramTaint116;
-    public PathTaint paramTaint117;
-    public PathTaint paramTaint118;
-    public PathTaint paramTaint119;
-    public PathTaint paramTaint120;
-    public PathTaint paramTaint121;
-    public PathTaint paramTaint122;
-    public PathTaint paramTaint123;
-    public PathTaint paramTaint124;
-    public PathTaint paramTaint125;
-    public PathTaint paramTaint126;
-    public PathTaint paramTaint127;
-    public PathTaint paramTaint128;
-    public PathTaint paramTaint129;
-    public PathTaint paramTaint130;
-    public PathTaint paramTaint131;
-    public PathTaint paramTaint132;
-    public PathTaint paramTaint133;
-    public PathTaint paramTaint134;
-    public PathTaint paramTaint135;
-    public PathTaint paramTaint136;
-    public PathTaint paramTaint137;
-    public PathTaint paramTaint138;
-    public PathTaint paramTaint139;
-    public PathTaint paramTaint140;
-    public PathTaint paramTaint141;
-    public PathTaint paramTaint142;
-    public PathTaint paramTaint143;
-    public PathTaint paramTaint144;
-    public PathTaint paramTaint145;
-    public PathTaint paramTaint146;
-    public PathTaint paramTaint147;
-    public PathTaint paramTaint148;
-    public PathTaint paramTaint149;
-    public PathTaint paramTaint150;
-    public PathTaint paramTaint151;
-    public PathTaint paramTaint152;
-    public PathTaint paramTaint153;
-    public PathTaint paramTaint154;
-    public PathTaint paramTaint155;
-    public PathTaint paramTaint156;
-    public PathTaint paramTaint157;
-    public PathTaint paramTaint158;
-    public PathTaint paramTaint159;
     public PathTaint taintContainer;
+    public PathTaintArena.Arena pathTaintArena;
+    public long taintClock;
+    public int taintThreadNumber;
 
 
     public int[] paramTaintTaintDroidArray = new int[256];
@@ -423,107 +268,6 @@ class Thread implements Runnable {
     public int throwTaintTaintDroidint;
     public static int asyncTaskParamTaintDroidint;
     public static int orderedIntentParamInt;
-    public int paramTaintTaintDroid0int;
-    public int paramTaintTaintDroid1int;
-    public int paramTaintTaintDroid2int;
-    public int paramTaintTaintDroid3int;
-    public int paramTaintTaintDroid4int;
-    public int paramTaintTaintDroid5int;
-    public int paramTaintTaintDroid6int;
-    public int paramTaintTaintDroid7int;
-    public int paramTaintTaintDroid8int;
-    public int paramTaintTaintDroid9int;
-    public int paramTaintTaintDroid10int;
-    public int paramTaintTaintDroid11int;
-    public int paramTaintTaintDroid12int;
-    public int paramTaintTaintDroid13int;
-    public int paramTaintTaintDroid14int;
-    public int paramTaintTaintDroid15int;
-    public int paramTaintTaintDroid16int;
-    public int paramTaintTaintDroid17int;
-    public int paramTaintTaintDroid18int;
-    public int paramTaintTaintDroid19int;
-    public int paramTaintTaintDroid20int;
-    public int paramTaintTaintDroid21int;
-    public int paramTaintTaintDroid22int;
-    public int paramTaintTaintDroid23int;
-    public int paramTaintTaintDroid24int;
-    public int paramTaintTaintDroid25int;
-    public int paramTaintTaintDroid26int;
-    public int paramTaintTaintDroid27int;
-    public int paramTaintTaintDroid28int;
-    public int paramTaintTaintDroid29int;
-    public int paramTaintTaintDroid30int;
-    public int paramTaintTaintDroid31int;
-    public int paramTaintTaintDroid32int;
-    public int paramTaintTaintDroid33int;
-    public int paramTaintTaintDroid34int;
-    public int paramTaintTaintDroid35int;
-    public int paramTaintTaintDroid36int;
-    public int paramTaintTaintDroid37int;
-    public int paramTaintTaintDroid38int;
-    public int paramTaintTaintDroid39int;
-    public int paramTaintTaintDroid40int;
-    public int paramTaintTaintDroid41int;
-    public int paramTaintTaintDroid42int;
-    public int paramTaintTaintDroid43int;
-    public int paramTaintTaintDroid44int;
-    public int paramTaintTaintDroid45int;
-    public int paramTaintTaintDroid46int;
-    public int paramTaintTaintDroid47int;
-    public int paramTaintTaintDroid48int;
-    public int paramTaintTaintDroid49int;
-    public int paramTaintTaintDroid50int;
-    public int paramTaintTaintDroid51int;
-    public int paramTaintTaintDroid52int;
-    public int paramTaintTaintDroid53int;
-    public int paramTaintTaintDroid54int;
-    public int paramTaintTaintDroid55int;
-    public int paramTaintTaintDroid56int;
-    public int paramTaintTaintDroid57int;
-    public int paramTaintTaintDroid58int;
-    public int paramTaintTaintDroid59int;
-    public int paramTaintTaintDroid60int;
-    public int paramTaintTaintDroid61int;
-    public int paramTaintTaintDroid62int;
-    public int paramTaintTaintDroid63int;
-    public int paramTaintTaintDroid64int;
-    public int paramTaintTaintDroid65int;
-    public int paramTaintTaintDroid66int;
-    public int paramTaintTaintDroid67int;
-    public int paramTaintTaintDroid68int;
-    public int paramTaintTaintDroid69int;
-    public int paramTaintTaintDroid70int;
-    public int paramTaintTaintDroid71int;
-    public int paramTaintTaintDroid72int;
-    public int paramTaintTaintDroid73int;
-    public int paramTaintTaintDroid74int;
-    public int paramTaintTaintDroid75int;
-    public int paramTaintTaintDroid76int;
-    public int paramTaintTaintDroid77int;
-    public int paramTaintTaintDroid78int;
-    public int paramTaintTaintDroid79int;
-    public int paramTaintTaintDroid80int;
-    public int paramTaintTaintDroid81int;
-    public int paramTaintTaintDroid82int;
-    public int paramTaintTaintDroid83int;
-    public int paramTaintTaintDroid84int;
-    public int paramTaintTaintDroid85int;
-    public int paramTaintTaintDroid86int;
-    public int paramTaintTaintDroid87int;
-    public int paramTaintTaintDroid88int;
-    public int paramTaintTaintDroid89int;
-    public int paramTaintTaintDroid90int;
-    public int paramTaintTaintDroid91int;
-    public int paramTaintTaintDroid92int;
-    public int paramTaintTaintDroid93int;
-    public int paramTaintTaintDroid94int;
-    public int paramTaintTaintDroid95int;
-    public int paramTaintTaintDroid96int;
-    public int paramTaintTaintDroid97int;
-    public int paramTaintTaintDroid98int;
-    public int paramTaintTaintDroid99int;
-    public int paramTaintTaintDroid100int;
 
 
     public long returnTaintTaintDroidlong;
@@ -849,7 +593,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint0(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint0;
+        PathTaint taint = currentThread.paramTaintArray[0];
         // if (taint != null) {
         //     synchronized (PathTaint.whereOpened) {
         //         if (PathTaint.whereOpened.size() < 2048) {
@@ -863,7 +607,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint1(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint1;
+        PathTaint taint = currentThread.paramTaintArray[1];
         // if (taint != null) {
         //     synchronized (PathTaint.whereOpened) {
         //         if (PathTaint.whereOpened.size() < 2048) {
@@ -877,7 +621,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint2(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint2;
+        PathTaint taint = currentThread.paramTaintArray[2];
         // if (taint != null) {
         //     synchronized (PathTaint.whereOpened) {
         //         if (PathTaint.whereOpened.size() < 2048) {
@@ -891,7 +635,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint3(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint3;
+        PathTaint taint = currentThread.paramTaintArray[3];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint3 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -900,7 +644,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint4(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint4;
+        PathTaint taint = currentThread.paramTaintArray[4];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint4 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -909,7 +653,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint5(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint5;
+        PathTaint taint = currentThread.paramTaintArray[5];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint5 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -918,7 +662,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint6(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint6;
+        PathTaint taint = currentThread.paramTaintArray[6];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint6 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -927,7 +671,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint7(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint7;
+        PathTaint taint = currentThread.paramTaintArray[7];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint7 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -936,7 +680,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint8(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint8;
+        PathTaint taint = currentThread.paramTaintArray[8];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint8 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -945,7 +689,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint9(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint9;
+        PathTaint taint = currentThread.paramTaintArray[9];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint9 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -954,7 +698,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint10(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint10;
+        PathTaint taint = currentThread.paramTaintArray[10];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint10 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -962,7 +706,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint11(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint11;
+        PathTaint taint = currentThread.paramTaintArray[11];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint11 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -970,7 +714,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint12(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint12;
+        PathTaint taint = currentThread.paramTaintArray[12];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint12 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -978,7 +722,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint13(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint13;
+        PathTaint taint = currentThread.paramTaintArray[13];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint13 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -986,7 +730,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint14(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint14;
+        PathTaint taint = currentThread.paramTaintArray[14];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint14 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -994,7 +738,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint15(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint15;
+        PathTaint taint = currentThread.paramTaintArray[15];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint15 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1002,7 +746,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint16(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint16;
+        PathTaint taint = currentThread.paramTaintArray[16];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint16 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1010,7 +754,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint17(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint17;
+        PathTaint taint = currentThread.paramTaintArray[17];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint17 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1018,7 +762,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint18(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint18;
+        PathTaint taint = currentThread.paramTaintArray[18];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint18 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1026,7 +770,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint19(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint19;
+        PathTaint taint = currentThread.paramTaintArray[19];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint19 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1034,7 +778,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint20(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint20;
+        PathTaint taint = currentThread.paramTaintArray[20];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint20 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1042,7 +786,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint21(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint21;
+        PathTaint taint = currentThread.paramTaintArray[21];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint21 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1050,7 +794,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint22(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint22;
+        PathTaint taint = currentThread.paramTaintArray[22];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint22 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1058,7 +802,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint23(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint23;
+        PathTaint taint = currentThread.paramTaintArray[23];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint23 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1066,7 +810,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint24(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint24;
+        PathTaint taint = currentThread.paramTaintArray[24];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint24 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1074,7 +818,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint25(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint25;
+        PathTaint taint = currentThread.paramTaintArray[25];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint25 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1082,7 +826,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint26(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint26;
+        PathTaint taint = currentThread.paramTaintArray[26];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint26 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1090,7 +834,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint27(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint27;
+        PathTaint taint = currentThread.paramTaintArray[27];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint27 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1098,7 +842,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint28(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint28;
+        PathTaint taint = currentThread.paramTaintArray[28];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint28 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1106,7 +850,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint29(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint29;
+        PathTaint taint = currentThread.paramTaintArray[29];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint29 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1114,7 +858,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint30(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint30;
+        PathTaint taint = currentThread.paramTaintArray[30];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint30 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1122,7 +866,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint31(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint31;
+        PathTaint taint = currentThread.paramTaintArray[31];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint31 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1130,7 +874,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint32(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint32;
+        PathTaint taint = currentThread.paramTaintArray[32];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint32 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1138,7 +882,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint33(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint33;
+        PathTaint taint = currentThread.paramTaintArray[33];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint33 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1146,7 +890,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint34(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint34;
+        PathTaint taint = currentThread.paramTaintArray[34];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint34 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1154,7 +898,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint35(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint35;
+        PathTaint taint = currentThread.paramTaintArray[35];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint35 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1162,7 +906,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint36(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint36;
+        PathTaint taint = currentThread.paramTaintArray[36];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint36 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1170,7 +914,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint37(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint37;
+        PathTaint taint = currentThread.paramTaintArray[37];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint37 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1178,7 +922,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint38(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint38;
+        PathTaint taint = currentThread.paramTaintArray[38];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint38 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1186,7 +930,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint39(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint39;
+        PathTaint taint = currentThread.paramTaintArray[39];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint39 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1194,7 +938,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint40(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint40;
+        PathTaint taint = currentThread.paramTaintArray[40];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint40 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1202,7 +946,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint41(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint41;
+        PathTaint taint = currentThread.paramTaintArray[41];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint41 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1210,7 +954,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint42(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint42;
+        PathTaint taint = currentThread.paramTaintArray[42];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint42 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1218,7 +962,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint43(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint43;
+        PathTaint taint = currentThread.paramTaintArray[43];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint43 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1226,7 +970,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint44(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint44;
+        PathTaint taint = currentThread.paramTaintArray[44];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint44 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1234,7 +978,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint45(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint45;
+        PathTaint taint = currentThread.paramTaintArray[45];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint45 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1242,7 +986,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint46(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint46;
+        PathTaint taint = currentThread.paramTaintArray[46];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint46 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1250,7 +994,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint47(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint47;
+        PathTaint taint = currentThread.paramTaintArray[47];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint47 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1258,7 +1002,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint48(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint48;
+        PathTaint taint = currentThread.paramTaintArray[48];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint48 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1266,7 +1010,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint49(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint49;
+        PathTaint taint = currentThread.paramTaintArray[49];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint49 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1274,7 +1018,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint50(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint50;
+        PathTaint taint = currentThread.paramTaintArray[50];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint50 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1282,7 +1026,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint51(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint51;
+        PathTaint taint = currentThread.paramTaintArray[51];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint51 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1290,7 +1034,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint52(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint52;
+        PathTaint taint = currentThread.paramTaintArray[52];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint52 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1298,7 +1042,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint53(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint53;
+        PathTaint taint = currentThread.paramTaintArray[53];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint53 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1306,7 +1050,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint54(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint54;
+        PathTaint taint = currentThread.paramTaintArray[54];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint54 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1314,7 +1058,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint55(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint55;
+        PathTaint taint = currentThread.paramTaintArray[55];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint55 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1322,7 +1066,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint56(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint56;
+        PathTaint taint = currentThread.paramTaintArray[56];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint56 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1330,7 +1074,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint57(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint57;
+        PathTaint taint = currentThread.paramTaintArray[57];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint57 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1338,7 +1082,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint58(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint58;
+        PathTaint taint = currentThread.paramTaintArray[58];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint58 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1346,7 +1090,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint59(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint59;
+        PathTaint taint = currentThread.paramTaintArray[59];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint59 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1354,7 +1098,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint60(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint60;
+        PathTaint taint = currentThread.paramTaintArray[60];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint60 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1362,7 +1106,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint61(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint61;
+        PathTaint taint = currentThread.paramTaintArray[61];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint61 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1370,7 +1114,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint62(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint62;
+        PathTaint taint = currentThread.paramTaintArray[62];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint62 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1378,7 +1122,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint63(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint63;
+        PathTaint taint = currentThread.paramTaintArray[63];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint63 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1386,7 +1130,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint64(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint64;
+        PathTaint taint = currentThread.paramTaintArray[64];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint64 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1394,7 +1138,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint65(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint65;
+        PathTaint taint = currentThread.paramTaintArray[65];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint65 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1402,7 +1146,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint66(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint66;
+        PathTaint taint = currentThread.paramTaintArray[66];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint66 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1410,7 +1154,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint67(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint67;
+        PathTaint taint = currentThread.paramTaintArray[67];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint67 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1418,7 +1162,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint68(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint68;
+        PathTaint taint = currentThread.paramTaintArray[68];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint68 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1426,7 +1170,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint69(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint69;
+        PathTaint taint = currentThread.paramTaintArray[69];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint69 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1434,7 +1178,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint70(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint70;
+        PathTaint taint = currentThread.paramTaintArray[70];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint70 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1442,7 +1186,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint71(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint71;
+        PathTaint taint = currentThread.paramTaintArray[71];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint71 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1450,7 +1194,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint72(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint72;
+        PathTaint taint = currentThread.paramTaintArray[72];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint72 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1458,7 +1202,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint73(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint73;
+        PathTaint taint = currentThread.paramTaintArray[73];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint73 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1466,7 +1210,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint74(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint74;
+        PathTaint taint = currentThread.paramTaintArray[74];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint74 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1474,7 +1218,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint75(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint75;
+        PathTaint taint = currentThread.paramTaintArray[75];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint75 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1482,7 +1226,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint76(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint76;
+        PathTaint taint = currentThread.paramTaintArray[76];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint76 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1490,7 +1234,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint77(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint77;
+        PathTaint taint = currentThread.paramTaintArray[77];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint77 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1498,7 +1242,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint78(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint78;
+        PathTaint taint = currentThread.paramTaintArray[78];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint78 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1506,7 +1250,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint79(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint79;
+        PathTaint taint = currentThread.paramTaintArray[79];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint79 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1514,7 +1258,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint80(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint80;
+        PathTaint taint = currentThread.paramTaintArray[80];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint80 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1522,7 +1266,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint81(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint81;
+        PathTaint taint = currentThread.paramTaintArray[81];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint81 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1530,7 +1274,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint82(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint82;
+        PathTaint taint = currentThread.paramTaintArray[82];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint82 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1538,7 +1282,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint83(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint83;
+        PathTaint taint = currentThread.paramTaintArray[83];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint83 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1546,7 +1290,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint84(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint84;
+        PathTaint taint = currentThread.paramTaintArray[84];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint84 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1554,7 +1298,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint85(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint85;
+        PathTaint taint = currentThread.paramTaintArray[85];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint85 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1562,7 +1306,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint86(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint86;
+        PathTaint taint = currentThread.paramTaintArray[86];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint86 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1570,7 +1314,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint87(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint87;
+        PathTaint taint = currentThread.paramTaintArray[87];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint87 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1578,7 +1322,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint88(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint88;
+        PathTaint taint = currentThread.paramTaintArray[88];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint88 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1586,7 +1330,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint89(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint89;
+        PathTaint taint = currentThread.paramTaintArray[89];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint89 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1594,7 +1338,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint90(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint90;
+        PathTaint taint = currentThread.paramTaintArray[90];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1602,7 +1346,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint91(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint91;
+        PathTaint taint = currentThread.paramTaintArray[91];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1610,7 +1354,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint92(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint92;
+        PathTaint taint = currentThread.paramTaintArray[92];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1618,7 +1362,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint93(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint93;
+        PathTaint taint = currentThread.paramTaintArray[93];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1626,7 +1370,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint94(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint94;
+        PathTaint taint = currentThread.paramTaintArray[94];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1634,7 +1378,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint95(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint95;
+        PathTaint taint = currentThread.paramTaintArray[95];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1642,7 +1386,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint96(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint96;
+        PathTaint taint = currentThread.paramTaintArray[96];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1650,7 +1394,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint97(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint97;
+        PathTaint taint = currentThread.paramTaintArray[97];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1658,7 +1402,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint98(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint98;
+        PathTaint taint = currentThread.paramTaintArray[98];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1666,7 +1410,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint99(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint99;
+        PathTaint taint = currentThread.paramTaintArray[99];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1674,7 +1418,7 @@ class Thread implements Runnable {
         return taint;
     }
     public static PathTaint getParamTaint100(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint100;
+        PathTaint taint = currentThread.paramTaintArray[100];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1683,7 +1427,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint101(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint101;
+        PathTaint taint = currentThread.paramTaintArray[101];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1692,7 +1436,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint102(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint102;
+        PathTaint taint = currentThread.paramTaintArray[102];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1701,7 +1445,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint103(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint103;
+        PathTaint taint = currentThread.paramTaintArray[103];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1710,7 +1454,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint104(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint104;
+        PathTaint taint = currentThread.paramTaintArray[104];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1719,7 +1463,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint105(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint105;
+        PathTaint taint = currentThread.paramTaintArray[105];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1728,7 +1472,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint106(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint106;
+        PathTaint taint = currentThread.paramTaintArray[106];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1737,7 +1481,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint107(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint107;
+        PathTaint taint = currentThread.paramTaintArray[107];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1746,7 +1490,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint108(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint108;
+        PathTaint taint = currentThread.paramTaintArray[108];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1755,7 +1499,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint109(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint109;
+        PathTaint taint = currentThread.paramTaintArray[109];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1764,7 +1508,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint110(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint110;
+        PathTaint taint = currentThread.paramTaintArray[110];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1773,7 +1517,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint111(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint111;
+        PathTaint taint = currentThread.paramTaintArray[111];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1782,7 +1526,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint112(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint112;
+        PathTaint taint = currentThread.paramTaintArray[112];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1791,7 +1535,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint113(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint113;
+        PathTaint taint = currentThread.paramTaintArray[113];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1800,7 +1544,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint114(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint114;
+        PathTaint taint = currentThread.paramTaintArray[114];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1809,7 +1553,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint115(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint115;
+        PathTaint taint = currentThread.paramTaintArray[115];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1818,7 +1562,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint116(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint116;
+        PathTaint taint = currentThread.paramTaintArray[116];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1827,7 +1571,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint117(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint117;
+        PathTaint taint = currentThread.paramTaintArray[117];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1836,7 +1580,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint118(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint118;
+        PathTaint taint = currentThread.paramTaintArray[118];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1845,7 +1589,7 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint119(Thread currentThread) {
-        PathTaint taint = currentThread.paramTaint119;
+        PathTaint taint = currentThread.paramTaintArray[119];
         // if (taint != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), getParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), taint);
@@ -1854,529 +1598,529 @@ class Thread implements Runnable {
     }
 
     public static PathTaint getParamTaint120(Thread currentThread) {
-        return currentThread.paramTaint120;
+        return currentThread.paramTaintArray[120];
     }
     public static PathTaint getParamTaint121(Thread currentThread) {
-        return currentThread.paramTaint121;
+        return currentThread.paramTaintArray[121];
     }
     public static PathTaint getParamTaint122(Thread currentThread) {
-        return currentThread.paramTaint122;
+        return currentThread.paramTaintArray[122];
     }
     public static PathTaint getParamTaint123(Thread currentThread) {
-        return currentThread.paramTaint123;
+        return currentThread.paramTaintArray[123];
     }
     public static PathTaint getParamTaint124(Thread currentThread) {
-        return currentThread.paramTaint124;
+        return currentThread.paramTaintArray[124];
     }
     public static PathTaint getParamTaint125(Thread currentThread) {
-        return currentThread.paramTaint125;
+        return currentThread.paramTaintArray[125];
     }
     public static PathTaint getParamTaint126(Thread currentThread) {
-        return currentThread.paramTaint126;
+        return currentThread.paramTaintArray[126];
     }
     public static PathTaint getParamTaint127(Thread currentThread) {
-        return currentThread.paramTaint127;
+        return currentThread.paramTaintArray[127];
     }
     public static PathTaint getParamTaint128(Thread currentThread) {
-        return currentThread.paramTaint128;
+        return currentThread.paramTaintArray[128];
     }
     public static PathTaint getParamTaint129(Thread currentThread) {
-        return currentThread.paramTaint129;
+        return currentThread.paramTaintArray[129];
     }
     public static PathTaint getParamTaint130(Thread currentThread) {
-        return currentThread.paramTaint130;
+        return currentThread.paramTaintArray[130];
     }
     public static PathTaint getParamTaint131(Thread currentThread) {
-        return currentThread.paramTaint131;
+        return currentThread.paramTaintArray[131];
     }
     public static PathTaint getParamTaint132(Thread currentThread) {
-        return currentThread.paramTaint132;
+        return currentThread.paramTaintArray[132];
     }
     public static PathTaint getParamTaint133(Thread currentThread) {
-        return currentThread.paramTaint133;
+        return currentThread.paramTaintArray[133];
     }
     public static PathTaint getParamTaint134(Thread currentThread) {
-        return currentThread.paramTaint134;
+        return currentThread.paramTaintArray[134];
     }
     public static PathTaint getParamTaint135(Thread currentThread) {
-        return currentThread.paramTaint135;
+        return currentThread.paramTaintArray[135];
     }
     public static PathTaint getParamTaint136(Thread currentThread) {
-        return currentThread.paramTaint136;
+        return currentThread.paramTaintArray[136];
     }
     public static PathTaint getParamTaint137(Thread currentThread) {
-        return currentThread.paramTaint137;
+        return currentThread.paramTaintArray[137];
     }
     public static PathTaint getParamTaint138(Thread currentThread) {
-        return currentThread.paramTaint138;
+        return currentThread.paramTaintArray[138];
     }
     public static PathTaint getParamTaint139(Thread currentThread) {
-        return currentThread.paramTaint139;
+        return currentThread.paramTaintArray[139];
     }
     public static PathTaint getParamTaint140(Thread currentThread) {
-        return currentThread.paramTaint140;
+        return currentThread.paramTaintArray[140];
     }
     public static PathTaint getParamTaint141(Thread currentThread) {
-        return currentThread.paramTaint141;
+        return currentThread.paramTaintArray[141];
     }
     public static PathTaint getParamTaint142(Thread currentThread) {
-        return currentThread.paramTaint142;
+        return currentThread.paramTaintArray[142];
     }
     public static PathTaint getParamTaint143(Thread currentThread) {
-        return currentThread.paramTaint143;
+        return currentThread.paramTaintArray[143];
     }
     public static PathTaint getParamTaint144(Thread currentThread) {
-        return currentThread.paramTaint144;
+        return currentThread.paramTaintArray[144];
     }
     public static PathTaint getParamTaint145(Thread currentThread) {
-        return currentThread.paramTaint145;
+        return currentThread.paramTaintArray[145];
     }
     public static PathTaint getParamTaint146(Thread currentThread) {
-        return currentThread.paramTaint146;
+        return currentThread.paramTaintArray[146];
     }
     public static PathTaint getParamTaint147(Thread currentThread) {
-        return currentThread.paramTaint147;
+        return currentThread.paramTaintArray[147];
     }
     public static PathTaint getParamTaint148(Thread currentThread) {
-        return currentThread.paramTaint148;
+        return currentThread.paramTaintArray[148];
     }
     public static PathTaint getParamTaint149(Thread currentThread) {
-        return currentThread.paramTaint149;
+        return currentThread.paramTaintArray[149];
     }
     public static PathTaint getParamTaint150(Thread currentThread) {
-        return currentThread.paramTaint150;
+        return currentThread.paramTaintArray[150];
     }
     public static PathTaint getParamTaint151(Thread currentThread) {
-        return currentThread.paramTaint151;
+        return currentThread.paramTaintArray[151];
     }
     public static PathTaint getParamTaint152(Thread currentThread) {
-        return currentThread.paramTaint152;
+        return currentThread.paramTaintArray[152];
     }
     public static PathTaint getParamTaint153(Thread currentThread) {
-        return currentThread.paramTaint153;
+        return currentThread.paramTaintArray[153];
     }
     public static PathTaint getParamTaint154(Thread currentThread) {
-        return currentThread.paramTaint154;
+        return currentThread.paramTaintArray[154];
     }
     public static PathTaint getParamTaint155(Thread currentThread) {
-        return currentThread.paramTaint155;
+        return currentThread.paramTaintArray[155];
     }
     public static PathTaint getParamTaint156(Thread currentThread) {
-        return currentThread.paramTaint156;
+        return currentThread.paramTaintArray[156];
     }
     public static PathTaint getParamTaint157(Thread currentThread) {
-        return currentThread.paramTaint157;
+        return currentThread.paramTaintArray[157];
     }
     public static PathTaint getParamTaint158(Thread currentThread) {
-        return currentThread.paramTaint158;
+        return currentThread.paramTaintArray[158];
     }
     public static PathTaint getParamTaint159(Thread currentThread) {
-        return currentThread.paramTaint159;
+        return currentThread.paramTaintArray[159];
     }
 
 
     public static int getParamTaintTaintDroid0int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid0int;
+        return currentThread.paramTaintTaintDroidArray[0];
     }
 
     public static int getParamTaintTaintDroid1int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid1int;
+        return currentThread.paramTaintTaintDroidArray[1];
     }
 
     public static int getParamTaintTaintDroid2int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid2int;
+        return currentThread.paramTaintTaintDroidArray[2];
     }
 
     public static int getParamTaintTaintDroid3int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid3int;
+        return currentThread.paramTaintTaintDroidArray[3];
     }
 
     public static int getParamTaintTaintDroid4int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid4int;
+        return currentThread.paramTaintTaintDroidArray[4];
     }
 
     public static int getParamTaintTaintDroid5int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid5int;
+        return currentThread.paramTaintTaintDroidArray[5];
     }
 
     public static int getParamTaintTaintDroid6int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid6int;
+        return currentThread.paramTaintTaintDroidArray[6];
     }
 
     public static int getParamTaintTaintDroid7int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid7int;
+        return currentThread.paramTaintTaintDroidArray[7];
     }
 
     public static int getParamTaintTaintDroid8int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid8int;
+        return currentThread.paramTaintTaintDroidArray[8];
     }
 
     public static int getParamTaintTaintDroid9int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid9int;
+        return currentThread.paramTaintTaintDroidArray[9];
     }
 
     public static int getParamTaintTaintDroid10int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid10int;
+        return currentThread.paramTaintTaintDroidArray[10];
     }
 
     public static int getParamTaintTaintDroid11int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid11int;
+        return currentThread.paramTaintTaintDroidArray[11];
     }
 
     public static int getParamTaintTaintDroid12int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid12int;
+        return currentThread.paramTaintTaintDroidArray[12];
     }
 
     public static int getParamTaintTaintDroid13int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid13int;
+        return currentThread.paramTaintTaintDroidArray[13];
     }
 
     public static int getParamTaintTaintDroid14int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid14int;
+        return currentThread.paramTaintTaintDroidArray[14];
     }
 
     public static int getParamTaintTaintDroid15int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid15int;
+        return currentThread.paramTaintTaintDroidArray[15];
     }
 
     public static int getParamTaintTaintDroid16int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid16int;
+        return currentThread.paramTaintTaintDroidArray[16];
     }
 
     public static int getParamTaintTaintDroid17int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid17int;
+        return currentThread.paramTaintTaintDroidArray[17];
     }
 
     public static int getParamTaintTaintDroid18int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid18int;
+        return currentThread.paramTaintTaintDroidArray[18];
     }
 
     public static int getParamTaintTaintDroid19int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid19int;
+        return currentThread.paramTaintTaintDroidArray[19];
     }
 
     public static int getParamTaintTaintDroid20int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid20int;
+        return currentThread.paramTaintTaintDroidArray[20];
     }
 
     public static int getParamTaintTaintDroid21int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid21int;
+        return currentThread.paramTaintTaintDroidArray[21];
     }
 
     public static int getParamTaintTaintDroid22int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid22int;
+        return currentThread.paramTaintTaintDroidArray[22];
     }
 
     public static int getParamTaintTaintDroid23int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid23int;
+        return currentThread.paramTaintTaintDroidArray[23];
     }
 
     public static int getParamTaintTaintDroid24int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid24int;
+        return currentThread.paramTaintTaintDroidArray[24];
     }
 
     public static int getParamTaintTaintDroid25int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid25int;
+        return currentThread.paramTaintTaintDroidArray[25];
     }
 
     public static int getParamTaintTaintDroid26int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid26int;
+        return currentThread.paramTaintTaintDroidArray[26];
     }
 
     public static int getParamTaintTaintDroid27int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid27int;
+        return currentThread.paramTaintTaintDroidArray[27];
     }
 
     public static int getParamTaintTaintDroid28int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid28int;
+        return currentThread.paramTaintTaintDroidArray[28];
     }
 
     public static int getParamTaintTaintDroid29int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid29int;
+        return currentThread.paramTaintTaintDroidArray[29];
     }
 
     public static int getParamTaintTaintDroid30int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid30int;
+        return currentThread.paramTaintTaintDroidArray[30];
     }
 
     public static int getParamTaintTaintDroid31int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid31int;
+        return currentThread.paramTaintTaintDroidArray[31];
     }
 
     public static int getParamTaintTaintDroid32int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid32int;
+        return currentThread.paramTaintTaintDroidArray[32];
     }
 
     public static int getParamTaintTaintDroid33int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid33int;
+        return currentThread.paramTaintTaintDroidArray[33];
     }
 
     public static int getParamTaintTaintDroid34int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid34int;
+        return currentThread.paramTaintTaintDroidArray[34];
     }
 
     public static int getParamTaintTaintDroid35int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid35int;
+        return currentThread.paramTaintTaintDroidArray[35];
     }
 
     public static int getParamTaintTaintDroid36int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid36int;
+        return currentThread.paramTaintTaintDroidArray[36];
     }
 
     public static int getParamTaintTaintDroid37int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid37int;
+        return currentThread.paramTaintTaintDroidArray[37];
     }
 
     public static int getParamTaintTaintDroid38int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid38int;
+        return currentThread.paramTaintTaintDroidArray[38];
     }
 
     public static int getParamTaintTaintDroid39int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid39int;
+        return currentThread.paramTaintTaintDroidArray[39];
     }
 
     public static int getParamTaintTaintDroid40int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid40int;
+        return currentThread.paramTaintTaintDroidArray[40];
     }
 
     public static int getParamTaintTaintDroid41int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid41int;
+        return currentThread.paramTaintTaintDroidArray[41];
     }
 
     public static int getParamTaintTaintDroid42int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid42int;
+        return currentThread.paramTaintTaintDroidArray[42];
     }
 
     public static int getParamTaintTaintDroid43int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid43int;
+        return currentThread.paramTaintTaintDroidArray[43];
     }
 
     public static int getParamTaintTaintDroid44int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid44int;
+        return currentThread.paramTaintTaintDroidArray[44];
     }
 
     public static int getParamTaintTaintDroid45int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid45int;
+        return currentThread.paramTaintTaintDroidArray[45];
     }
 
     public static int getParamTaintTaintDroid46int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid46int;
+        return currentThread.paramTaintTaintDroidArray[46];
     }
 
     public static int getParamTaintTaintDroid47int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid47int;
+        return currentThread.paramTaintTaintDroidArray[47];
     }
 
     public static int getParamTaintTaintDroid48int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid48int;
+        return currentThread.paramTaintTaintDroidArray[48];
     }
 
     public static int getParamTaintTaintDroid49int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid49int;
+        return currentThread.paramTaintTaintDroidArray[49];
     }
 
     public static int getParamTaintTaintDroid50int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid50int;
+        return currentThread.paramTaintTaintDroidArray[50];
     }
 
     public static int getParamTaintTaintDroid51int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid51int;
+        return currentThread.paramTaintTaintDroidArray[51];
     }
 
     public static int getParamTaintTaintDroid52int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid52int;
+        return currentThread.paramTaintTaintDroidArray[52];
     }
 
     public static int getParamTaintTaintDroid53int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid53int;
+        return currentThread.paramTaintTaintDroidArray[53];
     }
 
     public static int getParamTaintTaintDroid54int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid54int;
+        return currentThread.paramTaintTaintDroidArray[54];
     }
 
     public static int getParamTaintTaintDroid55int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid55int;
+        return currentThread.paramTaintTaintDroidArray[55];
     }
 
     public static int getParamTaintTaintDroid56int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid56int;
+        return currentThread.paramTaintTaintDroidArray[56];
     }
 
     public static int getParamTaintTaintDroid57int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid57int;
+        return currentThread.paramTaintTaintDroidArray[57];
     }
 
     public static int getParamTaintTaintDroid58int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid58int;
+        return currentThread.paramTaintTaintDroidArray[58];
     }
 
     public static int getParamTaintTaintDroid59int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid59int;
+        return currentThread.paramTaintTaintDroidArray[59];
     }
 
     public static int getParamTaintTaintDroid60int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid60int;
+        return currentThread.paramTaintTaintDroidArray[60];
     }
 
     public static int getParamTaintTaintDroid61int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid61int;
+        return currentThread.paramTaintTaintDroidArray[61];
     }
 
     public static int getParamTaintTaintDroid62int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid62int;
+        return currentThread.paramTaintTaintDroidArray[62];
     }
 
     public static int getParamTaintTaintDroid63int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid63int;
+        return currentThread.paramTaintTaintDroidArray[63];
     }
 
     public static int getParamTaintTaintDroid64int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid64int;
+        return currentThread.paramTaintTaintDroidArray[64];
     }
 
     public static int getParamTaintTaintDroid65int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid65int;
+        return currentThread.paramTaintTaintDroidArray[65];
     }
 
     public static int getParamTaintTaintDroid66int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid66int;
+        return currentThread.paramTaintTaintDroidArray[66];
     }
 
     public static int getParamTaintTaintDroid67int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid67int;
+        return currentThread.paramTaintTaintDroidArray[67];
     }
 
     public static int getParamTaintTaintDroid68int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid68int;
+        return currentThread.paramTaintTaintDroidArray[68];
     }
 
     public static int getParamTaintTaintDroid69int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid69int;
+        return currentThread.paramTaintTaintDroidArray[69];
     }
 
     public static int getParamTaintTaintDroid70int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid70int;
+        return currentThread.paramTaintTaintDroidArray[70];
     }
 
     public static int getParamTaintTaintDroid71int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid71int;
+        return currentThread.paramTaintTaintDroidArray[71];
     }
 
     public static int getParamTaintTaintDroid72int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid72int;
+        return currentThread.paramTaintTaintDroidArray[72];
     }
 
     public static int getParamTaintTaintDroid73int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid73int;
+        return currentThread.paramTaintTaintDroidArray[73];
     }
 
     public static int getParamTaintTaintDroid74int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid74int;
+        return currentThread.paramTaintTaintDroidArray[74];
     }
 
     public static int getParamTaintTaintDroid75int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid75int;
+        return currentThread.paramTaintTaintDroidArray[75];
     }
 
     public static int getParamTaintTaintDroid76int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid76int;
+        return currentThread.paramTaintTaintDroidArray[76];
     }
 
     public static int getParamTaintTaintDroid77int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid77int;
+        return currentThread.paramTaintTaintDroidArray[77];
     }
 
     public static int getParamTaintTaintDroid78int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid78int;
+        return currentThread.paramTaintTaintDroidArray[78];
     }
 
     public static int getParamTaintTaintDroid79int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid79int;
+        return currentThread.paramTaintTaintDroidArray[79];
     }
 
     public static int getParamTaintTaintDroid80int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid80int;
+        return currentThread.paramTaintTaintDroidArray[80];
     }
 
     public static int getParamTaintTaintDroid81int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid81int;
+        return currentThread.paramTaintTaintDroidArray[81];
     }
 
     public static int getParamTaintTaintDroid82int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid82int;
+        return currentThread.paramTaintTaintDroidArray[82];
     }
 
     public static int getParamTaintTaintDroid83int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid83int;
+        return currentThread.paramTaintTaintDroidArray[83];
     }
 
     public static int getParamTaintTaintDroid84int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid84int;
+        return currentThread.paramTaintTaintDroidArray[84];
     }
 
     public static int getParamTaintTaintDroid85int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid85int;
+        return currentThread.paramTaintTaintDroidArray[85];
     }
 
     public static int getParamTaintTaintDroid86int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid86int;
+        return currentThread.paramTaintTaintDroidArray[86];
     }
 
     public static int getParamTaintTaintDroid87int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid87int;
+        return currentThread.paramTaintTaintDroidArray[87];
     }
 
     public static int getParamTaintTaintDroid88int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid88int;
+        return currentThread.paramTaintTaintDroidArray[88];
     }
 
     public static int getParamTaintTaintDroid89int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid89int;
+        return currentThread.paramTaintTaintDroidArray[89];
     }
 
     public static int getParamTaintTaintDroid90int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid90int;
+        return currentThread.paramTaintTaintDroidArray[90];
     }
 
     public static int getParamTaintTaintDroid91int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid91int;
+        return currentThread.paramTaintTaintDroidArray[91];
     }
 
     public static int getParamTaintTaintDroid92int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid92int;
+        return currentThread.paramTaintTaintDroidArray[92];
     }
 
     public static int getParamTaintTaintDroid93int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid93int;
+        return currentThread.paramTaintTaintDroidArray[93];
     }
 
     public static int getParamTaintTaintDroid94int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid94int;
+        return currentThread.paramTaintTaintDroidArray[94];
     }
 
     public static int getParamTaintTaintDroid95int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid95int;
+        return currentThread.paramTaintTaintDroidArray[95];
     }
 
     public static int getParamTaintTaintDroid96int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid96int;
+        return currentThread.paramTaintTaintDroidArray[96];
     }
 
     public static int getParamTaintTaintDroid97int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid97int;
+        return currentThread.paramTaintTaintDroidArray[97];
     }
 
     public static int getParamTaintTaintDroid98int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid98int;
+        return currentThread.paramTaintTaintDroidArray[98];
     }
 
     public static int getParamTaintTaintDroid99int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid99int;
+        return currentThread.paramTaintTaintDroidArray[99];
     }
 
     public static int getParamTaintTaintDroid100int(Thread currentThread) {
-        return currentThread.paramTaintTaintDroid100int;
+        return currentThread.paramTaintTaintDroidArray[100];
     }
 
     public static long getParamTaintTaintDroid0long() {
@@ -2838,7 +2582,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint0(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint0 = o;
+        currentThread.paramTaintArray[0] = o;
         // if (o != null) {
         //     synchronized (PathTaint.whereOpened) {
         //         if (PathTaint.whereOpened.size() < 2048) {
@@ -2852,7 +2596,7 @@ class Thread implements Runnable {
 
     public static void setParamTaint1(Thread currentThread, PathTaint o) {
         try {
-            currentThread.paramTaint1 = o;
+            currentThread.paramTaintArray[1] = o;
             // if (o != null) {
             //     synchronized (PathTaint.whereOpened) {
             //         if (PathTaint.whereOpened.size() < 2048) {
@@ -2869,7 +2613,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint2(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint2 = o;
+        currentThread.paramTaintArray[2] = o;
         // if (o != null) {
         //     synchronized (PathTaint.whereOpened) {
         //         if (PathTaint.whereOpened.size() < 2048) {
@@ -2882,7 +2626,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint3(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint3 = o;
+        currentThread.paramTaintArray[3] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint3 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2890,7 +2634,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint4(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint4 = o;
+        currentThread.paramTaintArray[4] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint4 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2898,7 +2642,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint5(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint5 = o;
+        currentThread.paramTaintArray[5] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint5 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2906,7 +2650,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint6(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint6 = o;
+        currentThread.paramTaintArray[6] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint6 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2914,7 +2658,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint7(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint7 = o;
+        currentThread.paramTaintArray[7] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint7 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2922,7 +2666,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint8(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint8 = o;
+        currentThread.paramTaintArray[8] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint8 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2930,7 +2674,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint9(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint9 = o;
+        currentThread.paramTaintArray[9] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint9 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2938,7 +2682,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint10(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint10 = o;
+        currentThread.paramTaintArray[10] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint10 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2946,7 +2690,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint11(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint11 = o;
+        currentThread.paramTaintArray[11] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint11 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2954,7 +2698,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint12(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint12 = o;
+        currentThread.paramTaintArray[12] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint12 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2962,7 +2706,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint13(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint13 = o;
+        currentThread.paramTaintArray[13] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint13 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2970,7 +2714,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint14(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint14 = o;
+        currentThread.paramTaintArray[14] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint14 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2978,7 +2722,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint15(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint15 = o;
+        currentThread.paramTaintArray[15] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint15 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2986,7 +2730,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint16(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint16 = o;
+        currentThread.paramTaintArray[16] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint16 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -2994,7 +2738,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint17(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint17 = o;
+        currentThread.paramTaintArray[17] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint17 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3002,7 +2746,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint18(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint18 = o;
+        currentThread.paramTaintArray[18] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint18 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3010,7 +2754,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint19(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint19 = o;
+        currentThread.paramTaintArray[19] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint19 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3018,7 +2762,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint20(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint20 = o;
+        currentThread.paramTaintArray[20] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint20 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3026,7 +2770,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint21(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint21 = o;
+        currentThread.paramTaintArray[21] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint21 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3034,7 +2778,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint22(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint22 = o;
+        currentThread.paramTaintArray[22] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint22 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3042,7 +2786,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint23(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint23 = o;
+        currentThread.paramTaintArray[23] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint23 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3050,7 +2794,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint24(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint24 = o;
+        currentThread.paramTaintArray[24] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint24 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3058,7 +2802,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint25(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint25 = o;
+        currentThread.paramTaintArray[25] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint25 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3066,7 +2810,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint26(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint26 = o;
+        currentThread.paramTaintArray[26] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint26 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3074,7 +2818,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint27(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint27 = o;
+        currentThread.paramTaintArray[27] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint27 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3082,7 +2826,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint28(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint28 = o;
+        currentThread.paramTaintArray[28] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint28 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3090,7 +2834,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint29(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint29 = o;
+        currentThread.paramTaintArray[29] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint29 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3098,7 +2842,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint30(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint30 = o;
+        currentThread.paramTaintArray[30] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint30 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3106,7 +2850,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint31(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint31 = o;
+        currentThread.paramTaintArray[31] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint31 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3114,7 +2858,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint32(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint32 = o;
+        currentThread.paramTaintArray[32] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint32 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3122,7 +2866,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint33(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint33 = o;
+        currentThread.paramTaintArray[33] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint33 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3130,7 +2874,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint34(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint34 = o;
+        currentThread.paramTaintArray[34] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint34 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3138,7 +2882,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint35(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint35 = o;
+        currentThread.paramTaintArray[35] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint35 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3146,7 +2890,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint36(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint36 = o;
+        currentThread.paramTaintArray[36] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint36 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3154,7 +2898,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint37(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint37 = o;
+        currentThread.paramTaintArray[37] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint37 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3162,7 +2906,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint38(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint38 = o;
+        currentThread.paramTaintArray[38] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint38 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3170,7 +2914,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint39(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint39 = o;
+        currentThread.paramTaintArray[39] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint39 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3178,7 +2922,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint40(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint40 = o;
+        currentThread.paramTaintArray[40] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint40 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3186,7 +2930,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint41(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint41 = o;
+        currentThread.paramTaintArray[41] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint41 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3194,7 +2938,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint42(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint42 = o;
+        currentThread.paramTaintArray[42] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint42 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3202,7 +2946,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint43(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint43 = o;
+        currentThread.paramTaintArray[43] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint43 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3210,7 +2954,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint44(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint44 = o;
+        currentThread.paramTaintArray[44] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint44 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3218,7 +2962,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint45(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint45 = o;
+        currentThread.paramTaintArray[45] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint45 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3226,7 +2970,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint46(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint46 = o;
+        currentThread.paramTaintArray[46] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint46 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3234,7 +2978,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint47(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint47 = o;
+        currentThread.paramTaintArray[47] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint47 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3242,7 +2986,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint48(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint48 = o;
+        currentThread.paramTaintArray[48] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint48 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3250,7 +2994,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint49(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint49 = o;
+        currentThread.paramTaintArray[49] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint49 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3258,7 +3002,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint50(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint50 = o;
+        currentThread.paramTaintArray[50] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint50 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3266,7 +3010,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint51(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint51 = o;
+        currentThread.paramTaintArray[51] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint51 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3274,7 +3018,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint52(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint52 = o;
+        currentThread.paramTaintArray[52] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint52 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3282,7 +3026,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint53(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint53 = o;
+        currentThread.paramTaintArray[53] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint53 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3290,7 +3034,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint54(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint54 = o;
+        currentThread.paramTaintArray[54] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint54 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3298,7 +3042,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint55(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint55 = o;
+        currentThread.paramTaintArray[55] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint55 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3306,7 +3050,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint56(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint56 = o;
+        currentThread.paramTaintArray[56] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint56 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3314,7 +3058,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint57(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint57 = o;
+        currentThread.paramTaintArray[57] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint57 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3322,7 +3066,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint58(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint58 = o;
+        currentThread.paramTaintArray[58] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint58 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3330,7 +3074,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint59(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint59 = o;
+        currentThread.paramTaintArray[59] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint59 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3338,7 +3082,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint60(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint60 = o;
+        currentThread.paramTaintArray[60] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint60 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3346,7 +3090,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint61(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint61 = o;
+        currentThread.paramTaintArray[61] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint61 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3354,7 +3098,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint62(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint62 = o;
+        currentThread.paramTaintArray[62] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint62 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3362,7 +3106,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint63(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint63 = o;
+        currentThread.paramTaintArray[63] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint63 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3370,7 +3114,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint64(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint64 = o;
+        currentThread.paramTaintArray[64] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint64 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3378,7 +3122,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint65(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint65 = o;
+        currentThread.paramTaintArray[65] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint65 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3386,7 +3130,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint66(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint66 = o;
+        currentThread.paramTaintArray[66] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint66 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3394,7 +3138,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint67(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint67 = o;
+        currentThread.paramTaintArray[67] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint67 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3402,7 +3146,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint68(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint68 = o;
+        currentThread.paramTaintArray[68] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint68 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3410,7 +3154,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint69(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint69 = o;
+        currentThread.paramTaintArray[69] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint69 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3418,7 +3162,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint70(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint70 = o;
+        currentThread.paramTaintArray[70] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint70 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3426,7 +3170,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint71(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint71 = o;
+        currentThread.paramTaintArray[71] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint71 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3434,7 +3178,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint72(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint72 = o;
+        currentThread.paramTaintArray[72] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint72 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3442,7 +3186,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint73(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint73 = o;
+        currentThread.paramTaintArray[73] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint73 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3450,7 +3194,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint74(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint74 = o;
+        currentThread.paramTaintArray[74] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint74 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3458,7 +3202,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint75(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint75 = o;
+        currentThread.paramTaintArray[75] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint75 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3466,7 +3210,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint76(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint76 = o;
+        currentThread.paramTaintArray[76] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint76 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3474,7 +3218,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint77(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint77 = o;
+        currentThread.paramTaintArray[77] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint77 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3482,7 +3226,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint78(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint78 = o;
+        currentThread.paramTaintArray[78] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint78 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3490,7 +3234,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint79(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint79 = o;
+        currentThread.paramTaintArray[79] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint79 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3498,7 +3242,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint80(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint80 = o;
+        currentThread.paramTaintArray[80] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint80 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3506,7 +3250,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint81(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint81 = o;
+        currentThread.paramTaintArray[81] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint81 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3514,7 +3258,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint82(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint82 = o;
+        currentThread.paramTaintArray[82] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint82 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3522,7 +3266,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint83(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint83 = o;
+        currentThread.paramTaintArray[83] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint83 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3530,7 +3274,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint84(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint84 = o;
+        currentThread.paramTaintArray[84] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint84 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3538,7 +3282,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint85(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint85 = o;
+        currentThread.paramTaintArray[85] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint85 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3546,7 +3290,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint86(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint86 = o;
+        currentThread.paramTaintArray[86] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint86 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3554,7 +3298,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint87(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint87 = o;
+        currentThread.paramTaintArray[87] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint87 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3562,7 +3306,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint88(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint88 = o;
+        currentThread.paramTaintArray[88] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint88 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3570,7 +3314,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint89(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint89 = o;
+        currentThread.paramTaintArray[89] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint89 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3578,7 +3322,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint90(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint90 = o;
+        currentThread.paramTaintArray[90] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint90 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3586,7 +3330,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint91(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint91 = o;
+        currentThread.paramTaintArray[91] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint91 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3594,7 +3338,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint92(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint92 = o;
+        currentThread.paramTaintArray[92] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint92 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3602,7 +3346,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint93(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint93 = o;
+        currentThread.paramTaintArray[93] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint93 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3610,7 +3354,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint94(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint94 = o;
+        currentThread.paramTaintArray[94] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint94 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3618,7 +3362,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint95(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint95 = o;
+        currentThread.paramTaintArray[95] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint95 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3626,7 +3370,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint96(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint96 = o;
+        currentThread.paramTaintArray[96] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint96 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3634,7 +3378,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint97(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint97 = o;
+        currentThread.paramTaintArray[97] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint97 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3642,7 +3386,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint98(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint98 = o;
+        currentThread.paramTaintArray[98] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint98 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3650,7 +3394,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint99(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint99 = o;
+        currentThread.paramTaintArray[99] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint99 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3658,7 +3402,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint100(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint100 = o;
+        currentThread.paramTaintArray[100] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint100 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3666,7 +3410,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint101(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint101 = o;
+        currentThread.paramTaintArray[101] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint101 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3674,7 +3418,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint102(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint102 = o;
+        currentThread.paramTaintArray[102] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint102 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3682,7 +3426,7 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint103(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint103 = o;
+        currentThread.paramTaintArray[103] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint103 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3690,119 +3434,119 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint104(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint104 = o;
+        currentThread.paramTaintArray[104] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint104 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint105(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint105 = o;
+        currentThread.paramTaintArray[105] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint105 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint106(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint106 = o;
+        currentThread.paramTaintArray[106] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint106 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint107(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint107 = o;
+        currentThread.paramTaintArray[107] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint107 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint108(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint108 = o;
+        currentThread.paramTaintArray[108] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint108 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint109(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint109 = o;
+        currentThread.paramTaintArray[109] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint109 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint110(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint110 = o;
+        currentThread.paramTaintArray[110] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint110 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint111(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint111 = o;
+        currentThread.paramTaintArray[111] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint111 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint112(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint112 = o;
+        currentThread.paramTaintArray[112] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint112 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint113(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint113 = o;
+        currentThread.paramTaintArray[113] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint113 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint114(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint114 = o;
+        currentThread.paramTaintArray[114] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint114 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint115(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint115 = o;
+        currentThread.paramTaintArray[115] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint115 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint116(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint116 = o;
+        currentThread.paramTaintArray[116] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint116 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint117(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint117 = o;
+        currentThread.paramTaintArray[117] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint117 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint118(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint118 = o;
+        currentThread.paramTaintArray[118] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint118 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint119(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint119 = o;
+        currentThread.paramTaintArray[119] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint119 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
         // }
     }
     public static void setParamTaint120(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint120 = o;
+        currentThread.paramTaintArray[120] = o;
         // if (o != null) {
         //     StackTraceElement ste = Thread.currentThread().getStackTrace()[3];
         //     System.out.format("PathTaint: in method %s->%s(%s), setParamTaint120 from %s%n", ste.getClassName(), ste.getMethodName(), ste.getLineNumber(), o);
@@ -3810,527 +3554,527 @@ class Thread implements Runnable {
     }
 
     public static void setParamTaint121(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint121 = o;
+        currentThread.paramTaintArray[121] = o;
     }
     public static void setParamTaint122(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint122 = o;
+        currentThread.paramTaintArray[122] = o;
     }
     public static void setParamTaint123(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint123 = o;
+        currentThread.paramTaintArray[123] = o;
     }
     public static void setParamTaint124(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint124 = o;
+        currentThread.paramTaintArray[124] = o;
     }
     public static void setParamTaint125(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint125 = o;
+        currentThread.paramTaintArray[125] = o;
     }
     public static void setParamTaint126(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint126 = o;
+        currentThread.paramTaintArray[126] = o;
     }
     public static void setParamTaint127(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint127 = o;
+        currentThread.paramTaintArray[127] = o;
     }
     public static void setParamTaint128(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint128 = o;
+        currentThread.paramTaintArray[128] = o;
     }
     public static void setParamTaint129(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint129 = o;
+        currentThread.paramTaintArray[129] = o;
     }
     public static void setParamTaint130(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint130 = o;
+        currentThread.paramTaintArray[130] = o;
     }
     public static void setParamTaint131(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint131 = o;
+        currentThread.paramTaintArray[131] = o;
     }
     public static void setParamTaint132(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint132 = o;
+        currentThread.paramTaintArray[132] = o;
     }
     public static void setParamTaint133(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint133 = o;
+        currentThread.paramTaintArray[133] = o;
     }
     public static void setParamTaint134(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint134 = o;
+        currentThread.paramTaintArray[134] = o;
     }
     public static void setParamTaint135(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint135 = o;
+        currentThread.paramTaintArray[135] = o;
     }
     public static void setParamTaint136(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint136 = o;
+        currentThread.paramTaintArray[136] = o;
     }
     public static void setParamTaint137(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint137 = o;
+        currentThread.paramTaintArray[137] = o;
     }
     public static void setParamTaint138(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint138 = o;
+        currentThread.paramTaintArray[138] = o;
     }
     public static void setParamTaint139(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint139 = o;
+        currentThread.paramTaintArray[139] = o;
     }
     public static void setParamTaint140(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint140 = o;
+        currentThread.paramTaintArray[140] = o;
     }
     public static void setParamTaint141(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint141 = o;
+        currentThread.paramTaintArray[141] = o;
     }
     public static void setParamTaint142(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint142 = o;
+        currentThread.paramTaintArray[142] = o;
     }
     public static void setParamTaint143(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint143 = o;
+        currentThread.paramTaintArray[143] = o;
     }
     public static void setParamTaint144(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint144 = o;
+        currentThread.paramTaintArray[144] = o;
     }
     public static void setParamTaint145(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint145 = o;
+        currentThread.paramTaintArray[145] = o;
     }
     public static void setParamTaint146(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint146 = o;
+        currentThread.paramTaintArray[146] = o;
     }
     public static void setParamTaint147(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint147 = o;
+        currentThread.paramTaintArray[147] = o;
     }
     public static void setParamTaint148(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint148 = o;
+        currentThread.paramTaintArray[148] = o;
     }
     public static void setParamTaint149(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint149 = o;
+        currentThread.paramTaintArray[149] = o;
     }
     public static void setParamTaint150(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint150 = o;
+        currentThread.paramTaintArray[150] = o;
     }
     public static void setParamTaint151(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint151 = o;
+        currentThread.paramTaintArray[151] = o;
     }
     public static void setParamTaint152(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint152 = o;
+        currentThread.paramTaintArray[152] = o;
     }
     public static void setParamTaint153(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint153 = o;
+        currentThread.paramTaintArray[153] = o;
     }
     public static void setParamTaint154(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint154 = o;
+        currentThread.paramTaintArray[154] = o;
     }
     public static void setParamTaint155(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint155 = o;
+        currentThread.paramTaintArray[155] = o;
     }
     public static void setParamTaint156(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint156 = o;
+        currentThread.paramTaintArray[156] = o;
     }
     public static void setParamTaint157(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint157 = o;
+        currentThread.paramTaintArray[157] = o;
     }
     public static void setParamTaint158(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint158 = o;
+        currentThread.paramTaintArray[158] = o;
     }
     public static void setParamTaint159(Thread currentThread, PathTaint o) {
-        currentThread.paramTaint159 = o;
+        currentThread.paramTaintArray[159] = o;
     }
 
 
 
     public static void setParamTaintTaintDroid0int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid0int = val;
+        currentThread.paramTaintTaintDroidArray[0] = val;
     }
 
     public static void setParamTaintTaintDroid1int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid1int = val;
+        currentThread.paramTaintTaintDroidArray[1] = val;
     }
 
     public static void setParamTaintTaintDroid2int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid2int = val;
+        currentThread.paramTaintTaintDroidArray[2] = val;
     }
 
     public static void setParamTaintTaintDroid3int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid3int = val;
+        currentThread.paramTaintTaintDroidArray[3] = val;
     }
 
     public static void setParamTaintTaintDroid4int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid4int = val;
+        currentThread.paramTaintTaintDroidArray[4] = val;
     }
 
     public static void setParamTaintTaintDroid5int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid5int = val;
+        currentThread.paramTaintTaintDroidArray[5] = val;
     }
 
     public static void setParamTaintTaintDroid6int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid6int = val;
+        currentThread.paramTaintTaintDroidArray[6] = val;
     }
 
     public static void setParamTaintTaintDroid7int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid7int = val;
+        currentThread.paramTaintTaintDroidArray[7] = val;
     }
 
     public static void setParamTaintTaintDroid8int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid8int = val;
+        currentThread.paramTaintTaintDroidArray[8] = val;
     }
 
     public static void setParamTaintTaintDroid9int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid9int = val;
+        currentThread.paramTaintTaintDroidArray[9] = val;
     }
 
     public static void setParamTaintTaintDroid10int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid10int = val;
+        currentThread.paramTaintTaintDroidArray[10] = val;
     }
 
     public static void setParamTaintTaintDroid11int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid11int = val;
+        currentThread.paramTaintTaintDroidArray[11] = val;
     }
 
     public static void setParamTaintTaintDroid12int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid12int = val;
+        currentThread.paramTaintTaintDroidArray[12] = val;
     }
 
     public static void setParamTaintTaintDroid13int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid13int = val;
+        currentThread.paramTaintTaintDroidArray[13] = val;
     }
 
     public static void setParamTaintTaintDroid14int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid14int = val;
+        currentThread.paramTaintTaintDroidArray[14] = val;
     }
 
     public static void setParamTaintTaintDroid15int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid15int = val;
+        currentThread.paramTaintTaintDroidArray[15] = val;
     }
 
     public static void setParamTaintTaintDroid16int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid16int = val;
+        currentThread.paramTaintTaintDroidArray[16] = val;
     }
 
     public static void setParamTaintTaintDroid17int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid17int = val;
+        currentThread.paramTaintTaintDroidArray[17] = val;
     }
 
     public static void setParamTaintTaintDroid18int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid18int = val;
+        currentThread.paramTaintTaintDroidArray[18] = val;
     }
 
     public static void setParamTaintTaintDroid19int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid19int = val;
+        currentThread.paramTaintTaintDroidArray[19] = val;
     }
 
     public static void setParamTaintTaintDroid20int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid20int = val;
+        currentThread.paramTaintTaintDroidArray[20] = val;
     }
 
     public static void setParamTaintTaintDroid21int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid21int = val;
+        currentThread.paramTaintTaintDroidArray[21] = val;
     }
 
     public static void setParamTaintTaintDroid22int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid22int = val;
+        currentThread.paramTaintTaintDroidArray[22] = val;
     }
 
     public static void setParamTaintTaintDroid23int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid23int = val;
+        currentThread.paramTaintTaintDroidArray[23] = val;
     }
 
     public static void setParamTaintTaintDroid24int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid24int = val;
+        currentThread.paramTaintTaintDroidArray[24] = val;
     }
 
     public static void setParamTaintTaintDroid25int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid25int = val;
+        currentThread.paramTaintTaintDroidArray[25] = val;
     }
 
     public static void setParamTaintTaintDroid26int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid26int = val;
+        currentThread.paramTaintTaintDroidArray[26] = val;
     }
 
     public static void setParamTaintTaintDroid27int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid27int = val;
+        currentThread.paramTaintTaintDroidArray[27] = val;
     }
 
     public static void setParamTaintTaintDroid28int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid28int = val;
+        currentThread.paramTaintTaintDroidArray[28] = val;
     }
 
     public static void setParamTaintTaintDroid29int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid29int = val;
+        currentThread.paramTaintTaintDroidArray[29] = val;
     }
 
     public static void setParamTaintTaintDroid30int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid30int = val;
+        currentThread.paramTaintTaintDroidArray[30] = val;
     }
 
     public static void setParamTaintTaintDroid31int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid31int = val;
+        currentThread.paramTaintTaintDroidArray[31] = val;
     }
 
     public static void setParamTaintTaintDroid32int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid32int = val;
+        currentThread.paramTaintTaintDroidArray[32] = val;
     }
 
     public static void setParamTaintTaintDroid33int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid33int = val;
+        currentThread.paramTaintTaintDroidArray[33] = val;
     }
 
     public static void setParamTaintTaintDroid34int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid34int = val;
+        currentThread.paramTaintTaintDroidArray[34] = val;
     }
 
     public static void setParamTaintTaintDroid35int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid35int = val;
+        currentThread.paramTaintTaintDroidArray[35] = val;
     }
 
     public static void setParamTaintTaintDroid36int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid36int = val;
+        currentThread.paramTaintTaintDroidArray[36] = val;
     }
 
     public static void setParamTaintTaintDroid37int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid37int = val;
+        currentThread.paramTaintTaintDroidArray[37] = val;
     }
 
     public static void setParamTaintTaintDroid38int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid38int = val;
+        currentThread.paramTaintTaintDroidArray[38] = val;
     }
 
     public static void setParamTaintTaintDroid39int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid39int = val;
+        currentThread.paramTaintTaintDroidArray[39] = val;
     }
 
     public static void setParamTaintTaintDroid40int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid40int = val;
+        currentThread.paramTaintTaintDroidArray[40] = val;
     }
 
     public static void setParamTaintTaintDroid41int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid41int = val;
+        currentThread.paramTaintTaintDroidArray[41] = val;
     }
 
     public static void setParamTaintTaintDroid42int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid42int = val;
+        currentThread.paramTaintTaintDroidArray[42] = val;
     }
 
     public static void setParamTaintTaintDroid43int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid43int = val;
+        currentThread.paramTaintTaintDroidArray[43] = val;
     }
 
     public static void setParamTaintTaintDroid44int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid44int = val;
+        currentThread.paramTaintTaintDroidArray[44] = val;
     }
 
     public static void setParamTaintTaintDroid45int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid45int = val;
+        currentThread.paramTaintTaintDroidArray[45] = val;
     }
 
     public static void setParamTaintTaintDroid46int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid46int = val;
+        currentThread.paramTaintTaintDroidArray[46] = val;
     }
 
     public static void setParamTaintTaintDroid47int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid47int = val;
+        currentThread.paramTaintTaintDroidArray[47] = val;
     }
 
     public static void setParamTaintTaintDroid48int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid48int = val;
+        currentThread.paramTaintTaintDroidArray[48] = val;
     }
 
     public static void setParamTaintTaintDroid49int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid49int = val;
+        currentThread.paramTaintTaintDroidArray[49] = val;
     }
 
     public static void setParamTaintTaintDroid50int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid50int = val;
+        currentThread.paramTaintTaintDroidArray[50] = val;
     }
 
     public static void setParamTaintTaintDroid51int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid51int = val;
+        currentThread.paramTaintTaintDroidArray[51] = val;
     }
 
     public static void setParamTaintTaintDroid52int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid52int = val;
+        currentThread.paramTaintTaintDroidArray[52] = val;
     }
 
     public static void setParamTaintTaintDroid53int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid53int = val;
+        currentThread.paramTaintTaintDroidArray[53] = val;
     }
 
     public static void setParamTaintTaintDroid54int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid54int = val;
+        currentThread.paramTaintTaintDroidArray[54] = val;
     }
 
     public static void setParamTaintTaintDroid55int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid55int = val;
+        currentThread.paramTaintTaintDroidArray[55] = val;
     }
 
     public static void setParamTaintTaintDroid56int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid56int = val;
+        currentThread.paramTaintTaintDroidArray[56] = val;
     }
 
     public static void setParamTaintTaintDroid57int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid57int = val;
+        currentThread.paramTaintTaintDroidArray[57] = val;
     }
 
     public static void setParamTaintTaintDroid58int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid58int = val;
+        currentThread.paramTaintTaintDroidArray[58] = val;
     }
 
     public static void setParamTaintTaintDroid59int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid59int = val;
+        currentThread.paramTaintTaintDroidArray[59] = val;
     }
 
     public static void setParamTaintTaintDroid60int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid60int = val;
+        currentThread.paramTaintTaintDroidArray[60] = val;
     }
 
     public static void setParamTaintTaintDroid61int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid61int = val;
+        currentThread.paramTaintTaintDroidArray[61] = val;
     }
 
     public static void setParamTaintTaintDroid62int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid62int = val;
+        currentThread.paramTaintTaintDroidArray[62] = val;
     }
 
     public static void setParamTaintTaintDroid63int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid63int = val;
+        currentThread.paramTaintTaintDroidArray[63] = val;
     }
 
     public static void setParamTaintTaintDroid64int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid64int = val;
+        currentThread.paramTaintTaintDroidArray[64] = val;
     }
 
     public static void setParamTaintTaintDroid65int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid65int = val;
+        currentThread.paramTaintTaintDroidArray[65] = val;
     }
 
     public static void setParamTaintTaintDroid66int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid66int = val;
+        currentThread.paramTaintTaintDroidArray[66] = val;
     }
 
     public static void setParamTaintTaintDroid67int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid67int = val;
+        currentThread.paramTaintTaintDroidArray[67] = val;
     }
 
     public static void setParamTaintTaintDroid68int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid68int = val;
+        currentThread.paramTaintTaintDroidArray[68] = val;
     }
 
     public static void setParamTaintTaintDroid69int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid69int = val;
+        currentThread.paramTaintTaintDroidArray[69] = val;
     }
 
     public static void setParamTaintTaintDroid70int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid70int = val;
+        currentThread.paramTaintTaintDroidArray[70] = val;
     }
 
     public static void setParamTaintTaintDroid71int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid71int = val;
+        currentThread.paramTaintTaintDroidArray[71] = val;
     }
 
     public static void setParamTaintTaintDroid72int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid72int = val;
+        currentThread.paramTaintTaintDroidArray[72] = val;
     }
 
     public static void setParamTaintTaintDroid73int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid73int = val;
+        currentThread.paramTaintTaintDroidArray[73] = val;
     }
 
     public static void setParamTaintTaintDroid74int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid74int = val;
+        currentThread.paramTaintTaintDroidArray[74] = val;
     }
 
     public static void setParamTaintTaintDroid75int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid75int = val;
+        currentThread.paramTaintTaintDroidArray[75] = val;
     }
 
     public static void setParamTaintTaintDroid76int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid76int = val;
+        currentThread.paramTaintTaintDroidArray[76] = val;
     }
 
     public static void setParamTaintTaintDroid77int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid77int = val;
+        currentThread.paramTaintTaintDroidArray[77] = val;
     }
 
     public static void setParamTaintTaintDroid78int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid78int = val;
+        currentThread.paramTaintTaintDroidArray[78] = val;
     }
 
     public static void setParamTaintTaintDroid79int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid79int = val;
+        currentThread.paramTaintTaintDroidArray[79] = val;
     }
 
     public static void setParamTaintTaintDroid80int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid80int = val;
+        currentThread.paramTaintTaintDroidArray[80] = val;
     }
 
     public static void setParamTaintTaintDroid81int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid81int = val;
+        currentThread.paramTaintTaintDroidArray[81] = val;
     }
 
     public static void setParamTaintTaintDroid82int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid82int = val;
+        currentThread.paramTaintTaintDroidArray[82] = val;
     }
 
     public static void setParamTaintTaintDroid83int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid83int = val;
+        currentThread.paramTaintTaintDroidArray[83] = val;
     }
 
     public static void setParamTaintTaintDroid84int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid84int = val;
+        currentThread.paramTaintTaintDroidArray[84] = val;
     }
 
     public static void setParamTaintTaintDroid85int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid85int = val;
+        currentThread.paramTaintTaintDroidArray[85] = val;
     }
 
     public static void setParamTaintTaintDroid86int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid86int = val;
+        currentThread.paramTaintTaintDroidArray[86] = val;
     }
 
     public static void setParamTaintTaintDroid87int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid87int = val;
+        currentThread.paramTaintTaintDroidArray[87] = val;
     }
 
     public static void setParamTaintTaintDroid88int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid88int = val;
+        currentThread.paramTaintTaintDroidArray[88] = val;
     }
 
     public static void setParamTaintTaintDroid89int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid89int = val;
+        currentThread.paramTaintTaintDroidArray[89] = val;
     }
 
     public static void setParamTaintTaintDroid90int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid90int = val;
+        currentThread.paramTaintTaintDroidArray[90] = val;
     }
 
     public static void setParamTaintTaintDroid91int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid91int = val;
+        currentThread.paramTaintTaintDroidArray[91] = val;
     }
 
     public static void setParamTaintTaintDroid92int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid92int = val;
+        currentThread.paramTaintTaintDroidArray[92] = val;
     }
 
     public static void setParamTaintTaintDroid93int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid93int = val;
+        currentThread.paramTaintTaintDroidArray[93] = val;
     }
 
     public static void setParamTaintTaintDroid94int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid94int = val;
+        currentThread.paramTaintTaintDroidArray[94] = val;
     }
 
     public static void setParamTaintTaintDroid95int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid95int = val;
+        currentThread.paramTaintTaintDroidArray[95] = val;
     }
 
     public static void setParamTaintTaintDroid96int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid96int = val;
+        currentThread.paramTaintTaintDroidArray[96] = val;
     }
 
     public static void setParamTaintTaintDroid97int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid97int = val;
+        currentThread.paramTaintTaintDroidArray[97] = val;
     }
 
     public static void setParamTaintTaintDroid98int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid98int = val;
+        currentThread.paramTaintTaintDroidArray[98] = val;
     }
 
     public static void setParamTaintTaintDroid99int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid99int = val;
+        currentThread.paramTaintTaintDroidArray[99] = val;
     }
 
     public static void setParamTaintTaintDroid100int(Thread currentThread, int val) {
-        currentThread.paramTaintTaintDroid100int = val;
+        currentThread.paramTaintTaintDroidArray[100] = val;
     }
 
 
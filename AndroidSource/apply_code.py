@@ -17,4 +17,5 @@ os.system(f"cp SharedPreferencesImpl.java {android_src_folder}/frameworks/base/c
 os.system(f"cp SharedPreferences.java {android_src_folder}/frameworks/base/core/java/android/content/SharedPreferences.java")
 os.system(f"cp Socket.java {android_src_folder}/libcore/ojluni/src/main/java/java/net/Socket.java")
 os.system(f"cp TaintDroid.java {android_src_folder}/libcore/ojluni/src/main/java/java/lang/TaintDroid.java")
+os.system(f"cp PathTaintArena.java {android_src_folder}/libcore/ojluni/src/main/java/java/lang/PathTaintArena.java")
 os.system(f"cp Thread.java {android_src_folder}/libcore/ojluni/src/main/java/java/lang/Thread.java")
\ No newline at end of file
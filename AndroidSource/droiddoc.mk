@@ -115,6 +115,7 @@ $(hide) mkdir -p $(dir $(1))
 $(call dump-words-to-file, $(2), $(1))
 @echo "frameworks/base/../../libcore/ojluni/src/main/java/java/lang/PathTaint.java" >> $(1)
 @echo "frameworks/base/../../libcore/ojluni/src/main/java/java/lang/TaintDroid.java" >> $(1)
+@echo "frameworks/base/../../libcore/ojluni/src/main/java/java/lang/PathTaintArena.java" >> $(1)
 $(hide) for d in $(3) ; do find $$d -name '*.java' -and -not -name '.*' >> $(1) 2> /dev/null ; done ; true
 @echo Khaled, dump-words-to-file
 cat $(1)
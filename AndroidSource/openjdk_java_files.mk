@@ -1755,6 +1755,7 @@ openjdk_java_files := \
     ojluni/src/main/java/sun/util/resources/OpenListResourceBundle.java \
     ojluni/src/main/java/java/lang/PathTaint.java \
     ojluni/src/main/java/java/lang/TaintDroid.java \
+    ojluni/src/main/java/java/lang/PathTaintArena.java \
     $(openjdk_javadoc_files) \
     $(openjdk_lambda_stub_files)
 
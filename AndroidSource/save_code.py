@@ -17,4 +17,5 @@ os.system(f"cp {android_src_folder}/frameworks/base/core/java/android/app/Shared
 os.system(f"cp {android_src_folder}/frameworks/base/core/java/android/content/SharedPreferences.java SharedPreferences.java")
 os.system(f"cp {android_src_folder}/libcore/ojluni/src/main/java/java/net/Socket.java Socket.java")
 os.system(f"cp {android_src_folder}/libcore/ojluni/src/main/java/java/lang/TaintDroid.java TaintDroid.java")
+os.system(f"cp {android_src_folder}/libcore/ojluni/src/main/java/java/lang/PathTaintArena.java PathTaintArena.java")
 os.system(f"cp {android_src_folder}/libcore/ojluni/src/main/java/java/lang/Thread.java Thread.java")
\ No newline at end of file
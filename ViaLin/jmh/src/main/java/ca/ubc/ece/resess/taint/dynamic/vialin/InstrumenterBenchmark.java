@@ -0,0 +1,247 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+
+import org.jf.baksmali.BaksmaliOptions;
+import org.jf.dexlib2.DexFileFactory;
+import org.jf.dexlib2.Opcodes;
+import org.jf.dexlib2.dexbacked.DexBackedDexFile;
+import org.jf.dexlib2.iface.MultiDexContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hot paths of the instrumenter on the classes of an app, disassembled once per trial. By default
+ * the trials run on the GPBench app and on two DroidICCBench apps, one trial per app, so the
+ * scores of a real app can be told apart from those of the small test apps.
+ * Each operation handles the next class, call or line of the app, going round the app, so the
+ * scores are classes, calls or lines per second. Run with {@code -prof gc} to get the allocation per operation.
+ * getClassOfMethod goes round the distinct called methods without the lookup caches, so it measures the resolution.
+ *
+ * <p>The paths are relative to {@link #repo}, the root of the repository, which is two levels up
+ * when the benchmarks are run from {@code ViaLin/jmh}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xss16M", "-Xmx4G"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InstrumenterBenchmark {
+
+    @Param({"../.."})
+    public String repo;
+
+    @Param({
+        "evaluation_package/GPBench/apps/1.com.echangecadeaux.apk",
+        "evaluation_package/DroidICCBench/apps/DynamicLoading/DynamicSource1/app/release/app-release.apk",
+        "evaluation_package/DroidICCBench/apps/Callbacks/MultiHandlers1/Callbacks_MultiHandlers1/release/Callbacks_MultiHandlers1-release.apk"
+    })
+    public String apk;
+
+    // Empty for no framework analysis, in which case calls to the framework resolve to the class they name
+    @Param({""})
+    public String frameworkAnalysisDir;
+
+    @Param({"evaluation_package/GPBench/config/source_full_list.txt"})
+    public String sourceFile;
+
+    @Param({"evaluation_package/GPBench/config/sinks_full_list.txt"})
+    public String sinkFile;
+
+    private Path outDir;
+    private SmaliStore smaliStore;
+    private ClassAnalysis classAnalysis;
+    // The same analysis without the lookup caches, so that getClassOfMethod resolves every call
+    private ClassAnalysis uncachedClassAnalysis;
+    private ClassTaint classTaint;
+    private TransformConds transformConds;
+
+    private final List<String> classFiles = new ArrayList<>();
+    private final Map<String, List<String>> originalLines = new HashMap<>();
+    private final Map<String, List<String>> instrumentedLines = new HashMap<>();
+    private final List<String[]> calledMethods = new ArrayList<>();
+    private final List<String[]> distinctCalledMethods = new ArrayList<>();
+    private final List<String> modeledSignatures = new ArrayList<>();
+    private final List<Boolean> modeledIsStatic = new ArrayList<>();
+    private final List<String> invokeLines = new ArrayList<>();
+    private final List<Integer> invokeTempRegs = new ArrayList<>();
+    private final List<String> paramLines = new ArrayList<>();
+    private final InstrumentationContext paramContext = new InstrumentationContext();
+
+    private int nextClass = 0;
+    private int nextTransformedClass = 0;
+    private int nextCall = 0;
+    private int nextModel = 0;
+    private int nextInvoke = 0;
+    private int nextParamLine = 0;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path root = Paths.get(repo);
+        outDir = Files.createTempDirectory("vialin-jmh");
+        String frameworkDir = frameworkAnalysisDir.isEmpty() ? null : root.resolve(frameworkAnalysisDir).toString();
+
+        MethodModel.setMethodModelsPath(root.resolve("methodSummaries").toString());
+        TaintSource.loadSources(root.resolve(sourceFile).toString());
+        TaintSink.loadSinks(root.resolve(sinkFile).toString());
+
+        smaliStore = new SmaliStore(Long.MAX_VALUE);
+        List<String> smaliFiles = new ArrayList<>();
+        MultiDexContainer<? extends DexBackedDexFile> container = DexFileFactory.loadDexContainer(root.resolve(apk).toFile(), Opcodes.forApi(27));
+        int i = 0;
+        for (String entryName : container.getDexEntryNames()) {
+            DexBackedDexFile dexFile = container.getEntry(entryName).getDexFile();
+            BaksmaliOptions options = new BaksmaliOptions();
+            options.debugInfo = true;
+            options.apiLevel = dexFile.getOpcodes().api;
+            smaliFiles.addAll(smaliStore.disassembleDexFile(dexFile, new File(outDir.toFile(), "dex" + i++), 1, options));
+        }
+
+        classAnalysis = new ClassAnalysis(frameworkDir, outDir.toString());
+        classAnalysis.setSmaliStore(smaliStore);
+        classAnalysis.analyze(smaliFiles);
+        uncachedClassAnalysis = new ClassAnalysis(frameworkDir, Files.createDirectories(outDir.resolve("uncached")).toString());
+        uncachedClassAnalysis.setSmaliStore(smaliStore);
+        uncachedClassAnalysis.analyze(smaliFiles);
+        uncachedClassAnalysis.setCacheLookups(false);
+
+        classTaint = new ClassTaint(new ViaLinTool(), smaliFiles, classAnalysis, false, outDir.toString(), 1);
+        classTaint.setSmaliStore(smaliStore);
+        transformConds = new TransformConds(smaliFiles, null, null);
+        transformConds.setSmaliStore(smaliStore);
+
+        for (String file : smaliFiles) {
+            List<String> lines = new ArrayList<>(smaliStore.readLines(file));
+            // The classes addTaintToClassFile leaves as they are
+            String className = TaintAnalysis.getLastToken(lines.get(0));
+            if (TaintAnalysis.forbiddenClasses.contains(className) || classTaint.isIgnoredClass(className)) {
+                continue;
+            }
+            classFiles.add(file);
+            originalLines.put(file, lines);
+            collectLines(lines);
+        }
+        Set<String> calledSignatures = new LinkedHashSet<>();
+        for (String[] calledMethod : calledMethods) {
+            if (calledSignatures.add(calledMethod[0] + "->" + calledMethod[1])) {
+                distinctCalledMethods.add(calledMethod);
+            }
+        }
+        for (String[] calledMethod : calledMethods) {
+            for (String foundClass : classAnalysis.getClassOfMethod(calledMethod[0], calledMethod[1])) {
+                modeledSignatures.add(foundClass + "->" + calledMethod[1]);
+                modeledIsStatic.add(calledMethod[2] != null);
+            }
+        }
+        // As if the parameters were moved past the locals and taint registers of a large method
+        for (int p = 0; p < 256; p++) {
+            paramContext.newParams.put(p, 256 + p);
+        }
+
+        // The conditions are transformed after the instrumentation
+        for (String file : classFiles) {
+            classTaint.addTaintToClassFile(file);
+            instrumentedLines.put(file, new ArrayList<>(smaliStore.readLines(file)));
+        }
+        System.out.format("%nCorpus %s: %s classes, %s calls to %s methods, %s models, %s invokes, %s lines with parameters%n",
+            apk, classFiles.size(), calledMethods.size(), distinctCalledMethods.size(), modeledSignatures.size(), invokeLines.size(), paramLines.size());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(outDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void collectLines(List<String> lines) {
+        int numRegs = 0;
+        for (String line : lines) {
+            if (line.startsWith("    .registers")) {
+                numRegs = Integer.parseInt(TaintAnalysis.getLastToken(line));
+            } else if (line.startsWith("    invoke")) {
+                String calledMethod = TaintAnalysis.getLastToken(line);
+                int arrow = calledMethod.indexOf("->");
+                if (arrow != -1 && line.contains(", L")) {
+                    calledMethods.add(new String[]{calledMethod.substring(0, arrow), calledMethod.substring(arrow + 2),
+                        TaintAnalysis.getToken(line, 0).contains("static") ? "static" : null});
+                    invokeLines.add(line);
+                    // About where the instrumentation puts its temporary registers
+                    invokeTempRegs.add(2 * numRegs + 4);
+                }
+            }
+            if (line.startsWith("    ") && !line.startsWith("    .") && !line.startsWith("    :")
+                    && (line.contains(" p") || line.contains("{p"))) {
+                paramLines.add(line);
+            }
+        }
+    }
+
+    @Benchmark
+    public void addTaintToClassFile() throws IOException {
+        String file = classFiles.get(nextClass);
+        nextClass = (nextClass + 1) % classFiles.size();
+        smaliStore.write(file, originalLines.get(file));
+        classTaint.addTaintToClassFile(file);
+    }
+
+    @Benchmark
+    public void transformFile() throws IOException {
+        String file = classFiles.get(nextTransformedClass);
+        nextTransformedClass = (nextTransformedClass + 1) % classFiles.size();
+        smaliStore.write(file, instrumentedLines.get(file));
+        transformConds.transformFile(file);
+    }
+
+    @Benchmark
+    public Set<String> getClassOfMethod() {
+        String[] calledMethod = distinctCalledMethods.get(nextCall);
+        nextCall = (nextCall + 1) % distinctCalledMethods.size();
+        return uncachedClassAnalysis.getClassOfMethod(calledMethod[0], calledMethod[1]);
+    }
+
+    @Benchmark
+    public MethodModel getModel() {
+        int i = nextModel;
+        nextModel = (nextModel + 1) % modeledSignatures.size();
+        return MethodModel.getModel(modeledSignatures.get(i), modeledIsStatic.get(i));
+    }
+
+    @Benchmark
+    public Pair<List<String>, Integer> makeInvokeToRange() {
+        int i = nextInvoke;
+        nextInvoke = (nextInvoke + 1) % invokeLines.size();
+        return TaintAnalysis.makeInvokeToRange(invokeLines.get(i), invokeTempRegs.get(i));
+    }
+
+    @Benchmark
+    public String changeParamsToLocals() {
+        String line = paramLines.get(nextParamLine);
+        nextParamLine = (nextParamLine + 1) % paramLines.size();
+        return classTaint.changeParamsToLocals(line, paramContext);
+    }
+}
@@ -0,0 +1,339 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Rewrites a zip archive (apk or jar) in one sequential pass. Entries that are kept are copied with
+ * their compressed bytes as they are, without inflating them. Only the replaced entries are read from
+ * disk and compressed. Stored entries are aligned to 4 bytes, as zipalign does.
+ * ZIP64 archives are not supported.
+ */
+public class ApkRewriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int VERSION_DEFLATE = 20;
+    // 1980-01-01 00:00, the earliest DOS date, so that added entries do not depend on when they were written
+    private static final int DOS_DATE_EPOCH = (1 << 5) | 1;
+    private static final int STORED_ALIGNMENT = 4;
+
+    private static class Entry {
+        int versionMadeBy;
+        int versionNeeded;
+        int flags;
+        int method;
+        int time;
+        int date;
+        int crc;
+        long compressedSize;
+        long size;
+        int internalAttributes;
+        int externalAttributes;
+        long localHeaderOffset;
+        byte[] name;
+        byte[] extra;
+        byte[] comment;
+
+        String getName() {
+            return new String(name, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Writes {@code output} with the entries of {@code input}, except the ones matched by {@code isReplaced},
+     * which are replaced by {@code newFiles}. The new files are named after their file name and are placed
+     * where the first replaced entry was, or at the end if no entry was replaced.
+     */
+    public static void rewrite(Path input, Path output, Predicate<String> isReplaced, List<Path> newFiles) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            List<Entry> written = new ArrayList<>();
+            boolean newFilesWritten = false;
+            for (Entry entry : readCentralDirectory(in, input)) {
+                if (isReplaced.test(entry.getName())) {
+                    if (!newFilesWritten) {
+                        for (Path newFile : newFiles) {
+                            written.add(writeNewEntry(out, newFile));
+                        }
+                        newFilesWritten = true;
+                    }
+                } else {
+                    written.add(copyEntry(in, out, entry));
+                }
+            }
+            if (!newFilesWritten) {
+                for (Path newFile : newFiles) {
+                    written.add(writeNewEntry(out, newFile));
+                }
+            }
+            writeCentralDirectory(out, written);
+        }
+    }
+
+    private static List<Entry> readCentralDirectory(FileChannel in, Path input) throws IOException {
+        long fileSize = in.size();
+        int tailSize = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+        ByteBuffer tail = read(in, fileSize - tailSize, tailSize);
+        int endOffset = -1;
+        for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                endOffset = i;
+                break;
+            }
+        }
+        if (endOffset == -1) {
+            throw new IOException("Not a zip file: " + input);
+        }
+        int entryCount = Short.toUnsignedInt(tail.getShort(endOffset + 10));
+        long centralDirectorySize = Integer.toUnsignedLong(tail.getInt(endOffset + 12));
+        long centralDirectoryOffset = Integer.toUnsignedLong(tail.getInt(endOffset + 16));
+        if (entryCount == 0xFFFF || centralDirectorySize == 0xFFFFFFFFL || centralDirectoryOffset == 0xFFFFFFFFL) {
+            throw new IOException("ZIP64 archives are not supported: " + input);
+        }
+
+        ByteBuffer centralDirectory = read(in, centralDirectoryOffset, (int) centralDirectorySize);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < entryCount; i++) {
+            if (centralDirectory.getInt() != CENTRAL_HEADER_SIGNATURE) {
+                throw new IOException("Bad central directory in: " + input);
+            }
+            Entry entry = new Entry();
+            entry.versionMadeBy = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.versionNeeded = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.flags = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.method = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.time = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.date = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.crc = centralDirectory.getInt();
+            entry.compressedSize = Integer.toUnsignedLong(centralDirectory.getInt());
+            entry.size = Integer.toUnsignedLong(centralDirectory.getInt());
+            int nameLength = Short.toUnsignedInt(centralDirectory.getShort());
+            int extraLength = Short.toUnsignedInt(centralDirectory.getShort());
+            int commentLength = Short.toUnsignedInt(centralDirectory.getShort());
+            centralDirectory.getShort(); // disk number
+            entry.internalAttributes = Short.toUnsignedInt(centralDirectory.getShort());
+            entry.externalAttributes = centralDirectory.getInt();
+            entry.localHeaderOffset = Integer.toUnsignedLong(centralDirectory.getInt());
+            entry.name = new byte[nameLength];
+            centralDirectory.get(entry.name);
+            entry.extra = new byte[extraLength];
+            centralDirectory.get(entry.extra);
+            entry.comment = new byte[commentLength];
+            centralDirectory.get(entry.comment);
+            if (entry.compressedSize == 0xFFFFFFFFL || entry.size == 0xFFFFFFFFL || entry.localHeaderOffset == 0xFFFFFFFFL) {
+                throw new IOException("ZIP64 archives are not supported: " + input);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static Entry copyEntry(FileChannel in, FileChannel out, Entry entry) throws IOException {
+        ByteBuffer localHeader = read(in, entry.localHeaderOffset, LOCAL_HEADER_SIZE);
+        if (localHeader.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("Bad local header for: " + entry.getName());
+        }
+        int nameLength = Short.toUnsignedInt(localHeader.getShort(26));
+        int extraLength = Short.toUnsignedInt(localHeader.getShort(28));
+        byte[] localExtra = new byte[extraLength];
+        read(in, entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength, extraLength).get(localExtra);
+        long dataOffset = entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+
+        Entry copied = copyOf(entry);
+        // The sizes and the CRC are in the local header, so the data descriptor is not written
+        copied.flags = entry.flags & ~FLAG_DATA_DESCRIPTOR;
+        copied.localHeaderOffset = out.position();
+        byte[] extra = (entry.method == METHOD_STORED)? align(localExtra, out.position() + LOCAL_HEADER_SIZE + entry.name.length) : localExtra;
+        writeLocalHeader(out, copied, extra);
+
+        long transferred = 0;
+        while (transferred < entry.compressedSize) {
+            long count = in.transferTo(dataOffset + transferred, entry.compressedSize - transferred, out);
+            if (count <= 0) {
+                throw new IOException("Truncated data for: " + entry.getName());
+            }
+            transferred += count;
+        }
+        return copied;
+    }
+
+    private static Entry writeNewEntry(FileChannel out, Path file) throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 2 + 64);
+        byte[] buffer = new byte[64 * 1024];
+        while (!deflater.finished()) {
+            int count = deflater.deflate(buffer);
+            compressed.write(buffer, 0, count);
+        }
+        deflater.end();
+
+        Entry entry = new Entry();
+        entry.versionMadeBy = VERSION_DEFLATE;
+        entry.versionNeeded = VERSION_DEFLATE;
+        entry.method = METHOD_DEFLATED;
+        entry.date = DOS_DATE_EPOCH;
+        entry.crc = (int) crc.getValue();
+        entry.compressedSize = compressed.size();
+        entry.size = data.length;
+        entry.name = file.getFileName().toString().getBytes(StandardCharsets.UTF_8);
+        entry.extra = new byte[0];
+        entry.comment = new byte[0];
+        entry.localHeaderOffset = out.position();
+        if (entry.compressedSize > 0xFFFFFFFFL || entry.size > 0xFFFFFFFFL || entry.localHeaderOffset > 0xFFFFFFFFL) {
+            throw new IOException("ZIP64 archives are not supported, cannot add: " + file);
+        }
+        writeLocalHeader(out, entry, entry.extra);
+        writeFully(out, ByteBuffer.wrap(compressed.toByteArray()));
+        return entry;
+    }
+
+    private static void writeLocalHeader(FileChannel out, Entry entry, byte[] extra) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + entry.name.length + extra.length).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(LOCAL_HEADER_SIGNATURE);
+        header.putShort((short) entry.versionNeeded);
+        header.putShort((short) entry.flags);
+        header.putShort((short) entry.method);
+        header.putShort((short) entry.time);
+        header.putShort((short) entry.date);
+        header.putInt(entry.crc);
+        header.putInt((int) entry.compressedSize);
+        header.putInt((int) entry.size);
+        header.putShort((short) entry.name.length);
+        header.putShort((short) extra.length);
+        header.put(entry.name);
+        header.put(extra);
+        header.flip();
+        writeFully(out, header);
+    }
+
+    private static void writeCentralDirectory(FileChannel out, List<Entry> entries) throws IOException {
+        long centralDirectoryOffset = out.position();
+        // 0xFFFF entries is the ZIP64 sentinel, the count the reader above rejects
+        if (entries.size() > 0xFFFE || centralDirectoryOffset > 0xFFFFFFFFL) {
+            throw new IOException("ZIP64 archives are not supported, archive is too large");
+        }
+        for (Entry entry : entries) {
+            ByteBuffer header = ByteBuffer.allocate(CENTRAL_HEADER_SIZE + entry.name.length + entry.extra.length + entry.comment.length).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(CENTRAL_HEADER_SIGNATURE);
+            header.putShort((short) entry.versionMadeBy);
+            header.putShort((short) entry.versionNeeded);
+            header.putShort((short) entry.flags);
+            header.putShort((short) entry.method);
+            header.putShort((short) entry.time);
+            header.putShort((short) entry.date);
+            header.putInt(entry.crc);
+            header.putInt((int) entry.compressedSize);
+            header.putInt((int) entry.size);
+            header.putShort((short) entry.name.length);
+            header.putShort((short) entry.extra.length);
+            header.putShort((short) entry.comment.length);
+            header.putShort((short) 0); // disk number
+            header.putShort((short) entry.internalAttributes);
+            header.putInt(entry.externalAttributes);
+            header.putInt((int) entry.localHeaderOffset);
+            header.put(entry.name);
+            header.put(entry.extra);
+            header.put(entry.comment);
+            header.flip();
+            writeFully(out, header);
+        }
+        long centralDirectorySize = out.position() - centralDirectoryOffset;
+
+        ByteBuffer end = ByteBuffer.allocate(END_OF_CENTRAL_DIRECTORY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        end.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+        end.putShort((short) 0); // disk number
+        end.putShort((short) 0); // disk of the central directory
+        end.putShort((short) entries.size());
+        end.putShort((short) entries.size());
+        end.putInt((int) centralDirectorySize);
+        end.putInt((int) centralDirectoryOffset);
+        end.putShort((short) 0); // comment length
+        end.flip();
+        writeFully(out, end);
+    }
+
+    /**
+     * Drops the padding after the last complete extra field and pads again, so that the data that
+     * follows the extra field starts at a multiple of {@link #STORED_ALIGNMENT}.
+     */
+    private static byte[] align(byte[] extra, long extraOffset) {
+        ByteBuffer fields = ByteBuffer.wrap(extra).order(ByteOrder.LITTLE_ENDIAN);
+        int fieldsLength = 0;
+        while (fieldsLength + 4 <= extra.length) {
+            int fieldLength = 4 + Short.toUnsignedInt(fields.getShort(fieldsLength + 2));
+            if (fields.getShort(fieldsLength) == 0 || fieldsLength + fieldLength > extra.length) {
+                break;
+            }
+            fieldsLength += fieldLength;
+        }
+        int padding = (int) ((STORED_ALIGNMENT - (extraOffset + fieldsLength) % STORED_ALIGNMENT) % STORED_ALIGNMENT);
+        byte[] aligned = new byte[fieldsLength + padding];
+        System.arraycopy(extra, 0, aligned, 0, fieldsLength);
+        return aligned;
+    }
+
+    private static Entry copyOf(Entry entry) {
+        Entry copy = new Entry();
+        copy.versionMadeBy = entry.versionMadeBy;
+        copy.versionNeeded = entry.versionNeeded;
+        copy.flags = entry.flags;
+        copy.method = entry.method;
+        copy.time = entry.time;
+        copy.date = entry.date;
+        copy.crc = entry.crc;
+        copy.compressedSize = entry.compressedSize;
+        copy.size = entry.size;
+        copy.internalAttributes = entry.internalAttributes;
+        copy.externalAttributes = entry.externalAttributes;
+        copy.localHeaderOffset = entry.localHeaderOffset;
+        copy.name = entry.name;
+        copy.extra = entry.extra;
+        copy.comment = entry.comment;
+        return copy;
+    }
+
+    private static ByteBuffer read(FileChannel in, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of zip file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
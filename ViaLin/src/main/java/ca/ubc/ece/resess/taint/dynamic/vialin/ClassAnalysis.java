@@ -7,8 +7,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,7 +17,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Class for analyzing and storing information about classes, methods, fields,
@@ -138,6 +143,49 @@ public class ClassAnalysis extends TaintAnalysis {
     // Mapping of class names to the set of field information in each class
     private final Map<String, Set<FieldInfo>> fieldsInClass = new HashMap<>();
 
+    // Mapped store of the first directory loaded, when it has one. It is queried in place, the maps
+    // above hold everything loaded or analyzed after it and take precedence over it for their classes
+    private ClassAnalysisStore store = null;
+
+    // Maximum number of results kept by each lookup cache, a cache is emptied when it is full
+    private static final int LOOKUP_CACHE_SIZE = Integer.getInteger("vialin.lookupCacheSize", 1 << 18);
+
+    // Results of the hierarchy lookups, by class or by class and member, emptied whenever the analysis data changes
+    private final Map<String, Set<String>> inheriterClassesCache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> superClassesCache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> classOfMethodCache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> implementingClassOfMethodCache = new ConcurrentHashMap<>();
+    private final Map<String, Optional<String>> classOfFieldCache = new ConcurrentHashMap<>();
+    private boolean cacheLookups = true;
+
+    // Framework analyses loaded so far, by directory, kept when many apps are instrumented in one JVM
+    private static final Map<String, KeptAnalysis> keptFrameworkAnalyses = new ConcurrentHashMap<>();
+
+    // Whether framework analyses are kept after they are loaded
+    private static volatile boolean keepFrameworkAnalysis = false;
+
+    /**
+     * A copy of the analysis data loaded from a framework analysis directory, along with the
+     * modification time and size of the files it was loaded from.
+     */
+    private static class KeptAnalysis {
+        private final String stamp;
+        private final ClassAnalysis analysis = new ClassAnalysis();
+
+        KeptAnalysis(String stamp, ClassAnalysis analysis) {
+            this.stamp = stamp;
+            copyAnalysisData(analysis, this.analysis);
+        }
+    }
+
+    /**
+     * Constructs an empty ClassAnalysis that holds a copy of the data of another one.
+     */
+    private ClassAnalysis() {
+        this.frameworkAnalysisDir = null;
+        this.appAnalysisDir = null;
+    }
+
     /**
      * Constructs a ClassAnalysis object for analyzing classes in the framework.
      *
@@ -147,19 +195,19 @@ public class ClassAnalysis extends TaintAnalysis {
     public ClassAnalysis (String frameworkAnalysisDir) {
         this.frameworkAnalysisDir = frameworkAnalysisDir;
         this.appAnalysisDir = null;
-        load(this.frameworkAnalysisDir);
+        loadFramework(this.frameworkAnalysisDir);
     }
 
     /**
      * Constructs a ClassAnalysis object for analyzing classes in the framework and application.
      *
-     * @param frameworkAnalysisDir The directory path for framework analysis.
+     * @param frameworkAnalysisDir The directory path for framework analysis, null to analyze the application alone.
      * @param methodModelDir       The directory path for method models.
      * @param outDir               The directory path for application analysis.
      */
     public ClassAnalysis (String frameworkAnalysisDir, String outDir) {
         this.frameworkAnalysisDir = frameworkAnalysisDir;
-        load(this.frameworkAnalysisDir);
+        loadFramework(this.frameworkAnalysisDir);
 
         this.appAnalysisDir = outDir + "/class_analysis/";
         File appAnalysisDirFile = new File(this.appAnalysisDir);
@@ -179,9 +227,8 @@ public class ClassAnalysis extends TaintAnalysis {
      * @param className  The name of the class to which the method belongs.
      */
     private void addMethodToClass(String methodName, String className) {
-        Set<String> methodSet = methodsInClass.getOrDefault(className, new HashSet<>());
+        Set<String> methodSet = methodsInClass.computeIfAbsent(className, k -> storedOrEmpty((store == null)? null : store.getMethods(k)));
         methodSet.add(methodName);
-        methodsInClass.put(className, methodSet);
     }
 
     /**
@@ -191,9 +238,8 @@ public class ClassAnalysis extends TaintAnalysis {
      * @param className  The name of the class to which the field belongs.
      */
     private void addFieldToClass(FieldInfo fieldInfo, String className) {
-        Set<FieldInfo> fieldSet = fieldsInClass.getOrDefault(className, new HashSet<>());
+        Set<FieldInfo> fieldSet = fieldsInClass.computeIfAbsent(className, k -> storedOrEmpty((store == null)? null : store.getFields(k)));
         fieldSet.add(fieldInfo);
-        fieldsInClass.put(className, fieldSet);
     }
 
     /**
@@ -213,9 +259,92 @@ public class ClassAnalysis extends TaintAnalysis {
      * @param className     The name of the class.
      */
     private void addImplementedToClass(String superName, String className) {
-        Set<String> classSet = implementedClass.getOrDefault(className, new HashSet<>());
+        Set<String> classSet = implementedClass.computeIfAbsent(className, k -> storedOrEmpty((store == null)? null : store.getImplemented(k)));
         classSet.add(superName);
-        implementedClass.put(className, classSet);
+    }
+
+    private static <T> Set<T> storedOrEmpty(Set<T> stored) {
+        return (stored == null)? new HashSet<>() : stored;
+    }
+
+    /**
+     * Checks if a class has a method, in the maps if the class is in them and in the store otherwise.
+     *
+     * @param className  The name of the class.
+     * @param methodName The name of the method.
+     * @return True if the class declares the method, false otherwise.
+     */
+    private boolean hasMethod(String className, String methodName) {
+        Set<String> classMethods = methodsInClass.get(className);
+        if (classMethods != null) {
+            return classMethods.contains(methodName);
+        }
+        return store != null && store.hasMethod(className, methodName);
+    }
+
+    /**
+     * Checks if a class has a field, in the maps if the class is in them and in the store otherwise.
+     *
+     * @param className The name of the class.
+     * @param fieldName The name of the field.
+     * @return True if the class declares the field, false otherwise.
+     */
+    private boolean hasField(String className, String fieldName) {
+        Set<FieldInfo> classFields = fieldsInClass.get(className);
+        if (classFields != null) {
+            for (FieldInfo fieldInfo : classFields) {
+                if (fieldInfo.fieldName.equals(fieldName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return store != null && store.hasField(className, fieldName);
+    }
+
+    /**
+     * Gets the interfaces a class implements, from the maps if the class is in them and from the store otherwise.
+     *
+     * @param className The name of the class.
+     * @return The implemented interfaces, empty if there are none.
+     */
+    private Set<String> getImplemented(String className) {
+        Set<String> implemented = implementedClass.get(className);
+        if (implemented == null && store != null) {
+            implemented = store.getImplemented(className);
+        }
+        return (implemented == null)? Collections.emptySet() : implemented;
+    }
+
+    /**
+     * Gets the superclass of a class, from the maps if the class is in them and from the store otherwise.
+     *
+     * @param className The name of the class.
+     * @return The superclass, or null if it is not known.
+     */
+    private String getSuper(String className) {
+        if (store == null || classSuper.containsKey(className)) {
+            return classSuper.get(className);
+        }
+        return store.getSuper(className);
+    }
+
+    /**
+     * Gets the classes that implement an interface, from both the maps and the store.
+     *
+     * @param className The name of the interface.
+     * @return The implementing classes, or null if there are none.
+     */
+    private Set<String> getImplementing(String className) {
+        Set<String> implementing = implementingClass.get(className);
+        Set<String> stored = (store == null)? null : store.getImplementing(className);
+        if (stored == null) {
+            return implementing;
+        }
+        if (implementing != null) {
+            stored.addAll(implementing);
+        }
+        return stored;
     }
 
 
@@ -229,7 +358,7 @@ public class ClassAnalysis extends TaintAnalysis {
         for (String file : smaliFiles) {
             List<String> classLines;
             try {
-                classLines = Files.readAllLines(Paths.get(file));
+                classLines = smaliStore.readLines(file);
             } catch (IOException e) {
                 throw new Error("Cannot open class file: " + file);
             }
@@ -238,6 +367,7 @@ public class ClassAnalysis extends TaintAnalysis {
             analyzeClassLines(classLines, className);
         }
         createImplementingClass();
+        clearLookupCaches();
     }
 
     /**
@@ -352,7 +482,7 @@ public class ClassAnalysis extends TaintAnalysis {
      * @return True if the method is native, false otherwise.
      */
     public boolean isNative(String methodName) {
-        return nativeMethods.contains(methodName);
+        return nativeMethods.contains(methodName) || (store != null && store.isNative(methodName));
     }
 
     /**
@@ -360,15 +490,19 @@ public class ClassAnalysis extends TaintAnalysis {
      *
      * @param className  The name of the class.
      * @param methodName The name of the method.
-     * @return A set of class names that inherit the specified class and method.
+     * @return A set of class names that inherit the specified class and method, which must not be modified.
      */
     public Set<String> getInheriterClasses(String className, String methodName) {
+        return memoize(inheriterClassesCache, className, k -> Collections.unmodifiableSet(findInheriterClasses(k)));
+    }
+
+    private Set<String> findInheriterClasses(String className) {
         Set<String> classes = new HashSet<>();
         Deque<String> classesToGet = new ArrayDeque<>();
         classesToGet.push(className);
         while (!classesToGet.isEmpty()) {
             String classToLookForNow = classesToGet.pop();
-            Set<String> set = implementingClass.get(classToLookForNow);
+            Set<String> set = getImplementing(classToLookForNow);
             if (set != null ) {
                 for (String c : set) {
                     if (!classes.contains(c)) {
@@ -387,9 +521,19 @@ public class ClassAnalysis extends TaintAnalysis {
      *
      * @param className       The name of the class for which to retrieve superclasses.
      * @param classesSearched A set to keep track of classes already searched to avoid infinite loops.
-     * @return A set of class names representing the superclasses of the given class.
+     * @return A set of class names representing the superclasses of the given class, which must not be modified.
      */
     public Set<String> getSuperClasses(String className, Set<String> classesSearched) {
+        if (!classesSearched.isEmpty()) {
+            return findSuperClasses(className, classesSearched);
+        }
+        // A search from scratch marks exactly the classes it returns as searched
+        Set<String> superClasses = memoize(superClassesCache, className, k -> Collections.unmodifiableSet(findSuperClasses(k, new HashSet<>())));
+        classesSearched.addAll(superClasses);
+        return superClasses;
+    }
+
+    private Set<String> findSuperClasses(String className, Set<String> classesSearched) {
         Set<String> superClasses = new HashSet<>();
 
         // If the class has already been searched, return an empty set to avoid infinite loops
@@ -402,19 +546,19 @@ public class ClassAnalysis extends TaintAnalysis {
         classesSearched.add(className);
 
         // Retrieve implemented classes/interfaces for the current class
-        Set<String> implementedClasses = implementedClass.getOrDefault(className, new HashSet<>());
+        Set<String> implementedClasses = getImplemented(className);
 
         // Recursively get superclasses for each implemented class/interface
         for (String c : implementedClasses) {
-            superClasses.addAll(getSuperClasses(c, classesSearched));
+            superClasses.addAll(findSuperClasses(c, classesSearched));
         }
 
         // Get the direct superclass of the current class
-        String superClass = classSuper.get(className);
+        String superClass = getSuper(className);
 
         // Recursively get superclasses for the direct superclass
         if (superClass != null) {
-            superClasses.addAll(getSuperClasses(superClass, classesSearched));
+            superClasses.addAll(findSuperClasses(superClass, classesSearched));
         }
 
         // Return the set of superclasses for the given class
@@ -427,9 +571,14 @@ public class ClassAnalysis extends TaintAnalysis {
      *
      * @param className   The name of the class in which the method is defined.
      * @param methodName  The name of the method for which to find implementing classes.
-     * @return A set of class names representing the classes that implement the specified method.
+     * @return A set of class names representing the classes that implement the specified method, which must not be modified.
      */
     public Set<String> getImplementingClassOfMethod(String className, String methodName) {
+        return memoize(implementingClassOfMethodCache, className + "->" + methodName,
+            k -> Collections.unmodifiableSet(findImplementingClassOfMethod(className, methodName)));
+    }
+
+    private Set<String> findImplementingClassOfMethod(String className, String methodName) {
         // Set to keep track of classes already searched to avoid infinite loops
         Set<String> classesSearched = new HashSet<>();
 
@@ -466,9 +615,14 @@ public class ClassAnalysis extends TaintAnalysis {
      *
      * @param className   The name of the class in which the method is defined.
      * @param methodName  The name of the method for which to find containing classes.
-     * @return A set of class names representing the classes containing the specified method.
+     * @return A set of class names representing the classes containing the specified method, which must not be modified.
      */
     public Set<String> getClassOfMethod(String className, String methodName) {
+        return memoize(classOfMethodCache, className + "->" + methodName,
+            k -> Collections.unmodifiableSet(findClassOfMethod(className, methodName)));
+    }
+
+    private Set<String> findClassOfMethod(String className, String methodName) {
         // Set to keep track of classes already searched to avoid infinite loops
         Set<String> classesSearched = new HashSet<>();
 
@@ -481,7 +635,7 @@ public class ClassAnalysis extends TaintAnalysis {
         }
 
         // Get a set of inheriting classes and interfaces for the specified class and method
-        Set<String> classToLookFor = getInheriterClasses(className, methodName);
+        Set<String> classToLookFor = new HashSet<>(getInheriterClasses(className, methodName));
 
         // Include the original class in the set to ensure it is considered during the search
         classToLookFor.add(className);
@@ -525,11 +679,8 @@ public class ClassAnalysis extends TaintAnalysis {
             return classOfMethod;
         }
 
-        // Get the set of methods in the current class
-        Set<String> classMethods = methodsInClass.get(className);
-
         // If the class contains the specified method, add it to the set of containing classes
-        if (classMethods != null && classMethods.contains(methodName)) {
+        if (hasMethod(className, methodName)) {
             classOfMethod.add(className);
         }
 
@@ -537,7 +688,7 @@ public class ClassAnalysis extends TaintAnalysis {
         classesSearched.add(className);
 
         // Retrieve implemented classes/interfaces for the current class
-        Set<String> implementedClasses = implementedClass.getOrDefault(className, new HashSet<>());
+        Set<String> implementedClasses = getImplemented(className);
 
         // Recursively search for containing classes in implemented classes/interfaces
         for (String implemented : implementedClasses) {
@@ -545,7 +696,7 @@ public class ClassAnalysis extends TaintAnalysis {
         }
 
         // Get the direct superclass of the current class
-        String superClass = classSuper.get(className);
+        String superClass = getSuper(className);
 
         // Recursively search for containing classes in the direct superclass
         if (superClass != null) {
@@ -566,6 +717,10 @@ public class ClassAnalysis extends TaintAnalysis {
      * @return The name of the class containing the specified field, or null if not found.
      */
     public String getClassOfField(String className, String fieldName) {
+        return memoize(classOfFieldCache, className + "->" + fieldName, k -> Optional.ofNullable(findClassOfField(className, fieldName))).orElse(null);
+    }
+
+    private String findClassOfField(String className, String fieldName) {
         String classOfField = null;
 
         // Attempt to retrieve the class containing the field by exploring the class hierarchy
@@ -590,16 +745,9 @@ public class ClassAnalysis extends TaintAnalysis {
      * @return The name of the class containing the specified field, or null if not found.
      */
     private String getClassOfFieldSearch(String className, String fieldName, Set<String> classesSearched) {
-        // Get the set of candidate fields for the current class
-        Set<FieldInfo> candidateFields = fieldsInClass.get(className);
-
-        // If candidate fields exist, check if the field is among them
-        if (candidateFields != null) {
-            Set<String> candidateFieldNames = new HashSet<>();
-            candidateFields.forEach(fieldInfo -> candidateFieldNames.add(fieldInfo.fieldName));
-            if (candidateFieldNames.contains(fieldName)) {
-                return className;
-            }
+        // If the class declares the field, it is the class of the field
+        if (hasField(className, fieldName)) {
+            return className;
         }
 
         // If the class has already been searched, return null to avoid redundant searches
@@ -611,7 +759,7 @@ public class ClassAnalysis extends TaintAnalysis {
         classesSearched.add(className);
 
         // Retrieve implemented classes/interfaces for the current class
-        Set<String> implementedClasses = implementedClass.getOrDefault(className, new HashSet<>());
+        Set<String> implementedClasses = getImplemented(className);
 
         // Recursively search for the containing class in implemented classes/interfaces
         for (String implemented : implementedClasses) {
@@ -622,7 +770,7 @@ public class ClassAnalysis extends TaintAnalysis {
         }
 
         // Get the direct superclass of the current class
-        String superClass = classSuper.get(className);
+        String superClass = getSuper(className);
 
         // If there is no superclass, return null
         if (superClass == null) {
@@ -633,6 +781,112 @@ public class ClassAnalysis extends TaintAnalysis {
         return getClassOfFieldSearch(superClass, fieldName, classesSearched);
     }
 
+    /**
+     * Gets a lookup result from a cache, computing and caching it on a miss. The cache is emptied
+     * when it is full, so that it stays bounded.
+     *
+     * @param cache   The cache of the lookup.
+     * @param key     The key of the lookup.
+     * @param compute Computes the result of the lookup.
+     * @return The result of the lookup.
+     */
+    private <V> V memoize(Map<String, V> cache, String key, Function<String, V> compute) {
+        if (!cacheLookups) {
+            return compute.apply(key);
+        }
+        V value = cache.get(key);
+        if (value == null) {
+            // Not computeIfAbsent, a lookup runs other lookups
+            value = compute.apply(key);
+            if (cache.size() >= LOOKUP_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Sets whether the results of the hierarchy lookups are cached, which they are by default.
+     */
+    void setCacheLookups(boolean cacheLookups) {
+        this.cacheLookups = cacheLookups;
+        clearLookupCaches();
+    }
+
+    private void clearLookupCaches() {
+        inheriterClassesCache.clear();
+        superClassesCache.clear();
+        classOfMethodCache.clear();
+        implementingClassOfMethodCache.clear();
+        classOfFieldCache.clear();
+    }
+
+    /**
+     * Sets whether framework analyses are kept in memory after they are loaded, so that analyzing
+     * more apps against the same framework does not deserialize it again.
+     *
+     * @param keepFrameworkAnalysis True to keep the framework analyses, false to drop the kept ones.
+     */
+    public static void setKeepFrameworkAnalysis(boolean keepFrameworkAnalysis) {
+        ClassAnalysis.keepFrameworkAnalysis = keepFrameworkAnalysis;
+        if (!keepFrameworkAnalysis) {
+            keptFrameworkAnalyses.clear();
+        }
+    }
+
+    /**
+     * Loads the framework analysis, from the analysis kept by a previous load of the same directory
+     * if framework analyses are kept and the files did not change since.
+     *
+     * @param dir The framework analysis directory, null for none.
+     */
+    private void loadFramework(String dir) {
+        if (dir == null) {
+            return;
+        }
+        if (!keepFrameworkAnalysis) {
+            load(dir);
+            return;
+        }
+        String stamp = analysisStamp(dir);
+        KeptAnalysis kept = keptFrameworkAnalyses.get(dir);
+        if (kept != null && kept.stamp.equals(stamp)) {
+            copyAnalysisData(kept.analysis, this);
+            return;
+        }
+        load(dir);
+        keptFrameworkAnalyses.put(dir, new KeptAnalysis(stamp, this));
+    }
+
+    // The sets are copied as well, the analysis of an app adds to the sets of framework classes.
+    // The store is never written to and is shared.
+    private static void copyAnalysisData(ClassAnalysis from, ClassAnalysis to) {
+        to.store = from.store;
+        copySets(from.methodsInClass, to.methodsInClass);
+        to.classSuper.putAll(from.classSuper);
+        copySets(from.implementedClass, to.implementedClass);
+        copySets(from.implementingClass, to.implementingClass);
+        to.nativeMethods.addAll(from.nativeMethods);
+        copySets(from.fieldsInClass, to.fieldsInClass);
+        to.clearLookupCaches();
+    }
+
+    private static <T> void copySets(Map<String, Set<T>> from, Map<String, Set<T>> to) {
+        for (Map.Entry<String, Set<T>> entry : from.entrySet()) {
+            to.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+    }
+
+    private static String analysisStamp(String dir) {
+        StringBuilder stamp = new StringBuilder();
+        for (String name : new String[]{"methodsInClass", "fieldsInClass", "classSuper", "implementedClass", "nativeMethods", ClassAnalysisStore.FILE_NAME}) {
+            File file = new File(dir, name);
+            stamp.append(file.lastModified()).append(':').append(file.length()).append(',');
+        }
+        return stamp.toString();
+    }
+
     /**
      * Loads analysis files from the specified directory, populating data structures for analysis.
      * This method deserializes information about methods, fields, class hierarchy, implemented classes,
@@ -641,9 +895,37 @@ public class ClassAnalysis extends TaintAnalysis {
      * @param dir The directory from which to load analysis files.
      */
     private void load(String dir) {
+        ClassAnalysisStore dirStore = ClassAnalysisStore.openIfCurrent(dir);
+        if (dirStore != null && store == null && methodsInClass.isEmpty() && fieldsInClass.isEmpty() && classSuper.isEmpty()
+                && implementedClass.isEmpty() && nativeMethods.isEmpty()) {
+            // Nothing is loaded yet, query the store in place
+            store = dirStore;
+            clearLookupCaches();
+            return;
+        }
+
         // Temporary data structure for loading fields before filtering and merging
         Map<String, Set<FieldInfo>> tempFieldInClass = new HashMap<>();
 
+        if (dirStore != null) {
+            // Another directory is loaded already, read the store into the maps the same way as the serialized files
+            dirStore.copyInto(methodsInClass, tempFieldInClass, classSuper, implementedClass, implementingClass, nativeMethods);
+            createImplementingClass();
+        } else {
+            loadSerialized(dir, tempFieldInClass);
+        }
+        mergeFields(tempFieldInClass);
+        clearLookupCaches();
+    }
+
+    /**
+     * Deserializes the analysis files of a directory into the maps, except for the fields, which are
+     * deserialized into the given map to be filtered and merged afterwards.
+     *
+     * @param dir              The directory from which to load analysis files.
+     * @param tempFieldInClass The map to load the fields into.
+     */
+    private void loadSerialized(String dir, Map<String, Set<FieldInfo>> tempFieldInClass) {
         try {
             // Load methods
             methodsInClass.putAll(deSerialize("methodsInClass", dir));
@@ -663,7 +945,15 @@ public class ClassAnalysis extends TaintAnalysis {
         } catch (NullPointerException e) {
             e.printStackTrace();
         }
+    }
 
+    /**
+     * Filters and merges loaded fields into the fields of the analysis. The fields of a class that is
+     * already loaded are kept.
+     *
+     * @param tempFieldInClass The loaded fields.
+     */
+    private void mergeFields(Map<String, Set<FieldInfo>> tempFieldInClass) {
         // Filter and merge fields in the final data structure
         for (Map.Entry<String, Set<FieldInfo>> entry : tempFieldInClass.entrySet()) {
             HashSet<FieldInfo> fieldsInThisClass = new HashSet<>();
@@ -672,11 +962,10 @@ public class ClassAnalysis extends TaintAnalysis {
                     fieldsInThisClass.add(f);
                 }
             }
-            if (!fieldsInClass.containsKey(entry.getKey())) {
+            if (!fieldsInClass.containsKey(entry.getKey()) && (store == null || !store.hasFields(entry.getKey()))) {
                 fieldsInClass.put(entry.getKey(), fieldsInThisClass);
             }
         }
-
     }
 
     /**
@@ -710,20 +999,102 @@ public class ClassAnalysis extends TaintAnalysis {
             dir = appAnalysisDir;
         }
 
+        // Save the store along with the maps
+        ClassAnalysis data = merged();
+
         // Serialize and save methodsInClass
-        serialize("methodsInClass", methodsInClass, dir);
+        serialize("methodsInClass", data.methodsInClass, dir);
 
         // Serialize and save fieldsInClass
-        serialize("fieldsInClass", fieldsInClass, dir);
+        serialize("fieldsInClass", data.fieldsInClass, dir);
 
         // Serialize and save classSuper
-        serialize("classSuper", classSuper, dir);
+        serialize("classSuper", data.classSuper, dir);
 
         // Serialize and save implementedClass
-        serialize("implementedClass", implementedClass, dir);
+        serialize("implementedClass", data.implementedClass, dir);
 
         // Serialize and save nativeMethods
-        serialize("nativeMethods", nativeMethods, dir);
+        serialize("nativeMethods", data.nativeMethods, dir);
+
+        // Write the store last, it is only used when it is not older than the serialized files
+        data.writeStore(dir);
+    }
+
+    /**
+     * Writes the class analysis store of a directory from its serialized analysis files, so that later
+     * runs map the store instead of deserializing the files.
+     *
+     * @param dir The analysis directory.
+     */
+    public static void convertToStore(String dir) {
+        ClassAnalysis analysis = new ClassAnalysis();
+        Map<String, Set<FieldInfo>> tempFieldInClass = new HashMap<>();
+        analysis.loadSerialized(dir, tempFieldInClass);
+        analysis.mergeFields(tempFieldInClass);
+        analysis.writeStore(dir);
+        System.out.format("Wrote %s for %s classes%n", new File(dir, ClassAnalysisStore.FILE_NAME), analysis.methodsInClass.size());
+    }
+
+    private void writeStore(String dir) {
+        try {
+            ClassAnalysisStore.write(dir, methodsInClass, fieldsInClass, classSuper, implementedClass, implementingClass, nativeMethods);
+        } catch (IOException ioe) {
+            ioe.printStackTrace();
+        }
+    }
+
+    /**
+     * Gets the analysis data of the store and the maps in maps. The classes in the maps take precedence
+     * over the classes in the store, the same way they would if the store was loaded into the maps first.
+     *
+     * @return This analysis if it has no store, a new analysis with the merged data otherwise.
+     */
+    private ClassAnalysis merged() {
+        if (store == null) {
+            return this;
+        }
+        ClassAnalysis data = new ClassAnalysis();
+        store.copyInto(data.methodsInClass, data.fieldsInClass, data.classSuper, data.implementedClass, data.implementingClass, data.nativeMethods);
+        data.methodsInClass.putAll(methodsInClass);
+        data.fieldsInClass.putAll(fieldsInClass);
+        data.classSuper.putAll(classSuper);
+        data.implementedClass.putAll(implementedClass);
+        for (Map.Entry<String, Set<String>> entry : implementingClass.entrySet()) {
+            data.implementingClass.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+        }
+        data.nativeMethods.addAll(nativeMethods);
+        return data;
+    }
+
+    /**
+     * Computes a fingerprint of the analysis data. Two analyses with the same classes, methods,
+     * fields, class hierarchy and native methods have the same fingerprint, regardless of the
+     * order the classes were analyzed in.
+     *
+     * @param digest The digest to update with the analysis data.
+     */
+    public void fingerprint(MessageDigest digest) {
+        ClassAnalysis data = merged();
+        fingerprintSets(digest, "methodsInClass", data.methodsInClass);
+        fingerprintSets(digest, "fieldsInClass", data.fieldsInClass);
+        fingerprintSets(digest, "implementedClass", data.implementedClass);
+        fingerprintSets(digest, "classSuper", Collections.singletonMap("", new HashSet<>(data.classSuper.entrySet())));
+        fingerprintSets(digest, "nativeMethods", Collections.singletonMap("", data.nativeMethods));
+    }
+
+    private static void fingerprintSets(MessageDigest digest, String name, Map<String, ? extends Set<?>> map) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        for (Map.Entry<String, ? extends Set<?>> entry : new TreeMap<>(map).entrySet()) {
+            digest.update(("\n" + entry.getKey() + ":").getBytes(StandardCharsets.UTF_8));
+            TreeSet<String> values = new TreeSet<>();
+            for (Object value : entry.getValue()) {
+                values.add(String.valueOf(value));
+            }
+            for (String value : values) {
+                digest.update((value + ",").getBytes(StandardCharsets.UTF_8));
+            }
+        }
     }
 
     /**
@@ -0,0 +1,484 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ca.ubc.ece.resess.taint.dynamic.vialin.ClassAnalysis.FieldInfo;
+
+/**
+ * Binary form of a class analysis, written next to the serialized maps of {@link ClassAnalysis}.
+ * Every class, method and field name is stored once in a string table sorted by its UTF-8 bytes,
+ * and the relations between them are tables of string ids sorted by class id. The file is
+ * memory-mapped and queried with binary searches, without deserializing it.
+ *
+ * <p>Layout, with all ints big-endian:
+ * <pre>
+ *   magic, version
+ *   strings:      count, offsets of the strings (count + 1), UTF-8 bytes
+ *   methods:      class count, class ids, value offsets (class count + 1), method ids sorted
+ *   fields:       same, with a name id and a modifiers id per field
+ *   implemented:  same, with interface ids
+ *   implementing: same, with class ids
+ *   super:        class count, class ids, super class ids
+ *   natives:      count, method ids sorted
+ * </pre>
+ */
+public class ClassAnalysisStore {
+
+    public static final String FILE_NAME = "classAnalysis.bin";
+
+    // The files written by ClassAnalysis.save, the store is stale when one of them is newer
+    private static final String[] SERIALIZED_FILES = {"methodsInClass", "fieldsInClass", "classSuper", "implementedClass", "nativeMethods"};
+    private static final int MAGIC = 0x564c4341;
+    private static final int VERSION = 1;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int stringData;
+    // Decoded strings by id, so that all lookups share one instance of each string
+    private final String[] strings;
+    private final Table methods;
+    private final Table fields;
+    private final Table implemented;
+    private final Table implementing;
+    private final int superCount;
+    private final int superClasses;
+    private final int superValues;
+    private final int nativeCount;
+    private final int natives;
+
+    /**
+     * A list of ids for each class, for the classes that have one.
+     */
+    private static class Table {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int keys;
+        private final int offsets;
+        private final int values;
+        private final int end;
+
+        Table(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.count = buffer.getInt(position);
+            this.keys = position + 4;
+            this.offsets = keys + 4 * count;
+            int valueCount = buffer.getInt(offsets + 4 * count);
+            this.values = offsets + 4 * (count + 1);
+            this.end = values + 4 * valueCount;
+        }
+
+        int indexOf(int classId) {
+            return binarySearch(buffer, keys, count, classId);
+        }
+
+        int start(int index) {
+            return buffer.getInt(offsets + 4 * index);
+        }
+
+        int end(int index) {
+            return buffer.getInt(offsets + 4 * (index + 1));
+        }
+
+        int value(int valueIndex) {
+            return buffer.getInt(values + 4 * valueIndex);
+        }
+    }
+
+    private ClassAnalysisStore(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a class analysis store of version " + VERSION);
+        }
+        this.stringCount = buffer.getInt(8);
+        this.stringOffsets = 12;
+        this.stringData = stringOffsets + 4 * (stringCount + 1);
+        this.strings = new String[stringCount];
+        int position = stringData + buffer.getInt(stringOffsets + 4 * stringCount);
+        this.methods = new Table(buffer, position);
+        this.fields = new Table(buffer, methods.end);
+        this.implemented = new Table(buffer, fields.end);
+        this.implementing = new Table(buffer, implemented.end);
+        this.superCount = buffer.getInt(implementing.end);
+        this.superClasses = implementing.end + 4;
+        this.superValues = superClasses + 4 * superCount;
+        this.nativeCount = buffer.getInt(superValues + 4 * superCount);
+        this.natives = superValues + 4 * superCount + 4;
+    }
+
+    /**
+     * Maps the store of an analysis directory.
+     *
+     * @return The store, or null if the directory has no store or if its serialized maps are newer than the store
+     */
+    public static ClassAnalysisStore openIfCurrent(String dir) {
+        File storeFile = new File(dir, FILE_NAME);
+        if (!storeFile.isFile()) {
+            return null;
+        }
+        for (String name : SERIALIZED_FILES) {
+            if (new File(dir, name).lastModified() > storeFile.lastModified()) {
+                AnalysisLogger.log(true, "Class analysis store is older than %s, will not use: %s%n", name, storeFile);
+                return null;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(storeFile.toPath(), StandardOpenOption.READ)) {
+            return new ClassAnalysisStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            AnalysisLogger.log(true, "Cannot open class analysis store %s: %s%n", storeFile, e);
+            return null;
+        }
+    }
+
+    public boolean hasMethod(String className, String methodName) {
+        int index = methods.indexOf(idOf(className));
+        if (index < 0) {
+            return false;
+        }
+        int methodId = idOf(methodName);
+        int start = methods.start(index);
+        return methodId >= 0 && binarySearch(buffer, methods.values + 4 * start, methods.end(index) - start, methodId) >= 0;
+    }
+
+    public Set<String> getMethods(String className) {
+        return getStrings(methods, className);
+    }
+
+    public boolean hasFields(String className) {
+        return fields.indexOf(idOf(className)) >= 0;
+    }
+
+    public boolean hasField(String className, String fieldName) {
+        int index = fields.indexOf(idOf(className));
+        int fieldId = idOf(fieldName);
+        if (index < 0 || fieldId < 0) {
+            return false;
+        }
+        for (int i = fields.start(index); i < fields.end(index); i += 2) {
+            if (fields.value(i) == fieldId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<FieldInfo> getFields(String className) {
+        int index = fields.indexOf(idOf(className));
+        if (index < 0) {
+            return null;
+        }
+        Set<FieldInfo> classFields = new HashSet<>();
+        for (int i = fields.start(index); i < fields.end(index); i += 2) {
+            classFields.add(new FieldInfo(getString(fields.value(i)), getString(fields.value(i + 1)).split(" ")));
+        }
+        return classFields;
+    }
+
+    public Set<String> getImplemented(String className) {
+        return getStrings(implemented, className);
+    }
+
+    public Set<String> getImplementing(String className) {
+        return getStrings(implementing, className);
+    }
+
+    public String getSuper(String className) {
+        int index = binarySearch(buffer, superClasses, superCount, idOf(className));
+        return (index < 0)? null : getString(buffer.getInt(superValues + 4 * index));
+    }
+
+    public boolean isNative(String methodName) {
+        int methodId = idOf(methodName);
+        return methodId >= 0 && binarySearch(buffer, natives, nativeCount, methodId) >= 0;
+    }
+
+    /**
+     * Adds the whole store to the given maps.
+     */
+    public void copyInto(Map<String, Set<String>> methodsInClass, Map<String, Set<FieldInfo>> fieldsInClass, Map<String, String> classSuper,
+            Map<String, Set<String>> implementedClass, Map<String, Set<String>> implementingClass, Set<String> nativeMethods) {
+        copyTable(methods, methodsInClass);
+        copyTable(implemented, implementedClass);
+        copyTable(implementing, implementingClass);
+        for (int index = 0; index < fields.count; index++) {
+            fieldsInClass.put(getString(buffer.getInt(fields.keys + 4 * index)), getFields(getString(buffer.getInt(fields.keys + 4 * index))));
+        }
+        for (int index = 0; index < superCount; index++) {
+            classSuper.put(getString(buffer.getInt(superClasses + 4 * index)), getString(buffer.getInt(superValues + 4 * index)));
+        }
+        for (int index = 0; index < nativeCount; index++) {
+            nativeMethods.add(getString(buffer.getInt(natives + 4 * index)));
+        }
+    }
+
+    private void copyTable(Table table, Map<String, Set<String>> map) {
+        for (int index = 0; index < table.count; index++) {
+            Set<String> values = new HashSet<>();
+            for (int i = table.start(index); i < table.end(index); i++) {
+                values.add(getString(table.value(i)));
+            }
+            map.put(getString(buffer.getInt(table.keys + 4 * index)), values);
+        }
+    }
+
+    private Set<String> getStrings(Table table, String className) {
+        int index = table.indexOf(idOf(className));
+        if (index < 0) {
+            return null;
+        }
+        Set<String> values = new HashSet<>();
+        for (int i = table.start(index); i < table.end(index); i++) {
+            values.add(getString(table.value(i)));
+        }
+        return values;
+    }
+
+    private String getString(int id) {
+        String string = strings[id];
+        if (string == null) {
+            int start = buffer.getInt(stringOffsets + 4 * id);
+            byte[] bytes = new byte[buffer.getInt(stringOffsets + 4 * (id + 1)) - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(stringData + start + i);
+            }
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = string;
+        }
+        return string;
+    }
+
+    private int idOf(String string) {
+        if (string == null) {
+            return -1;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = stringCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareString(mid, bytes);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareString(int id, byte[] bytes) {
+        int start = buffer.getInt(stringOffsets + 4 * id);
+        int length = buffer.getInt(stringOffsets + 4 * (id + 1)) - start;
+        int common = Math.min(length, bytes.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(stringData + start + i) & 0xFF, bytes[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, bytes.length);
+    }
+
+    private static int binarySearch(ByteBuffer buffer, int position, int count, int value) {
+        if (value < 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midValue = buffer.getInt(position + 4 * mid);
+            if (midValue < value) {
+                low = mid + 1;
+            } else if (midValue > value) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes a store to {@code dir}. The store is written to a temporary file first and moved in place,
+     * so that a store of the same directory that is still mapped is not changed under its readers.
+     */
+    public static void write(String dir, Map<String, Set<String>> methodsInClass, Map<String, Set<FieldInfo>> fieldsInClass, Map<String, String> classSuper,
+            Map<String, Set<String>> implementedClass, Map<String, Set<String>> implementingClass, Set<String> nativeMethods) throws IOException {
+        StringTable stringTable = new StringTable();
+        stringTable.addAll(methodsInClass.keySet());
+        methodsInClass.values().forEach(stringTable::addAll);
+        stringTable.addAll(fieldsInClass.keySet());
+        for (Set<FieldInfo> classFields : fieldsInClass.values()) {
+            for (FieldInfo field : classFields) {
+                stringTable.add(field.fieldName);
+                stringTable.add(String.join(" ", field.accessModifiers));
+            }
+        }
+        stringTable.addAll(classSuper.keySet());
+        stringTable.addAll(classSuper.values());
+        stringTable.addAll(implementedClass.keySet());
+        implementedClass.values().forEach(stringTable::addAll);
+        stringTable.addAll(implementingClass.keySet());
+        implementingClass.values().forEach(stringTable::addAll);
+        stringTable.addAll(nativeMethods);
+        stringTable.assignIds();
+
+        Path file = Paths.get(dir, FILE_NAME);
+        Path temp = Paths.get(dir, FILE_NAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            stringTable.write(out);
+            writeTable(out, stringTable, methodsInClass, (values, ids) -> values.forEach(v -> ids.add(stringTable.idOf(v))), true);
+            writeTable(out, stringTable, fieldsInClass, (values, ids) -> {
+                // Sorted by name then modifiers so that the file does not depend on the order of the set
+                List<int[]> pairs = new ArrayList<>();
+                for (FieldInfo field : values) {
+                    pairs.add(new int[]{stringTable.idOf(field.fieldName), stringTable.idOf(String.join(" ", field.accessModifiers))});
+                }
+                pairs.sort((a, b) -> (a[0] != b[0])? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+                for (int[] pair : pairs) {
+                    ids.add(pair[0]);
+                    ids.add(pair[1]);
+                }
+            }, false);
+            writeTable(out, stringTable, implementedClass, (values, ids) -> values.forEach(v -> ids.add(stringTable.idOf(v))), true);
+            writeTable(out, stringTable, implementingClass, (values, ids) -> values.forEach(v -> ids.add(stringTable.idOf(v))), true);
+
+            int[] superKeys = sortedIds(stringTable, classSuper.keySet());
+            out.writeInt(superKeys.length);
+            for (int key : superKeys) {
+                out.writeInt(key);
+            }
+            for (int key : superKeys) {
+                out.writeInt(stringTable.idOf(classSuper.get(stringTable.stringOf(key))));
+            }
+
+            int[] nativeIds = sortedIds(stringTable, nativeMethods);
+            out.writeInt(nativeIds.length);
+            for (int id : nativeIds) {
+                out.writeInt(id);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private interface ValueWriter<T> {
+        void addIds(Set<T> values, List<Integer> ids);
+    }
+
+    private static <T> void writeTable(DataOutputStream out, StringTable stringTable, Map<String, Set<T>> map, ValueWriter<T> valueWriter, boolean sortValues) throws IOException {
+        int[] keys = sortedIds(stringTable, map.keySet());
+        List<Integer> values = new ArrayList<>();
+        int[] offsets = new int[keys.length + 1];
+        for (int i = 0; i < keys.length; i++) {
+            List<Integer> ids = new ArrayList<>();
+            valueWriter.addIds(map.get(stringTable.stringOf(keys[i])), ids);
+            if (sortValues) {
+                ids.sort(null);
+            }
+            values.addAll(ids);
+            offsets[i + 1] = values.size();
+        }
+        out.writeInt(keys.length);
+        for (int key : keys) {
+            out.writeInt(key);
+        }
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] sortedIds(StringTable stringTable, Collection<String> strings) {
+        int[] ids = new int[strings.size()];
+        int i = 0;
+        for (String string : strings) {
+            ids[i++] = stringTable.idOf(string);
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static class StringTable {
+        private final Set<String> strings = new HashSet<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+        private byte[][] sorted;
+
+        void add(String string) {
+            strings.add(string);
+        }
+
+        void addAll(Collection<String> strings) {
+            this.strings.addAll(strings);
+        }
+
+        void assignIds() {
+            sorted = new byte[strings.size()][];
+            int i = 0;
+            for (String string : strings) {
+                sorted[i++] = string.getBytes(StandardCharsets.UTF_8);
+            }
+            Arrays.sort(sorted, ClassAnalysisStore::compareBytes);
+            for (i = 0; i < sorted.length; i++) {
+                ids.put(new String(sorted[i], StandardCharsets.UTF_8), i);
+            }
+        }
+
+        int idOf(String string) {
+            return ids.get(string);
+        }
+
+        String stringOf(int id) {
+            return new String(sorted[id], StandardCharsets.UTF_8);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(sorted.length);
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] bytes : sorted) {
+                offset += bytes.length;
+                out.writeInt(offset);
+            }
+            for (byte[] bytes : sorted) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static int compareBytes(byte[] a, byte[] b) {
+        int common = Math.min(a.length, b.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+}
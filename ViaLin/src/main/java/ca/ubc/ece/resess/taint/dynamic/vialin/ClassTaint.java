@@ -3,8 +3,6 @@ package ca.ubc.ece.resess.taint.dynamic.vialin;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,7 +12,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.json.simple.*;
 
 
@@ -31,22 +33,57 @@ public class ClassTaint extends TaintAnalysis {
     private String outDir;
     private List<String> smaliFiles;
     private final Map<String, JSONObject> classToMethodIndexMap;
+    private final Map<String, Map<String, Set<String>>> classToModeledMethodsMap;
+    private final int jobs;
+    // Null when every method that passes shouldTaint is instrumented
+    private TaintReachability reachability = null;
 
 
     public ClassTaint(TaintTool tool, List<String> smaliFiles, String frameworkAnalysisDir, boolean isFramework, String outDir) {
+        this(tool, smaliFiles, frameworkAnalysisDir, isFramework, outDir, 1);
+    }
+
+    public ClassTaint(TaintTool tool, List<String> smaliFiles, String frameworkAnalysisDir, boolean isFramework, String outDir, int jobs) {
+        this(tool, smaliFiles, new ClassAnalysis(frameworkAnalysisDir, outDir), isFramework, outDir, jobs);
+    }
+
+    /**
+     * Creates a ClassTaint over a class analysis that already covers {@code smaliFiles},
+     * in which case {@link #analyze()} does not need to be called.
+     */
+    public ClassTaint(TaintTool tool, List<String> smaliFiles, ClassAnalysis classAnalysis, boolean isFramework, String outDir, int jobs) {
         this.tool = tool;
         this.smaliFiles = smaliFiles;
-        this.classAnalysis = new ClassAnalysis(frameworkAnalysisDir, outDir);
-        this.classToMethodIndexMap = new HashMap<>();
+        this.classAnalysis = classAnalysis;
+        this.classToMethodIndexMap = new ConcurrentHashMap<>();
+        this.classToModeledMethodsMap = new ConcurrentHashMap<>();
         this.statistics = new Statistics();
         this.isFramework = isFramework;
         this.outDir = outDir;
+        this.jobs = jobs;
+    }
+
+    @Override
+    public void setSmaliStore(SmaliStore smaliStore) {
+        super.setSmaliStore(smaliStore);
+        classAnalysis.setSmaliStore(smaliStore);
+    }
+
+    /**
+     * Instruments only the methods a reachability pre-pass found can lie on a flow from a source to a sink.
+     */
+    public void setReachability(TaintReachability reachability) {
+        this.reachability = reachability;
     }
 
     @Override
     public void addTaint() {
-        for (String file : smaliFiles) {
-            addTaintToClassFile(file);
+        if (jobs <= 1) {
+            for (String file : smaliFiles) {
+                addTaintToClassFile(file);
+            }
+        } else {
+            addTaintInParallel();
         }
         if (!smaliFiles.isEmpty()) {
             saveDexInfo();
@@ -54,12 +91,33 @@ public class ClassTaint extends TaintAnalysis {
         statistics.print();
     }
 
+    /**
+     * Instruments the class files on a fork-join pool of {@code jobs} workers.
+     * Each class file is rewritten independently, the class analysis is read-only
+     * at this point, and the state shared between classes is thread-safe, so the
+     * output is the same as the serial loop.
+     */
+    private void addTaintInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(jobs);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(smaliFiles.size());
+            for (String file : smaliFiles) {
+                tasks.add(pool.submit(() -> addTaintToClassFile(file)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private void addTaintToClassFile(String file) {
+    void addTaintToClassFile(String file) {
 
         List<String> classLines;
         try {
-            classLines = Files.readAllLines(Paths.get(file));
+            classLines = smaliStore.readLines(file);
         } catch (IOException e) {
             throw new Error("Cannot open class file: " + file);
         }
@@ -79,11 +137,14 @@ public class ClassTaint extends TaintAnalysis {
         classToMethodIndexMap.put(className, classIndex);
 
         InstrumentationContext context = new InstrumentationContext();
+        classToModeledMethodsMap.put(className, context.modeledMethodsInClass);
 
         boolean inAnnon = false;
         Deque<String> tryCatches = new ArrayDeque<>();
         String lastCalled = null;
         JSONObject methodIndex = null;
+        int methodStart = 0;
+        int originalMethodStart = 0;
 
         List<String> linesToAddAtMethodEnd = new ArrayList<>();
 
@@ -144,12 +205,15 @@ public class ClassTaint extends TaintAnalysis {
                     lastCalled = handleMethodCallOperation(classLines, className, context, lastCalled, linesToAddAtMethodEnd,
                             lineNum, line, linesToAdd, inTryBlock);
                 } else if (context.currentMethod != null && line.startsWith("    .registers")) {
-                    handleMethodStart(context, methodIndex, line, linesToAdd);
+                    handleMethodStart(classLines, lineNum, context, methodIndex, linesToAdd);
                 } else if (line.startsWith(".method")) {
+                    methodStart = context.taintedClassLines.size();
+                    originalMethodStart = lineNum;
                     if (!line.contains(" native ")) {
                         context.currentMethod = getMethodInfo(className, line);
                         context.maxRegs = 0;
-                        boolean shouldTaintMethod = shouldTaint(context.currentMethod, lineNum, classLines);
+                        boolean shouldTaintMethod = shouldTaint(context.currentMethod, lineNum, classLines)
+                            && (reachability == null || reachability.isRelevant(context.currentMethod.signature()));
                         if (!shouldTaintMethod) {
                             context.currentMethod = null;
                             statistics.addNotTainted();
@@ -170,6 +234,21 @@ public class ClassTaint extends TaintAnalysis {
                     linesToAdd.addAll(linesToAddAtMethodEnd);
                     linesToAdd.add(line);
                     linesToAddAtMethodEnd.clear();
+                    if (context.currentMethod != null && context.currentMethod.getBaseNumRegs() != null
+                            && (TaintCodeOptimizer.ENABLED || MethodCostReport.ENABLED)) {
+                        context.taintedClassLines.addAll(linesToAdd);
+                        linesToAdd.clear();
+                        List<String> methodLines = context.taintedClassLines.subList(methodStart, context.taintedClassLines.size());
+                        if (TaintCodeOptimizer.ENABLED) {
+                            int removedLines = TaintCodeOptimizer.optimize(methodLines, context.currentMethod.getBaseNumRegs(),
+                                    context.currentMethod.getNumBaseParams());
+                            statistics.addRemovedTaintLines(removedLines);
+                        }
+                        if (MethodCostReport.ENABLED) {
+                            MethodCostReport.add(context.currentMethod.signature(), classLines.subList(originalMethodStart, lineNum + 1),
+                                    methodLines);
+                        }
+                    }
                     context.currentMethod = null;
                     lastCalled = null;
                     debug = false;
@@ -200,72 +279,81 @@ public class ClassTaint extends TaintAnalysis {
 
                         linesToAdd.add(line);
 
-                        if (isNop(instruction)) {
-                            // pass
-                        } else if (isMove(instruction) || isMoveFrom16(instruction) || isMove16(instruction) ||
-                            isMoveWide(instruction) || isMoveWideFrom16(instruction) || isMoveWide16(instruction) ||
-                            isMoveObject(instruction) || isMoveObjectFrom16(instruction) || isMoveObject16(instruction)) {
-                            handleMoveOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isMoveResult(instruction) || isMoveResultWide(instruction) || isMoveResultObject(instruction)) {
-                            lastCalled = handleMoveResultOperation(classLines, className, context, lastCalled,
-                                    linesToAddAtMethodEnd, lineNum, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isMoveException(instruction)) {
-                            handleMoveExceptionOperation(classLines, context, linesToAddAtMethodEnd, lineNum, line, linesToAdd,
-                                    inTryBlock, instruction);
-                        } else if (isReturnVoid(instruction)) {
-                            handleReturnVoidOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock);
-                        } else if (isReturn(instruction) || isReturnWide(instruction) || isReturnObject(instruction)) {
-                            handleReturnOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isConst4(instruction) || isConst16(instruction) || isConst(instruction) || isConstHigh16(instruction) ||
-                                isConstWide16(instruction) || isConstWide32(instruction) || isConstWide(instruction) || isConstWideHigh16(instruction) ||
-                                isConstString(instruction) || isConstStringJumbo(instruction) || isConstClass(instruction)) {
-                                    handleConstAssignOperation(context, line, linesToAdd, instruction);
-                        } else if (isMonitorEnter(instruction) || isMonitorExit(instruction)) {
-                            // pass
-                        } else if (isCheckCast(instruction)) {
-                            handleCheckCastOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isInstanceOf(instruction) || isArrayLength(instruction)) {
-                            handleInstanceArrayOperations(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isNewInstance(instruction) || isNewArray(instruction)) {
-                            handleConstOperation(context, line, linesToAdd);
-                        } else if (isFilledNewArray(instruction) || isFilledNewArrayRange(instruction) || isFillArrayData(instruction)) {
-                            // pass
-                        } else if (isThrow(instruction)) {
-                            handleThrowOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isGoto(instruction) || isGoto16(instruction) || isGoto32(instruction)) {
-                            context.erasedTaintRegs.clear();
-                        } else if (isPackedSwitch(instruction) || isSparseSwitch(instruction)) {
-                            // pass
-                        } else if (isCmpkind(instruction)) {
-                            handleConstOperation(context, line, linesToAdd);
-                        } else if (isIfTest(instruction) || isIfTestz(instruction)) {
-                            // pass
-                        } else if (isArrayOp(instruction)) {
-                            handleArrayOperation(classLines, context, linesToAddAtMethodEnd, lineNum, line, linesToAdd,
-                                    inTryBlock, instruction);
-                        } else if (isIinstanceOp(instruction)) {
-                            handleInstanceFieldOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isSstaticOp(instruction)) {
-                            handleStaticFieldOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isInvokeKind(instruction) || isInvokeKindRange(instruction) ||
-                            isInvokePolymorphic(instruction) || isInvokePolymorphicRange(instruction) ||
-                            isInvokeCustom(instruction) || isInvokeCustomRange(instruction)) {
-                            throw new Error("Invokes are handled in a separate branch");
-                        } else if (isUnOp(instruction)) {
-                            handleUnaryOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock, instruction);
-                        } else if (isBinOp(instruction)) {
-                            handleBinaryOperation(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock,
-                                    instruction);
-                        } else if (isBinOp2addr(instruction)) {
-                            handleBinaryOperationTwoAddr(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock,
-                                    instruction);
-                        } else if (isBinOpLit16(instruction) || isBinOpLit8(instruction)) {
-                            handleBinaryOperationLiteral(context, linesToAddAtMethodEnd, line, linesToAdd, inTryBlock,
-                                    instruction);
-                        } else if (isConstMethodHandle(instruction) || isConstMethodType(instruction)) {
-                            handleConstOperation(context, line, linesToAdd);
-                        } else {
-                            throw new Error("Invalid instruction: " + line);
+                        SmaliInstruction insn = SmaliInstruction.parse(line);
+                        switch (insn.getKind()) {
+                            case NOP:
+                            case MONITOR:
+                            case FILL_ARRAY:
+                            case SWITCH:
+                            case IF_TEST:
+                            case IF_TESTZ:
+                                // pass
+                                break;
+                            case MOVE:
+                                handleMoveOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case MOVE_RESULT:
+                                lastCalled = handleMoveResultOperation(classLines, className, context, lastCalled,
+                                        linesToAddAtMethodEnd, lineNum, insn, linesToAdd, inTryBlock);
+                                break;
+                            case MOVE_EXCEPTION:
+                                handleMoveExceptionOperation(classLines, context, linesToAddAtMethodEnd, lineNum, insn, linesToAdd,
+                                        inTryBlock);
+                                break;
+                            case RETURN_VOID:
+                                handleReturnVoidOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case RETURN:
+                                handleReturnOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case CONST:
+                                handleConstAssignOperation(context, insn, linesToAdd);
+                                break;
+                            case CHECK_CAST:
+                                handleCheckCastOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case INSTANCE_OF:
+                            case ARRAY_LENGTH:
+                                handleInstanceArrayOperations(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case NEW_INSTANCE:
+                            case NEW_ARRAY:
+                            case CMP:
+                            case CONST_METHOD:
+                                handleConstOperation(context, insn, linesToAdd);
+                                break;
+                            case THROW:
+                                handleThrowOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case GOTO:
+                                context.erasedTaintRegs.clear();
+                                break;
+                            case ARRAY_OP:
+                                handleArrayOperation(classLines, context, linesToAddAtMethodEnd, lineNum, insn, linesToAdd,
+                                        inTryBlock);
+                                break;
+                            case INSTANCE_OP:
+                                handleInstanceFieldOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case STATIC_OP:
+                                handleStaticFieldOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case INVOKE:
+                                throw new Error("Invokes are handled in a separate branch");
+                            case UN_OP:
+                                handleUnaryOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case BIN_OP:
+                                handleBinaryOperation(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case BIN_OP_2ADDR:
+                                handleBinaryOperationTwoAddr(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            case BIN_OP_LIT:
+                                handleBinaryOperationLiteral(context, linesToAddAtMethodEnd, insn, linesToAdd, inTryBlock);
+                                break;
+                            default:
+                                throw new Error("Invalid instruction: " + line);
                         }
                     }
                 }
@@ -276,7 +364,7 @@ public class ClassTaint extends TaintAnalysis {
         context.taintedClassLines.addAll(context.extraTaintMethods);
 
         try {
-            Files.write(Paths.get(file), context.taintedClassLines);
+            smaliStore.write(file, context.taintedClassLines);
         } catch (IOException e) {
             throw new Error("Cannot modify class file: " + file);
         }
@@ -335,10 +423,10 @@ public class ClassTaint extends TaintAnalysis {
     }
 
     @SuppressWarnings("unchecked")
-    private void handleMethodStart(InstrumentationContext context, JSONObject methodIndex, String line,
+    private void handleMethodStart(List<String> classLines, int lineNum, InstrumentationContext context, JSONObject methodIndex,
             List<String> linesToAdd) {
         methodIndex.put(context.methodDelta, context.currentMethod.signature());
-        addTaintRegisters(line, linesToAdd, context.currentMethod);
+        SortedSet<Integer> taintedRegs = addTaintRegisters(classLines, lineNum, linesToAdd, context.currentMethod);
         int threadRegInt = context.currentMethod.getBaseNumRegs();
         context.threadReg = "v" + threadRegInt;
         int signatureRegisterInt;
@@ -354,14 +442,21 @@ public class ClassTaint extends TaintAnalysis {
         context.signatureRegister = "v" + signatureRegisterInt;
         context.deltaReg = "v" + deltaRegInt;
         int firstTaintReg = deltaRegInt + 1;
-        context.timerRegister = firstTaintReg + context.currentMethod.getNumBaseLocalRegs() + context.currentMethod.getNumBaseParams() + 2;
-        context.taintTempReg = context.timerRegister + 2;
+        int numTaintRegs = createTaintTargRegMap(taintedRegs, context.taintRegMap, firstTaintReg);
+        context.timerRegister = firstTaintReg + numTaintRegs + 1;
+        if (PACKED_PARAM_TAINT && context.timerRegister + 3 <= 255 && passesParamTaints(classLines, lineNum, context.currentMethod)) {
+            // The array and the index are operands of aput and aget, so they must be below 256
+            context.paramArrayReg = "v" + (context.timerRegister + 2);
+            context.paramIndexReg = "v" + (context.timerRegister + 3);
+            context.taintTempReg = context.timerRegister + 4;
+        } else {
+            context.paramArrayReg = null;
+            context.paramIndexReg = null;
+            context.taintTempReg = context.timerRegister + 2;
+        }
         context.maxRegs = context.taintTempReg + 2;
 
 
-
-        createTaintTargRegMap(context.currentMethod, context.taintRegMap, firstTaintReg);
-
         String regToUseForInit = "v0";
 
         String v0MoveInstruction = moveParamsToRegs(context.currentMethod, context.newParams, linesToAdd, regToUseForInit);
@@ -377,21 +472,41 @@ public class ClassTaint extends TaintAnalysis {
             initSignatureReg(context.currentMethod, context.signatureRegister, linesToAdd, regToUseForInit);
         }
 
-        getParamTaintsAtMethodStart(tool, context.currentMethod, context.threadReg, context.taintRegMap, linesToAdd, regToUseForInit);
+        if (context.paramArrayReg != null) {
+            initParamArrayReg(tool, context.paramArrayReg, linesToAdd, getRegNumFromRef(context.paramArrayReg), regToUseForInit);
+        }
+
+        getParamTaintsAtMethodStart(tool, context.currentMethod, context.threadReg, context.taintRegMap, linesToAdd, regToUseForInit,
+                context.paramArrayReg, context.paramIndexReg);
 
         createFromParcelAtMethodStart(tool, context.currentMethod, context.taintRegMap, linesToAdd, context.threadReg);
 
-        initTaintRegs(tool, context.currentMethod, context.taintTempReg, context.taintRegMap, linesToAdd, firstTaintReg, regToUseForInit,
+        initTaintRegs(tool, context.currentMethod, context.taintTempReg, context.taintRegMap, linesToAdd, regToUseForInit,
                 v0MoveInstruction, alreadyMovedV0, context.erasedTaintRegs);
 
         handleThreadingAtMethodStart(tool, context.currentMethod, context.taintRegMap, linesToAdd);
     }
 
-    private void handleMoveOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    /**
+     * Checks whether a method gets parameter taints or makes calls, the methods that use the parameter array.
+     */
+    private boolean passesParamTaints(List<String> classLines, int lineNum, MethodInfo methodInfo) {
+        if (!methodInfo.getParams().isEmpty()) {
+            return true;
+        }
+        for (int i = lineNum + 1; i < classLines.size() && !classLines.get(i).startsWith(".end method"); i++) {
+            if (classLines.get(i).startsWith("    invoke")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handleMoveOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
         if (context.erasedTaintRegs.contains(taintSrcReg) && context.taintTempReg < 255) {
@@ -399,7 +514,7 @@ public class ClassTaint extends TaintAnalysis {
             linesToAdd.remove(linesToAdd.size()-1);
             linesToAdd.add("    # Removed taint proapgation from " + taintSrcReg + " to " + taintTargReg);
             addEraseTaint(linesToAdd, "v" + context.taintTempReg, taintTargReg, context.erasedTaintRegs);
-            linesToAdd.add(line);
+            linesToAdd.add(insn.getLine());
         } else {
             context.erasedTaintRegs.remove(taintTargReg);
             String jumpTarget = null;
@@ -416,9 +531,9 @@ public class ClassTaint extends TaintAnalysis {
             }
 
             context.maxRegs = handleOneSourceOneDest(tool,
-                taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintSrcReg, context);
+                taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintSrcReg, context);
 
-            if (targetIsWide(instruction)) {
+            if (targetIsWide(insn.getName())) {
                 addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
             }
 
@@ -430,13 +545,13 @@ public class ClassTaint extends TaintAnalysis {
         }
 
         context.fieldArraysInMethod.remove(targetReg);
-        getRegTypeForMoves(context.regType, instruction, targetReg);
+        getRegTypeForMoves(context.regType, insn.getName(), targetReg);
     }
 
     private String handleMoveResultOperation(List<String> classLines, String className, InstrumentationContext context,
-            String lastCalled, List<String> linesToAddAtMethodEnd, int lineNum, String line, List<String> linesToAdd,
-            boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+            String lastCalled, List<String> linesToAddAtMethodEnd, int lineNum, SmaliInstruction insn, List<String> linesToAdd,
+            boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         context.erasedTaintRegs.remove(taintTargReg);
@@ -458,19 +573,19 @@ public class ClassTaint extends TaintAnalysis {
         context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
         if (shouldModelMethod(lastCalled)) {
-            context.maxRegs = addPropagateReturnTaint(tool, taintAdditionSite, taintTargReg, targetReg, instruction, context);
+            context.maxRegs = addPropagateReturnTaint(tool, taintAdditionSite, taintTargReg, targetReg, insn.getName(), context);
         } else {
-            addGetReturnTaint(tool, taintAdditionSite, taintTargReg, targetReg, instruction, context);
+            addGetReturnTaint(tool, taintAdditionSite, taintTargReg, targetReg, insn.getName(), context);
         }
 
 
         newMaxRegs = injectTaintSeed(tool, lastCalled, taintAdditionSite, context.taintTempReg+1, taintTargReg, className, context);
         context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
-        newMaxRegs = injectTaintSeedByReflectionAtMoveResult(tool, line, lastCalled, taintAdditionSite, context);
+        newMaxRegs = injectTaintSeedByReflectionAtMoveResult(tool, insn.getLine(), lastCalled, taintAdditionSite, context);
         context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
-        if (targetIsWide(instruction)) {
+        if (targetIsWide(insn.getName())) {
             addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
         }
 
@@ -482,14 +597,13 @@ public class ClassTaint extends TaintAnalysis {
         lastCalled = null;
         context.fieldArraysInMethod.remove(targetReg);
 
-        getRegTypeForMoveResults(context.regType, instruction, targetReg);
+        getRegTypeForMoveResults(context.regType, insn.getName(), targetReg);
         return lastCalled;
     }
 
     private void handleMoveExceptionOperation(List<String> classLines, InstrumentationContext context,
-            List<String> linesToAddAtMethodEnd, int lineNum, String line, List<String> linesToAdd, boolean inTryBlock,
-            String instruction) {
-        String targetReg = getRegReference(line, 1);
+            List<String> linesToAddAtMethodEnd, int lineNum, SmaliInstruction insn, List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         context.erasedTaintRegs.remove(taintTargReg);
@@ -511,7 +625,7 @@ public class ClassTaint extends TaintAnalysis {
                 taintAdditionSite = linesToAdd;
             }
 
-            addGetExceptionTaint(tool, taintAdditionSite, taintTargReg, targetReg, instruction, context);
+            addGetExceptionTaint(tool, taintAdditionSite, taintTargReg, targetReg, insn.getName(), context);
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
             } else {
@@ -522,7 +636,7 @@ public class ClassTaint extends TaintAnalysis {
         }
     }
 
-    private void handleReturnVoidOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
+    private void handleReturnVoidOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
             List<String> linesToAdd, boolean inTryBlock) {
         linesToAdd.clear();
         String jumpTarget = null;
@@ -544,13 +658,13 @@ public class ClassTaint extends TaintAnalysis {
         } else {
             // TaintDroid
         }
-        linesToAdd.add(line);
+        linesToAdd.add(insn.getLine());
     }
 
-    private void handleReturnOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
+    private void handleReturnOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
         linesToAdd.clear();
-        String targetReg = getRegReference(line, 1);
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         context.erasedTaintRegs.remove(taintTargReg);
@@ -567,7 +681,7 @@ public class ClassTaint extends TaintAnalysis {
         } else {
             taintAdditionSite = linesToAdd;
         }
-        int newMaxRegs = handleReturn(tool, line, taintAdditionSite, instruction, context);
+        int newMaxRegs = handleReturn(tool, insn.getLine(), taintAdditionSite, insn.getName(), context);
         context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
 
@@ -575,27 +689,26 @@ public class ClassTaint extends TaintAnalysis {
             addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
         } else {
         }
-        linesToAdd.add(line);
+        linesToAdd.add(insn.getLine());
     }
 
-    private void handleConstAssignOperation(InstrumentationContext context, String line, List<String> linesToAdd,
-            String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleConstAssignOperation(InstrumentationContext context, SmaliInstruction insn, List<String> linesToAdd) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         linesToAdd.remove(linesToAdd.size()-1);
         addEraseTaint(linesToAdd, targetReg, taintTargReg, context.erasedTaintRegs);
-        linesToAdd.add(line);
+        linesToAdd.add(insn.getLine());
         // taintTempReg = maxRegs;
 
         context.fieldArraysInMethod.remove(targetReg);
 
-        getRegTypeForConstants(context.regType, instruction, targetReg);
+        getRegTypeForConstants(context.regType, insn.getName(), targetReg);
     }
 
-    private void handleCheckCastOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleCheckCastOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         if (context.erasedTaintRegs.contains(taintTargReg)) {
@@ -603,7 +716,7 @@ public class ClassTaint extends TaintAnalysis {
             linesToAdd.remove(linesToAdd.size()-1);
             linesToAdd.add("    # Removed taint proapgation from " + taintTargReg + " to " + taintTargReg);
             addEraseTaint(linesToAdd, targetReg, taintTargReg, context.erasedTaintRegs);
-            linesToAdd.add(line);
+            linesToAdd.add(insn.getLine());
         } else {
             context.erasedTaintRegs.remove(taintTargReg);
             String jumpTarget = null;
@@ -620,7 +733,7 @@ public class ClassTaint extends TaintAnalysis {
             }
 
             context.maxRegs = handleOneSourceOneDest(tool,
-                taintAdditionSite, instruction, targetReg, targetReg, taintTargReg, taintTargReg, context);
+                taintAdditionSite, insn.getName(), targetReg, targetReg, taintTargReg, taintTargReg, context);
             if (inTryBlock && tool instanceof ViaLinTool) {
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
             } else {
@@ -632,12 +745,12 @@ public class ClassTaint extends TaintAnalysis {
         getRegTypeForObject(context.regType, targetReg);
     }
 
-    private void handleInstanceArrayOperations(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleInstanceArrayOperations(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
         if (context.erasedTaintRegs.contains(taintSrcReg)) {
@@ -646,7 +759,7 @@ public class ClassTaint extends TaintAnalysis {
             linesToAdd.add("    # Removed taint proapgation from " + taintSrcReg + " to " + taintTargReg);
             String eraseTempReg = getRegNumFromRef(targetReg) < getRegNumFromRef(srcReg)? targetReg : srcReg;
             addEraseTaint(linesToAdd, eraseTempReg, taintTargReg, context.erasedTaintRegs);
-            linesToAdd.add(line);
+            linesToAdd.add(insn.getLine());
         } else {
             context.erasedTaintRegs.remove(taintTargReg);
             String jumpTarget = null;
@@ -663,7 +776,7 @@ public class ClassTaint extends TaintAnalysis {
             }
 
             context.maxRegs = handleOneSourceOneDest(tool,
-                taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintSrcReg, context);
+                taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintSrcReg, context);
 
             if (inTryBlock && tool instanceof ViaLinTool) {
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
@@ -674,16 +787,16 @@ public class ClassTaint extends TaintAnalysis {
 
 
         context.fieldArraysInMethod.remove(targetReg);
-        if (isArrayLength(instruction)) {
+        if (insn.getKind() == SmaliInstruction.Kind.ARRAY_LENGTH) {
             context.regType.put(targetReg, "I");
         } else {
             getRegTypeForObject(context.regType, targetReg);
         }
     }
 
-    private void handleThrowOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleThrowOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         linesToAdd.clear();
@@ -703,7 +816,7 @@ public class ClassTaint extends TaintAnalysis {
             taintAdditionSite = linesToAdd;
         }
 
-        int newMaxRegs = handleThrow(tool, line, taintAdditionSite, instruction, context);
+        int newMaxRegs = handleThrow(tool, insn.getLine(), taintAdditionSite, insn.getName(), context);
         context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
         if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
@@ -711,32 +824,31 @@ public class ClassTaint extends TaintAnalysis {
         } else {
             // TaintDroid
         }
-        linesToAdd.add(line);
+        linesToAdd.add(insn.getLine());
     }
 
     private void handleArrayOperation(List<String> classLines, InstrumentationContext context,
-            List<String> linesToAddAtMethodEnd, int lineNum, String line, List<String> linesToAdd, boolean inTryBlock,
-            String instruction) {
-        String targetReg = getRegReference(line, 1);
+            List<String> linesToAddAtMethodEnd, int lineNum, SmaliInstruction insn, List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
-        if (instruction.startsWith("aget") && context.erasedTaintRegs.contains(taintSrcReg)) {
+        if (insn.getName().startsWith("aget") && context.erasedTaintRegs.contains(taintSrcReg)) {
             context.erasedTaintRegs.add(taintTargReg);
             linesToAdd.add("    # Removed taint proapgation from " + taintSrcReg + " to " + taintTargReg);
             String eraseTempReg = getRegNumFromRef(targetReg) < getRegNumFromRef(srcReg)? targetReg : srcReg;
 
             if (getRegNumFromRef(taintTargReg) > 255) {
-                String moveInstruction = getMoveByInstruction(instruction);
+                String moveInstruction = getMoveByInstruction(insn.getName());
                 linesToAdd.add("    " + moveInstruction + " v" + context.taintTempReg + ", " + eraseTempReg);
             }
 
             addEraseTaint(linesToAdd, eraseTempReg, taintTargReg, context.erasedTaintRegs);
 
             if (getRegNumFromRef(taintTargReg) > 255) {
-                String moveInstruction = getMoveByInstruction(instruction);
+                String moveInstruction = getMoveByInstruction(insn.getName());
                 linesToAdd.add("    " + moveInstruction + " " + eraseTempReg + ", v" + context.taintTempReg);
             }
 
@@ -755,22 +867,22 @@ public class ClassTaint extends TaintAnalysis {
                 taintAdditionSite = linesToAdd;
             }
 
-            if (instruction.startsWith("aput")) {
+            if (insn.getName().startsWith("aput")) {
                 String temp = taintTargReg;
                 taintTargReg = taintSrcReg;
                 taintSrcReg = temp;
                 context.maxRegs = handleTwoSourceOneDest(tool, context.taintTempReg,
-                    taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintTargReg, taintSrcReg, context);
+                    taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintTargReg, taintSrcReg, context);
 
 
                 // Multidimensioanl arrays
                 String prevLine = classLines.get(lineNum-2);
                 String prevInstruction = getToken(prevLine, 0);
                 if (prevInstruction.startsWith("aget")) {
-                    if (getRegReference(line, 2).equals(getRegReference(prevLine, 1))) {
+                    if (insn.getRegister(2).equals(getRegReference(prevLine, 1))) {
 
                         context.maxRegs = handleOneSourceOneDest(tool,
-                            taintAdditionSite, instruction, getRegReference(prevLine, 2), getRegReference(prevLine, 1), context.taintRegMap.get(getRegReference(prevLine, 2)), taintTargReg, context);
+                            taintAdditionSite, insn.getName(), getRegReference(prevLine, 2), getRegReference(prevLine, 1), context.taintRegMap.get(getRegReference(prevLine, 2)), taintTargReg, context);
                     }
                 }
 
@@ -778,18 +890,18 @@ public class ClassTaint extends TaintAnalysis {
                 if (context.fieldArraysInMethod.containsKey(srcReg)) { // srcReg is not the source, but it's the destination array object
                     FieldAccessInfo fieldAccessInfo = context.fieldArraysInMethod.get(srcReg);
                     if (fieldAccessInfo.refType.equals("Static") && fieldAccessInfo.whereIsField != null) {
-                        context.maxRegs = taintSetStaticField(taintAdditionSite, instruction, fieldAccessInfo.fieldName, fieldAccessInfo.fieldType,
+                        context.maxRegs = taintSetStaticField(taintAdditionSite, insn.getName(), fieldAccessInfo.fieldName, fieldAccessInfo.fieldType,
                             fieldAccessInfo.targetReg, fieldAccessInfo.taintTargReg, fieldAccessInfo.whereIsField, context);
                     }
                 }
             } else {
 
                 context.maxRegs = handleOneSourceOneDest(tool,
-                    taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintSrcReg, context);
-                getRegTypeForStructs(context.regType, instruction, targetReg);
+                    taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintSrcReg, context);
+                getRegTypeForStructs(context.regType, insn.getName(), targetReg);
             }
 
-            if (targetIsWide(instruction)) {
+            if (targetIsWide(insn.getName())) {
                 addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
             }
 
@@ -803,23 +915,23 @@ public class ClassTaint extends TaintAnalysis {
         context.fieldArraysInMethod.remove(targetReg);
     }
 
-    private void handleInstanceFieldOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleInstanceFieldOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         context.erasedTaintRegs.remove(taintTargReg);
 
-        if (instruction.startsWith("iget") ) {
+        if (insn.getName().startsWith("iget") ) {
             // linesToAdd.clear();
-            String baseRegRef = getRegReference(line, 2);
+            String baseRegRef = insn.getRegister(2);
 
-            String moveInstruction = getMoveByInstruction(instruction);
+            String moveInstruction = getMoveByInstruction(insn.getName());
 
-            if (targetReg.equals(baseRegRef) || (instruction.equals("iget-wide") && getRegNumFromRef(targetReg) + 1 == getRegNumFromRef(baseRegRef) )) {
+            if (targetReg.equals(baseRegRef) || (insn.getName().equals("iget-wide") && getRegNumFromRef(targetReg) + 1 == getRegNumFromRef(baseRegRef) )) {
                 linesToAdd.clear();
                 linesToAdd.add("    move-object/16 v" + String.valueOf(context.taintTempReg+2) + ", " + baseRegRef);
-                linesToAdd.add(line);
+                linesToAdd.add(insn.getLine());
                 linesToAdd.add("    " + moveInstruction + "/16 v" + String.valueOf(context.taintTempReg) + ", " + targetReg);
                 linesToAdd.add("    move-object/16 " + baseRegRef + ", v" + String.valueOf(context.taintTempReg+2));
             }
@@ -837,18 +949,17 @@ public class ClassTaint extends TaintAnalysis {
                 taintAdditionSite = linesToAdd;
             }
 
-            int newMaxRegs = handleIinstanceOpGet(context.taintTempReg+2, context.maxRegs, context.taintRegMap, context.fieldArraysInMethod, line, taintAdditionSite,
-            instruction, context);
+            int newMaxRegs = handleIinstanceOpGet(context.taintTempReg+2, context.maxRegs, context.taintRegMap, context.fieldArraysInMethod, insn, taintAdditionSite, context);
             context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
 
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
             } else {
             }
-            if (targetReg.equals(baseRegRef) || (instruction.equals("iget-wide") && getRegNumFromRef(targetReg) + 1 == getRegNumFromRef(baseRegRef) )) {
+            if (targetReg.equals(baseRegRef) || (insn.getName().equals("iget-wide") && getRegNumFromRef(targetReg) + 1 == getRegNumFromRef(baseRegRef) )) {
                 linesToAdd.add("    " + moveInstruction + "/16 " + targetReg + ", v" + String.valueOf(context.taintTempReg));
             }
-            getRegTypeForStructs(context.regType, instruction, targetReg);
+            getRegTypeForStructs(context.regType, insn.getName(), targetReg);
         } else { // iput
             String jumpTarget = null;
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
@@ -861,8 +972,7 @@ public class ClassTaint extends TaintAnalysis {
             } else {
                 taintAdditionSite = linesToAdd;
             }
-            int newMaxRegs = handleIinstanceOpPut(context.taintTempReg, context.maxRegs, context.taintRegMap, context.fieldArraysInMethod, line, taintAdditionSite,
-            instruction, context.signatureRegister, context.regType, context);
+            int newMaxRegs = handleIinstanceOpPut(context.taintTempReg, context.maxRegs, context.taintRegMap, context.fieldArraysInMethod, insn, taintAdditionSite, context.signatureRegister, context.regType, context);
             context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
@@ -872,14 +982,14 @@ public class ClassTaint extends TaintAnalysis {
         }
     }
 
-    private void handleStaticFieldOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleStaticFieldOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
         context.erasedTaintRegs.remove(taintTargReg);
 
-        if (instruction.startsWith("sget") ) {
+        if (insn.getName().startsWith("sget") ) {
             linesToAdd.clear();
             String jumpTarget = null;
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
@@ -894,15 +1004,15 @@ public class ClassTaint extends TaintAnalysis {
                 taintAdditionSite = linesToAdd;
             }
 
-            int newMaxRegs = handleSstaticOpGet(line, taintAdditionSite, instruction, context);
+            int newMaxRegs = handleSstaticOpGet(insn, taintAdditionSite, context);
             context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
             } else {
                 // TaintDroid
             }
-            linesToAdd.add(line);
-            getRegTypeForStructs(context.regType, instruction, targetReg);
+            linesToAdd.add(insn.getLine());
+            getRegTypeForStructs(context.regType, insn.getName(), targetReg);
         } else { // sput
             String jumpTarget = null;
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
@@ -917,7 +1027,7 @@ public class ClassTaint extends TaintAnalysis {
                 taintAdditionSite = linesToAdd;
             }
 
-            int newMaxRegs = handleSstaticOpPut(line, taintAdditionSite, instruction, context);
+            int newMaxRegs = handleSstaticOpPut(insn, taintAdditionSite, context);
             context.maxRegs = context.maxOfCurrentMaxRegsAndNewMaxRegs(newMaxRegs);
             if (inTryBlock && (tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) { // special case for exception
                 addTaintCodeReturn(linesToAdd, linesToAddAtMethodEnd, jumpTarget);
@@ -927,11 +1037,11 @@ public class ClassTaint extends TaintAnalysis {
         }
     }
 
-    private void handleUnaryOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleUnaryOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
         if (context.erasedTaintRegs.contains(taintSrcReg)) {
@@ -940,7 +1050,7 @@ public class ClassTaint extends TaintAnalysis {
             linesToAdd.add("    # Removed taint proapgation from " + taintSrcReg + " to " + taintTargReg);
             String eraseTempReg = getRegNumFromRef(targetReg) < getRegNumFromRef(srcReg)? targetReg : srcReg;
             addEraseTaint(linesToAdd, eraseTempReg, taintTargReg, context.erasedTaintRegs);
-            linesToAdd.add(line);
+            linesToAdd.add(insn.getLine());
         } else {
             context.erasedTaintRegs.remove(taintTargReg);
 
@@ -959,8 +1069,8 @@ public class ClassTaint extends TaintAnalysis {
             }
 
             context.maxRegs = handleOneSourceOneDest(tool,
-                taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintSrcReg, context);
-            if (targetIsWide(instruction)) {
+                taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintSrcReg, context);
+            if (targetIsWide(insn.getName())) {
                 addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
             }
             if (inTryBlock && tool instanceof ViaLinTool) {
@@ -972,14 +1082,14 @@ public class ClassTaint extends TaintAnalysis {
 
         context.fieldArraysInMethod.remove(targetReg);
 
-        getRegTypeForArithmatics(context.regType, instruction, targetReg);
+        getRegTypeForArithmatics(context.regType, insn.getName(), targetReg);
     }
 
-    private void handleBinaryOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
-        String firstSrcReg = getRegReference(line, 2);
-        String secondSrcReg = getRegReference(line, 3);
+    private void handleBinaryOperation(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
+        String firstSrcReg = insn.getRegister(2);
+        String secondSrcReg = insn.getRegister(3);
         String taintTargReg = context.taintRegMap.get(targetReg);
         String firstTaintSrcReg = context.taintRegMap.get(firstSrcReg);
         String secondTaintSrcReg = context.taintRegMap.get(secondSrcReg);
@@ -990,7 +1100,7 @@ public class ClassTaint extends TaintAnalysis {
             linesToAdd.add("    # Removed taint proapgation from " + firstTaintSrcReg + " and " + secondTaintSrcReg + " to " + taintTargReg);
             String eraseTempReg = getRegNumFromRef(targetReg) < getRegNumFromRef(firstSrcReg)? targetReg : firstSrcReg;
             addEraseTaint(linesToAdd, eraseTempReg, taintTargReg, context.erasedTaintRegs);
-            linesToAdd.add(line);
+            linesToAdd.add(insn.getLine());
         } else {
             context.erasedTaintRegs.remove(taintTargReg);
 
@@ -1009,9 +1119,9 @@ public class ClassTaint extends TaintAnalysis {
             }
 
             context.maxRegs = handleTwoSourceOneDest(tool, context.taintTempReg,
-                taintAdditionSite, instruction, targetReg, getRegReference(line, 2), taintTargReg, firstTaintSrcReg, secondTaintSrcReg, context);
+                taintAdditionSite, insn.getName(), targetReg, insn.getRegister(2), taintTargReg, firstTaintSrcReg, secondTaintSrcReg, context);
 
-            if (targetIsWide(instruction)) {
+            if (targetIsWide(insn.getName())) {
                 addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
             }
 
@@ -1022,16 +1132,16 @@ public class ClassTaint extends TaintAnalysis {
             }
         }
 
-        context.fieldArraysInMethod.remove(getRegReference(line, 1));
+        context.fieldArraysInMethod.remove(insn.getRegister(1));
 
-        getRegTypeForArithmatics(context.regType, instruction, targetReg);
+        getRegTypeForArithmatics(context.regType, insn.getName(), targetReg);
     }
 
-    private void handleBinaryOperationTwoAddr(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleBinaryOperationTwoAddr(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
         String jumpTarget = null;
@@ -1051,9 +1161,9 @@ public class ClassTaint extends TaintAnalysis {
         }
 
         context.maxRegs = handleTwoSourceOneDest(tool, context.taintTempReg,
-            taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintTargReg, taintSrcReg, context);
+            taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintTargReg, taintSrcReg, context);
 
-        if (targetIsWide(instruction)) {
+        if (targetIsWide(insn.getName())) {
             addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
         }
         if (inTryBlock && tool instanceof ViaLinTool) {
@@ -1063,25 +1173,25 @@ public class ClassTaint extends TaintAnalysis {
         }
         context.fieldArraysInMethod.remove(targetReg);
 
-        getRegTypeForArithmaticsTwoOps(context.regType, instruction, targetReg);
+        getRegTypeForArithmaticsTwoOps(context.regType, insn.getName(), targetReg);
     }
 
-    private void handleConstOperation(InstrumentationContext context, String line, List<String> linesToAdd) {
-        String targetReg = getRegReference(line, 1);
+    private void handleConstOperation(InstrumentationContext context, SmaliInstruction insn, List<String> linesToAdd) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
         linesToAdd.remove(linesToAdd.size()-1);
         addEraseTaint(linesToAdd, targetReg, taintTargReg, context.erasedTaintRegs);
-        linesToAdd.add(line);
+        linesToAdd.add(insn.getLine());
         context.fieldArraysInMethod.remove(targetReg);
         getRegTypeForObject(context.regType, targetReg);
     }
 
-    private void handleBinaryOperationLiteral(InstrumentationContext context, List<String> linesToAddAtMethodEnd, String line,
-            List<String> linesToAdd, boolean inTryBlock, String instruction) {
-        String targetReg = getRegReference(line, 1);
+    private void handleBinaryOperationLiteral(InstrumentationContext context, List<String> linesToAddAtMethodEnd, SmaliInstruction insn,
+            List<String> linesToAdd, boolean inTryBlock) {
+        String targetReg = insn.getRegister(1);
         String taintTargReg = context.taintRegMap.get(targetReg);
 
-        String srcReg = getRegReference(line, 2);
+        String srcReg = insn.getRegister(2);
         String taintSrcReg = context.taintRegMap.get(srcReg);
 
         String jumpTarget = null;
@@ -1101,9 +1211,9 @@ public class ClassTaint extends TaintAnalysis {
         }
 
         context.maxRegs = handleOneSourceOneDest(tool,
-            taintAdditionSite, instruction, targetReg, srcReg, taintTargReg, taintSrcReg, context);
+            taintAdditionSite, insn.getName(), targetReg, srcReg, taintTargReg, taintSrcReg, context);
 
-        if (targetIsWide(instruction)) {
+        if (targetIsWide(insn.getName())) {
             addCopyTaint(tool, taintAdditionSite, "v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1), taintTargReg);
         }
         if (inTryBlock && tool instanceof ViaLinTool) {
@@ -1134,26 +1244,36 @@ public class ClassTaint extends TaintAnalysis {
     }
 
     private void saveDexInfoToDir(String dir) throws Error {
+        for (Map.Entry<String, JSONObject> entry: classToMethodIndexMap.entrySet()) {
+            saveClassInfo(dir, entry.getKey(), entry.getValue().toJSONString());
+        }
+    }
+
+    static void saveClassInfo(String dir, String className, String classInfo) throws Error {
         File infoDir = new File(dir, "class_info");
         if (!infoDir.isDirectory()) {
             infoDir.mkdirs();
         }
-        for (Map.Entry<String, JSONObject> entry: classToMethodIndexMap.entrySet()) {
-            String className = entry.getKey();
-            JSONObject classInfo = entry.getValue();
-            String unixClassName = className.replace("/", "_").replace(";", "") + ".json";
-            File classFile = new File(infoDir, unixClassName);
-            try {
-                FileWriter fileWriter = new FileWriter(classFile);
-                fileWriter.write(classInfo.toJSONString());
-                fileWriter.flush();
-                fileWriter.close();
-            } catch (IOException e) {
-                throw new Error("Cannot save class info: " + classFile);
-            }
+        String unixClassName = className.replace("/", "_").replace(";", "") + ".json";
+        File classFile = new File(infoDir, unixClassName);
+        try {
+            FileWriter fileWriter = new FileWriter(classFile);
+            fileWriter.write(classInfo);
+            fileWriter.flush();
+            fileWriter.close();
+        } catch (IOException e) {
+            throw new Error("Cannot save class info: " + classFile);
         }
     }
 
+    JSONObject getClassInfo(String className) {
+        return classToMethodIndexMap.get(className);
+    }
+
+    Map<String, Set<String>> getModeledMethods(String className) {
+        return classToModeledMethodsMap.get(className);
+    }
+
 
 
 
@@ -1161,17 +1281,18 @@ public class ClassTaint extends TaintAnalysis {
 
 
     private Integer handleIinstanceOpGet(Integer taintTempReg, Integer maxRegs, Map<String, String> taintRegMap,
-            Map<String, FieldAccessInfo> fieldArraysInMethod, String line, List<String> linesToAdd, String instruction, InstrumentationContext context) {
-        String fieldRef = getLastToken(line);
+            Map<String, FieldAccessInfo> fieldArraysInMethod, SmaliInstruction insn, List<String> linesToAdd, InstrumentationContext context) {
+        String instruction = insn.getName();
+        String fieldRef = insn.getReference();
         String fieldType = fieldRef.substring(fieldRef.indexOf(":")+1);
         String fieldClass = getFieldClass(fieldRef);
         String fieldName = getFieldName(fieldRef);
         String taintField = createTaintField(fieldClass, fieldName, fieldType);
-        String targetReg = getRegReference(line, 1);
-        String taintTargReg = taintRegMap.get(getRegReference(line, 1));
+        String targetReg = insn.getRegister(1);
+        String taintTargReg = taintRegMap.get(insn.getRegister(1));
 
-        String baseRegRef = getRegReference(line, 2);
-        String taintBaseReg = taintRegMap.get(getRegReference(line, 2));
+        String baseRegRef = insn.getRegister(2);
+        String taintBaseReg = taintRegMap.get(insn.getRegister(2));
 
 
         String whereIsField = classAnalysis.getClassOfField(fieldClass, fieldName);
@@ -1236,17 +1357,17 @@ public class ClassTaint extends TaintAnalysis {
 
 
     private Integer handleIinstanceOpPut(Integer taintTempReg, Integer maxRegs, Map<String, String> taintRegMap,
-            Map<String, FieldAccessInfo> fieldArraysInMethod, String line, List<String> linesToAdd, String instruction, String signatureRegister, Map<String, String> regType, InstrumentationContext context) {
-        String fieldRef = getLastToken(line);
+            Map<String, FieldAccessInfo> fieldArraysInMethod, SmaliInstruction insn, List<String> linesToAdd, String signatureRegister, Map<String, String> regType, InstrumentationContext context) {
+        String fieldRef = insn.getReference();
         String fieldType = fieldRef.substring(fieldRef.indexOf(":")+1);
         String fieldClass = getFieldClass(fieldRef);
         String fieldName = getFieldName(fieldRef);
         String taintField = createTaintField(fieldClass, fieldName, fieldType);
-        String targetReg = getRegReference(line, 1);
-        String taintTargReg = taintRegMap.get(getRegReference(line, 1));
+        String targetReg = insn.getRegister(1);
+        String taintTargReg = taintRegMap.get(insn.getRegister(1));
 
-        String baseRegRef = getRegReference(line, 2);
-        String taintBaseReg = taintRegMap.get(getRegReference(line, 2));
+        String baseRegRef = insn.getRegister(2);
+        String taintBaseReg = taintRegMap.get(insn.getRegister(2));
 
 
         String whereIsField = classAnalysis.getClassOfField(fieldClass, fieldName);
@@ -1269,27 +1390,27 @@ public class ClassTaint extends TaintAnalysis {
             if (whereIsField == null || isIgnored(whereIsField)) {
 
                 maxRegs = handleTwoSourceOneDest(tool, taintTempReg,
-                        linesToAdd, instruction, targetReg, baseRegRef, taintBaseReg, taintTargReg, taintBaseReg, context);
+                        linesToAdd, insn.getName(), targetReg, baseRegRef, taintBaseReg, taintTargReg, taintBaseReg, context);
             }
 
 
         } else {
             String newLine = "    # TargTaint: " + taintTargReg + ", BaseTaint: " + taintBaseReg;
             linesToAdd.add(newLine);
-            maxRegs = taintSetInstanceField(tool, taintTempReg, maxRegs, linesToAdd, instruction, signatureRegister, fieldName, fieldType, targetReg,
+            maxRegs = taintSetInstanceField(tool, taintTempReg, maxRegs, linesToAdd, insn.getName(), signatureRegister, fieldName, fieldType, targetReg,
                 taintTargReg, baseRegRef, whereIsField, regType, context);
         }
         return maxRegs;
     }
 
-    private Integer handleSstaticOpGet(String line, List<String> linesToAdd, String instruction, InstrumentationContext context) {
-        String fieldRef = getLastToken(line);
+    private Integer handleSstaticOpGet(SmaliInstruction insn, List<String> linesToAdd, InstrumentationContext context) {
+        String fieldRef = insn.getReference();
         String fieldType = fieldRef.substring(fieldRef.indexOf(":")+1);
         String fieldClass = getFieldClass(fieldRef);
         String fieldName = getFieldName(fieldRef);
         String taintField = createTaintField(fieldClass, fieldName, fieldType);
-        String targetReg = getRegReference(line, 1);
-        String taintTargReg = context.taintRegMap.get(getRegReference(line, 1));
+        String targetReg = insn.getRegister(1);
+        String taintTargReg = context.taintRegMap.get(insn.getRegister(1));
 
         String whereIsField = classAnalysis.getClassOfField(fieldClass, fieldName);
 
@@ -1315,8 +1436,8 @@ public class ClassTaint extends TaintAnalysis {
 
 
             context.maxRegs = handleOneSourceOneDest(tool,
-                            linesToAdd, instruction, targetReg, targetReg, taintTargReg, taintTargReg, context);
-            if (targetIsWide(instruction)) {
+                            linesToAdd, insn.getName(), targetReg, targetReg, taintTargReg, taintTargReg, context);
+            if (targetIsWide(insn.getName())) {
                 linesToAdd.add("    " + tool.getMoveTaint() + "/16 v" + String.valueOf(getRegNumFromRef(taintTargReg) + 1) + ", " + taintTargReg);
             }
 
@@ -1325,14 +1446,14 @@ public class ClassTaint extends TaintAnalysis {
     }
 
 
-    private Integer handleSstaticOpPut(String line, List<String> linesToAdd, String instruction, InstrumentationContext context) {
-        String fieldRef = getLastToken(line);
+    private Integer handleSstaticOpPut(SmaliInstruction insn, List<String> linesToAdd, InstrumentationContext context) {
+        String fieldRef = insn.getReference();
         String fieldType = fieldRef.substring(fieldRef.indexOf(":")+1);
         String fieldClass = getFieldClass(fieldRef);
         String fieldName = getFieldName(fieldRef);
         String taintField = createTaintField(fieldClass, fieldName, fieldType);
-        String targetReg = getRegReference(line, 1);
-        String taintTargReg = context.taintRegMap.get(getRegReference(line, 1));
+        String targetReg = insn.getRegister(1);
+        String taintTargReg = context.taintRegMap.get(insn.getRegister(1));
 
         String whereIsField = classAnalysis.getClassOfField(fieldClass, fieldName);
 
@@ -1352,7 +1473,7 @@ public class ClassTaint extends TaintAnalysis {
             String newLine = "    # TargTaint: " + taintTargReg;
             linesToAdd.add(newLine);
 
-            context.maxRegs = taintSetStaticField(linesToAdd, instruction, fieldName, fieldType,
+            context.maxRegs = taintSetStaticField(linesToAdd, insn.getName(), fieldName, fieldType,
                 targetReg, taintTargReg, whereIsField, context);
 
         }
@@ -1451,27 +1572,33 @@ public class ClassTaint extends TaintAnalysis {
      * for taint analysis in a method.
      *
      * This method extracts the base number of registers from the provided line, updates the MethodInfo object
-     * with this information, calculates the new total number of registers (considering additional taint
-     * registers), and then creates a new line reflecting the updated register count. The resulting line is added
-     * to the list of lines to be injected into the bytecode.
+     * with this information, collects the registers of the method that need a taint register, calculates the
+     * new total number of registers (considering additional taint registers), and then creates a new line
+     * reflecting the updated register count. The resulting line is added to the list of lines to be injected
+     * into the bytecode.
      *
-     * @param line        The original line containing register information.
+     * @param classLines  The lines of the class.
+     * @param lineNum     The number of the line containing register information.
      * @param linesToAdd  The list of lines to which the taint register information will be added.
      * @param methodInfo  The MethodInfo object representing information about the current method.
+     * @return The registers that need a taint register.
      */
-    private void addTaintRegisters(String line, List<String> linesToAdd, MethodInfo methodInfo) {
+    private SortedSet<Integer> addTaintRegisters(List<String> classLines, int lineNum, List<String> linesToAdd, MethodInfo methodInfo) {
         // Extract the base number of registers from the provided line
-        Integer baseNumRegs = Integer.parseInt(getLastToken(line));
+        Integer baseNumRegs = Integer.parseInt(getLastToken(classLines.get(lineNum)));
 
         // Update the MethodInfo object with the base number of registers
         methodInfo.setBaseNumRegs(baseNumRegs);
 
+        SortedSet<Integer> taintedRegs = collectTaintedRegs(classLines, lineNum, methodInfo);
+
         // Calculate the new total number of registers (considering additional taint registers)
-        String newRegsLine = "    .registers " + ((methodInfo.getBaseNumRegs()*2) + 3); // 1 site reg, 2 temp regs
+        String newRegsLine = "    .registers " + (methodInfo.getBaseNumRegs() + taintedRegs.size() + 2); // 1 site reg, 2 temp regs
 
         // Clear the existing lines to be added and add the new line reflecting the updated register count
         linesToAdd.clear();
         linesToAdd.add(newRegsLine);
+        return taintedRegs;
     }
 
     /**
@@ -61,7 +61,7 @@ public class Coverage extends TaintAnalysis {
     private void addTaintToClassFile(String file) {
         List<String> classLines;
         try {
-            classLines = Files.readAllLines(Paths.get(file));
+            classLines = smaliStore.readLines(file);
         } catch (IOException e) {
             throw new Error("Cannot open class file: " + file);
         }
@@ -171,7 +171,9 @@ public class Coverage extends TaintAnalysis {
                 } else if (context.currentMethod != null) {
                     String instruction = getToken(line, 0);
 
-                    if (instruction.startsWith(".label") || instruction.startsWith("goto") || instruction.startsWith("if") || instruction.startsWith(":cond") ) {
+                    SmaliInstruction.Kind kind = SmaliInstruction.getKind(instruction);
+                    if (instruction.startsWith(".label") || kind == SmaliInstruction.Kind.GOTO || kind == SmaliInstruction.Kind.IF_TEST
+                            || kind == SmaliInstruction.Kind.IF_TESTZ || instruction.startsWith(":cond")) {
 
 
                         linesToAdd.clear();
@@ -282,7 +284,7 @@ public class Coverage extends TaintAnalysis {
         taintedClassLines.addAll(lineNumberMethods);
 
         try {
-            Files.write(Paths.get(file), taintedClassLines);
+            smaliStore.write(file, taintedClassLines);
         } catch (IOException e) {
             throw new Error("Cannot modify class file: " + file);
         }
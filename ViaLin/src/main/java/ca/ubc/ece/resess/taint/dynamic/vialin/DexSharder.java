@@ -0,0 +1,145 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits instrumented classes into groups that each fit in one dex file.
+ * A dex file can reference at most 65536 methods, fields, types and prototypes, so the references
+ * of every class are collected from its smali text and classes are added to the current group until
+ * one of its reference sets would go over the limit. The references are over-approximated: anything
+ * that looks like a type, a method or a field in the text counts, whether it ends up in the dex or not.
+ */
+public class DexSharder {
+
+    public static final int MAX_REFERENCES = 65536;
+
+    // Primitive and void types, which are not matched by TYPE_REFERENCE when used on their own in a prototype
+    private static final int PRIMITIVE_TYPES = 9;
+
+    private static final String TYPE = "\\[*(?:L[^;\\s]+;|[ZBSCIJFD])";
+    private static final Pattern TYPE_REFERENCE = Pattern.compile("\\[*L[^;\\s]+;|\\[+[ZBSCIJFD]");
+    private static final Pattern METHOD_REFERENCE = Pattern.compile("(" + TYPE + ")->([^\\s(:]+)(\\([^\\s)]*\\)(?:" + TYPE + "|V))");
+    private static final Pattern FIELD_REFERENCE = Pattern.compile("(" + TYPE + ")->([^\\s(:]+):(" + TYPE + ")");
+
+    private final SmaliStore smaliStore;
+    private final int referenceLimit;
+
+    public DexSharder(SmaliStore smaliStore, int referenceLimit) {
+        this.smaliStore = smaliStore;
+        this.referenceLimit = Math.min(referenceLimit, MAX_REFERENCES);
+    }
+
+    /**
+     * Groups the classes, in their order, so that the references of each group fit in one dex file.
+     *
+     * @param smaliFiles The instrumented classes.
+     * @return The groups of classes, one per dex file.
+     */
+    public List<List<String>> shard(List<String> smaliFiles) {
+        List<List<String>> shards = new ArrayList<>();
+        List<String> shard = new ArrayList<>();
+        References shardReferences = new References();
+        for (String smaliFile : smaliFiles) {
+            References classReferences = collectReferences(smaliFile);
+            if (!shard.isEmpty() && !shardReferences.fitsWith(classReferences, referenceLimit)) {
+                shards.add(shard);
+                shard = new ArrayList<>();
+                shardReferences = new References();
+            }
+            shard.add(smaliFile);
+            shardReferences.addAll(classReferences);
+        }
+        if (!shard.isEmpty()) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    private References collectReferences(String smaliFile) {
+        List<String> classLines;
+        try {
+            classLines = smaliStore.readLines(smaliFile);
+        } catch (IOException e) {
+            throw new Error("Cannot open class file: " + smaliFile);
+        }
+
+        References references = new References();
+        String className = null;
+        for (String line : classLines) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith(".class ")) {
+                className = getLastToken(trimmed);
+            } else if (trimmed.startsWith(".method ")) {
+                addMethod(references, className + "->" + getLastToken(trimmed));
+            } else if (trimmed.startsWith(".field ")) {
+                int valueStart = trimmed.indexOf(" = ");
+                String declaration = (valueStart == -1)? trimmed : trimmed.substring(0, valueStart);
+                references.fields.add(className + "->" + getLastToken(declaration));
+            }
+
+            Matcher matcher = METHOD_REFERENCE.matcher(line);
+            while (matcher.find()) {
+                addMethod(references, matcher.group());
+            }
+            matcher = FIELD_REFERENCE.matcher(line);
+            while (matcher.find()) {
+                references.fields.add(matcher.group());
+            }
+            matcher = TYPE_REFERENCE.matcher(line);
+            while (matcher.find()) {
+                references.types.add(matcher.group());
+            }
+        }
+        return references;
+    }
+
+    private static void addMethod(References references, String method) {
+        references.methods.add(method);
+        int protoStart = method.indexOf('(', method.indexOf("->"));
+        if (protoStart != -1) {
+            references.protos.add(method.substring(protoStart));
+        }
+    }
+
+    private static String getLastToken(String line) {
+        String[] tokens = line.split("\\s+");
+        return tokens[tokens.length - 1];
+    }
+
+    private static class References {
+        final Set<String> methods = new HashSet<>();
+        final Set<String> fields = new HashSet<>();
+        final Set<String> types = new HashSet<>();
+        final Set<String> protos = new HashSet<>();
+
+        boolean fitsWith(References other, int limit) {
+            return unionSize(methods, other.methods) <= limit
+                && unionSize(fields, other.fields) <= limit
+                && unionSize(types, other.types) + PRIMITIVE_TYPES <= limit
+                && unionSize(protos, other.protos) <= limit;
+        }
+
+        void addAll(References other) {
+            methods.addAll(other.methods);
+            fields.addAll(other.fields);
+            types.addAll(other.types);
+            protos.addAll(other.protos);
+        }
+
+        private static int unionSize(Set<String> set, Set<String> other) {
+            int size = set.size();
+            for (String element : other) {
+                if (!set.contains(element)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+}
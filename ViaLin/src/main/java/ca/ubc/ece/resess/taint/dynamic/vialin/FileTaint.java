@@ -200,7 +200,7 @@ public class FileTaint extends TaintAnalysis {
                     if (getRegNumFromRef(returnTaintReg) > 255) {
                         linesToAdd.add("    move-object/16 v" + taintTempReg + ", " + passedRegs[0]);
                     }
-                    String newLine = "    invoke-static {" + returnTaintReg + "}, Ljava/lang/Thread;->getTaintContainer(Ljava/lang/PathTaint;)Ljava/lang/PathTaint;";
+                    String newLine = "    invoke-static {" + returnTaintReg + "}, " + ((ViaLinTool) tool).getTaintContainer();
                     Pair<List<String>, Integer> rangedInvoke = makeInvokeToRange(newLine, taintTempReg);
                     linesToAdd.addAll(rangedInvoke.first);
                     int newMaxRegs = rangedInvoke.second;
@@ -307,7 +307,7 @@ public class FileTaint extends TaintAnalysis {
 
                     // set the taint to the first param, because we're reading into the buffer `read(byte b[], int off, int len)`
                     // not receiverRegTaint, which is the taint register of the instance variable the function is being called on (paramTaint0)
-                    linesToAdd.add("    move-result-object " + bufferTaintReg);
+                    linesToAdd.add("    " + tool.getMoveResultTaint() + " " + bufferTaintReg);
 
                     // linesToAdd.add("    move-result-object " + passedRegs[0]);
                     // linesToAdd.add("    move-object/16 " + receiverRegTaint + ", " + passedRegs[0]);
@@ -473,11 +473,11 @@ public class FileTaint extends TaintAnalysis {
         int newMaxRegs = rangedInvoke.second;
 
         if (getRegNumFromRef(taintTargReg) > 255) {
-            linesToAdd.add("    move-result-object " + passedRegs[0]);
-            linesToAdd.add("    move-object/16 " + taintTargReg + ", " + passedRegs[0]);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + passedRegs[0]);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintTargReg + ", " + passedRegs[0]);
             linesToAdd.add("    move-object/16 " + passedRegs[0] + ", v" + taintTempReg);
         } else {
-            linesToAdd.add("    move-result-object " + taintTargReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
         }
 
         newLine = "    invoke-static {" + taintTargReg + "}, " + tool.getSetReturnTaintInstr();
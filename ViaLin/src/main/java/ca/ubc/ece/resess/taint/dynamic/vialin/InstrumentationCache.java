@@ -0,0 +1,232 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Persistent cache of instrumented classes, keyed by the content of the class before instrumentation.
+ * The key of a class is a hash of its smali text and of everything else the instrumentation of a
+ * class depends on: the tool, the source and sink lists, the method models, the class analysis of
+ * the framework and the app, and the instrumenter build itself. A cache hit restores the
+ * instrumented smali, the class_info JSON and the modeled methods of the class.
+ */
+public class InstrumentationCache {
+
+    private static final String FORMAT_VERSION = "1";
+
+    private final Path cacheDir;
+    private final byte[] configurationKey;
+    private int hits = 0;
+    private int misses = 0;
+
+    public InstrumentationCache(String cacheDir, TaintTool tool, boolean isFramework, String srcFile, String sinkFile, ClassAnalysis classAnalysis) {
+        this.cacheDir = Paths.get(cacheDir);
+        MessageDigest digest = newDigest();
+        update(digest, FORMAT_VERSION);
+        update(digest, tool.getClass().getName());
+        update(digest, String.valueOf(isFramework));
+        update(digest, String.valueOf(TaintAnalysis.TAINT_ALL_REGS));
+        update(digest, String.valueOf(TaintCodeOptimizer.ENABLED));
+        update(digest, String.valueOf(TaintAnalysis.PACKED_PARAM_TAINT));
+        update(digest, String.valueOf(ViaLinTool.INTERN_TAINTS));
+        try {
+            fingerprintPath(digest, instrumenterLocation());
+            fingerprintPath(digest, Paths.get(srcFile));
+            fingerprintPath(digest, Paths.get(sinkFile));
+            for (String modelPath : new String[]{MethodModel.methodModelsPath, MethodModel.extraPath, MethodModel.taintWrapperPath, System.getProperty("vialin.packagePolicy")}) {
+                if (modelPath != null && !modelPath.isEmpty()) {
+                    fingerprintPath(digest, Paths.get(modelPath));
+                }
+            }
+        } catch (IOException e) {
+            throw new Error("Cannot compute the instrumentation cache key", e);
+        }
+        classAnalysis.fingerprint(digest);
+        this.configurationKey = digest.digest();
+    }
+
+    private static Path instrumenterLocation() throws IOException {
+        try {
+            return Paths.get(InstrumentationCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void fingerprintPath(MessageDigest digest, Path path) throws IOException {
+        if (!Files.exists(path)) {
+            update(digest, "missing:" + path);
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(path)) {
+            // The summary bundle is compiled from the summaries, which are fingerprinted already
+            files = walk.filter(Files::isRegularFile).filter(file -> !file.getFileName().toString().equals(MethodSummaryBundle.FILE_NAME))
+                .sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            update(digest, path.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * Replaces the classes that are in the cache with their instrumented version.
+     *
+     * @param smaliFiles The classes to look up, their text in {@code smaliStore} is the text before instrumentation.
+     * @return The keys of the classes that are not in the cache, which still need to be instrumented
+     */
+    public Map<String, String> restore(List<String> smaliFiles, SmaliStore smaliStore, String outDir) {
+        Map<String, String> missedKeys = new LinkedHashMap<>();
+        for (String file : smaliFiles) {
+            List<String> classLines;
+            try {
+                classLines = smaliStore.readLines(file);
+            } catch (IOException e) {
+                throw new Error("Cannot open class file: " + file);
+            }
+            String key = classKey(classLines);
+            Path smaliEntry = entry(key, ".smali");
+            Path infoEntry = entry(key, ".json");
+            if (!Files.isRegularFile(smaliEntry) || !Files.isRegularFile(infoEntry)) {
+                missedKeys.put(file, key);
+                misses++;
+                continue;
+            }
+            try {
+                JSONObject info = (JSONObject) new JSONParser().parse(new String(Files.readAllBytes(infoEntry), StandardCharsets.UTF_8));
+                smaliStore.write(file, Files.readAllLines(smaliEntry));
+                String className = (String) info.get("className");
+                String classInfo = (String) info.get("classInfo");
+                if (classInfo != null) {
+                    ClassTaint.saveClassInfo(outDir, className, classInfo);
+                }
+                JSONObject modeledMethods = (JSONObject) info.get("modeledMethods");
+                for (Object signature : modeledMethods.keySet()) {
+                    for (Object model : (JSONArray) modeledMethods.get(signature)) {
+                        InstrumentationContext.modeledMethods.computeIfAbsent((String) signature, k -> ConcurrentHashMap.newKeySet()).add((String) model);
+                    }
+                }
+                hits++;
+            } catch (IOException | ParseException | ClassCastException e) {
+                AnalysisLogger.log(true, "Ignoring bad instrumentation cache entry %s: %s%n", key, e);
+                missedKeys.put(file, key);
+                misses++;
+            }
+        }
+        return missedKeys;
+    }
+
+    /**
+     * Stores the instrumented version of the classes that missed the cache.
+     *
+     * @param missedKeys    The keys returned by {@link #restore}.
+     * @param classTaint    The instrumentation that ran over the missed classes, null if the tool does not produce class info.
+     */
+    @SuppressWarnings("unchecked")
+    public void save(Map<String, String> missedKeys, SmaliStore smaliStore, ClassTaint classTaint) {
+        for (Map.Entry<String, String> missed : missedKeys.entrySet()) {
+            String file = missed.getKey();
+            String key = missed.getValue();
+            try {
+                List<String> classLines = smaliStore.readLines(file);
+                String className = getLastToken(classLines.get(0));
+
+                JSONObject info = new JSONObject();
+                info.put("className", className);
+                JSONObject modeledMethods = new JSONObject();
+                if (classTaint != null) {
+                    JSONObject classInfo = classTaint.getClassInfo(className);
+                    if (classInfo != null) {
+                        info.put("classInfo", classInfo.toJSONString());
+                    }
+                    Map<String, Set<String>> modeledMethodsInClass = classTaint.getModeledMethods(className);
+                    if (modeledMethodsInClass != null) {
+                        for (Map.Entry<String, Set<String>> entry : modeledMethodsInClass.entrySet()) {
+                            JSONArray models = new JSONArray();
+                            models.addAll(entry.getValue());
+                            modeledMethods.put(entry.getKey(), models);
+                        }
+                    }
+                }
+                info.put("modeledMethods", modeledMethods);
+
+                Path smaliEntry = entry(key, ".smali");
+                Files.createDirectories(smaliEntry.getParent());
+                // The smali is written last, an entry is only used when both files are there
+                writeAtomically(entry(key, ".json"), info.toJSONString().getBytes(StandardCharsets.UTF_8));
+                writeAtomically(smaliEntry, String.join("\n", classLines).concat("\n").getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                AnalysisLogger.log(true, "Cannot save instrumentation cache entry for %s: %s%n", file, e);
+            }
+        }
+    }
+
+    public void printStatistics() {
+        System.out.format("Instrumentation cache: %s hits, %s misses%n", hits, misses);
+    }
+
+    private String classKey(List<String> classLines) {
+        MessageDigest digest = newDigest();
+        digest.update(configurationKey);
+        for (String line : classLines) {
+            update(digest, line);
+        }
+        return toHex(digest.digest());
+    }
+
+    private Path entry(String key, String extension) {
+        return cacheDir.resolve(key.substring(0, 2)).resolve(key + extension);
+    }
+
+    private static void writeAtomically(Path path, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String getLastToken(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        return tokens[tokens.length - 1];
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new Error("SHA-256 is not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
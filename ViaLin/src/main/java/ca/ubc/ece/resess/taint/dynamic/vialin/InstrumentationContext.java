@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InstrumentationContext {
     public MethodInfo currentMethod;
@@ -14,6 +15,7 @@ public class InstrumentationContext {
     public String signatureRegister;
     public String deltaReg;
     public String paramArrayReg = null;
+    public String paramIndexReg = null;
     public String threadReg = null;
     public Integer timerRegister = null;
     public Integer methodDelta = 1;
@@ -25,19 +27,16 @@ public class InstrumentationContext {
     public Set<String> taintedMethods = new HashSet<>();
     public Set<String> erasedTaintRegs = new HashSet<>();
     public Map<String, FieldAccessInfo> fieldArraysInMethod = new HashMap<>();
-    public static final Map<String, Set<String>> modeledMethods = new HashMap<>();
+    public static final Map<String, Set<String>> modeledMethods = new ConcurrentHashMap<>();
+    public Map<String, Set<String>> modeledMethodsInClass = new HashMap<>();
 
     public int maxOfCurrentMaxRegsAndNewMaxRegs(int newMaxRegs) {
         return (maxRegs > newMaxRegs)? maxRegs : newMaxRegs;
     }
 
     public void addModeledMethod(String methodSignature, String methodModel) {
-        if (!modeledMethods.containsKey(methodSignature)) {
-            modeledMethods.put(methodSignature, new HashSet<>());
-        }
-        Set<String> methodModelSet = modeledMethods.get(methodSignature);
-        methodModelSet.add(methodModel);
-        modeledMethods.put(methodSignature, methodModelSet);
+        modeledMethods.computeIfAbsent(methodSignature, k -> ConcurrentHashMap.newKeySet()).add(methodModel);
+        modeledMethodsInClass.computeIfAbsent(methodSignature, k -> new HashSet<>()).add(methodModel);
     }
 
     // public InstrumentationContext addToTaintTempReg() {
@@ -0,0 +1,98 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A report of what the instrumentation costs each method, written as CSV with one row per instrumented
+ * method, to find the methods that dominate the overhead and tune the lists of excluded classes.
+ *
+ * <p>A row has the number of instructions and registers of the method before and after the instrumentation,
+ * the number of /16 and /from16 moves and of calls the instrumentation added, and whether the method needs
+ * more than 256 registers only because of the instrumentation, past which every register an 8-bit operand
+ * cannot address is spilled with such moves.
+ */
+public class MethodCostReport {
+
+    static final boolean ENABLED = Boolean.getBoolean("vialin.costReport");
+
+    static final String FILE_NAME = "method_costs.csv";
+    private static final String HEADER = "method,original_instructions,instrumented_instructions,"
+        + "original_registers,instrumented_registers,added_spill_moves,added_calls,crosses_256_registers";
+    private static final Map<String, String> rows = new ConcurrentHashMap<>();
+
+    private static class Counts {
+        private int instructions = 0;
+        private int registers = 0;
+        private int spillMoves = 0;
+        private int calls = 0;
+
+        private Counts(List<String> methodLines) {
+            for (String line : methodLines) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith(".registers")) {
+                    registers = Integer.parseInt(TaintAnalysis.getLastToken(trimmed));
+                    continue;
+                }
+                String name = TaintAnalysis.getToken(trimmed, 0);
+                if (SmaliInstruction.getOpcode(name) == null) {
+                    continue;
+                }
+                instructions++;
+                SmaliInstruction.Kind kind = SmaliInstruction.getKind(name);
+                if (kind == SmaliInstruction.Kind.MOVE && (name.endsWith("/16") || name.endsWith("/from16"))) {
+                    spillMoves++;
+                } else if (kind == SmaliInstruction.Kind.INVOKE) {
+                    calls++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the row of a method.
+     *
+     * @param signature The signature of the method.
+     * @param originalLines The lines of the method before the instrumentation, from .method to .end method.
+     * @param instrumentedLines The lines of the method after the instrumentation, from .method to .end method.
+     */
+    public static void add(String signature, List<String> originalLines, List<String> instrumentedLines) {
+        Counts original = new Counts(originalLines);
+        Counts instrumented = new Counts(instrumentedLines);
+        boolean crosses256 = original.registers <= 256 && instrumented.registers > 256;
+        rows.put(signature, String.format("%s,%s,%s,%s,%s,%s,%s,%s", signature,
+            original.instructions, instrumented.instructions, original.registers, instrumented.registers,
+            instrumented.spillMoves - original.spillMoves, instrumented.calls - original.calls, crosses256));
+    }
+
+    /**
+     * Removes the rows of the methods instrumented so far, for the next run in the same JVM.
+     */
+    public static void clear() {
+        rows.clear();
+    }
+
+    /**
+     * Writes the rows of the methods instrumented so far to {@value #FILE_NAME} in a directory,
+     * sorted by method so that the report does not depend on the order the classes were instrumented in.
+     */
+    public static void write(String outDir) {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.addAll(new TreeMap<>(rows).values());
+        try {
+            Files.write(Paths.get(outDir, FILE_NAME), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        System.out.format("Wrote the cost of %s methods to: %s%n", rows.size(), Paths.get(outDir, FILE_NAME));
+    }
+}
@@ -4,13 +4,20 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.json.XML;
 
 
@@ -25,11 +32,17 @@ public class MethodModel {
     
     private static final String ACCESS_PATH = "AccessPath";
     static String methodModelsPath;
+    // The summaries of methodModelsPath the cached models were loaded from
+    private static String methodModelsStamp;
     static String extraPath;
     static String taintWrapperPath;
-    static Map<String, MethodModel> manualModel = new HashMap<>();
-    static Map<String, MethodModel> taintWrapperModel = new HashMap<>();
-    static Map<String, String> taintWrapperType = new HashMap<>();
+    static Map<String, MethodModel> manualModel = new ConcurrentHashMap<>();
+    static Map<String, MethodModel> taintWrapperModel = new ConcurrentHashMap<>();
+    static Map<String, String> taintWrapperType = new ConcurrentHashMap<>();
+    // Classes whose summary was looked up, by summary path, whether the class has a summary or not
+    private static final Map<String, Set<String>> loadedClasses = new ConcurrentHashMap<>();
+    // Compiled summaries by summary path, empty for paths without a current bundle
+    private static final Map<String, Optional<MethodSummaryBundle>> bundles = new ConcurrentHashMap<>();
 
     private String modelType;
     private List<MethodModelAssignment> model;
@@ -292,10 +305,20 @@ public class MethodModel {
 
 
     public static void setMethodModelsPath(String methodModelsPath) {
-        MethodModel.methodModelsPath = methodModelsPath;
-        if (!new File(MethodModel.methodModelsPath).isDirectory()) {
-            throw new Error(String.format("Model path (%s) does not exist", MethodModel.methodModelsPath), new Throwable());
+        if (!new File(methodModelsPath).isDirectory()) {
+            throw new Error(String.format("Model path (%s) does not exist", methodModelsPath), new Throwable());
+        }
+        // The models of earlier runs are kept while the path and its summaries are the same
+        String stamp = MethodSummaryBundle.stamp(methodModelsPath);
+        if (!methodModelsPath.equals(MethodModel.methodModelsPath) || stamp == null || !stamp.equals(methodModelsStamp)) {
+            manualModel.clear();
+            taintWrapperModel.clear();
+            taintWrapperType.clear();
+            loadedClasses.clear();
+            bundles.clear();
         }
+        MethodModel.methodModelsPath = methodModelsPath;
+        methodModelsStamp = stamp;
     }
 
     public static void setExtraPath(String extraPath) {
@@ -342,24 +365,65 @@ public class MethodModel {
             return;
         }
 
+        // Each class is loaded once per path, the methods that are not in its summary stay unmodeled
+        Set<String> loaded = loadedClasses.computeIfAbsent(path, k -> ConcurrentHashMap.newKeySet());
+        if (loaded.contains(className)) {
+            return;
+        }
+
         // Check that path exists
         if (!new File(path).isDirectory()) {
             AnalysisLogger.log(true, "Warning: Path %s does not exist%n", path);
+            loaded.add(className);
             return;
         }
 
+        Map<String, MethodModel> models = null;
+        MethodSummaryBundle bundle = bundles.computeIfAbsent(path, k -> Optional.ofNullable(MethodSummaryBundle.openIfCurrent(k))).orElse(null);
+        if (bundle != null) {
+            models = bundle.getModels(className);
+        } else {
+            String fileName = path + File.separator + className + ".xml";
+            try {
+                models = parseSummary(className, readSummary(Paths.get(fileName)));
+            } catch (NoSuchFileException e) {
+                // The class has no summary
+            } catch (IOException e) {
+                AnalysisLogger.log(true, "Warning: Cannot read summary %s, the class has no models: %s%n", fileName, e);
+            }
+        }
 
-        String fileName = path + File.separator + className + ".xml";
-        try (BufferedReader br = new BufferedReader(new FileReader(fileName))) {
-            String line = "";
-            String xmlStr = "";
-            while ((line = br.readLine()) != null) {
-                xmlStr += line;
+        if (models != null) {
+            for (Map.Entry<String, MethodModel> entry : models.entrySet()) {
+                // The models of the first path that has the method are used
+                if (manualModel.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                    taintWrapperType.put(entry.getKey(), "Manual");
+                }
             }
-            JSONArray jsonArray = XML.toJSONObject(xmlStr).getJSONObject("summary").getJSONObject("methods").optJSONArray("method");
+        }
+        loaded.add(className);
+    }
+
+    // The lines of a summary are joined without line breaks
+    static String readSummary(Path summaryFile) throws IOException {
+        return String.join("", Files.readAllLines(summaryFile, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the summary of a class.
+     *
+     * @param className The class of the summary, in Jimple form.
+     * @param xmlStr    The summary, in XML.
+     * @return The non-empty models of the summary by model id, up to the first model that cannot be parsed.
+     */
+    static Map<String, MethodModel> parseSummary(String className, String xmlStr) {
+        Map<String, MethodModel> models = new LinkedHashMap<>();
+        try {
+            JSONObject methods = XML.toJSONObject(xmlStr).getJSONObject("summary").getJSONObject("methods");
+            JSONArray jsonArray = methods.optJSONArray("method");
             if (jsonArray == null) {
                 jsonArray = new JSONArray();
-                jsonArray.put(XML.toJSONObject(xmlStr).getJSONObject("summary").getJSONObject("methods").getJSONObject("method"));
+                jsonArray.put(methods.getJSONObject("method"));
             }
             for (int i = 0; i < jsonArray.length(); i++) {
                 JSONObject jsonObject = jsonArray.getJSONObject(i);
@@ -367,13 +431,13 @@ public class MethodModel {
                 String modelId = "<"+className+ ": " + jsonObject.getString("id") +">";
                 extractClearsOrFlowsFromManualModel(jsonObject, model);
                 if (!model.isEmpty()) {
-                    manualModel.put(modelId, model);
-                    taintWrapperType.put(modelId, "Manual");
+                    models.put(modelId, model);
                 }
             }
-        } catch (IOException | JSONException e) {
+        } catch (JSONException e) {
             // pass
         }
+        return models;
     }
 
 
@@ -0,0 +1,193 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ca.ubc.ece.resess.taint.dynamic.vialin.MethodModel.MethodModelAssignment;
+
+/**
+ * The method summaries of a directory, parsed and compiled into one file next to them. The file has an
+ * index from class name to the models of the class, so that looking up the summary of a class reads
+ * no XML and does no file I/O after the bundle is opened.
+ *
+ * <p>Layout: magic, version, number and latest modification time of the XML files the bundle was
+ * compiled from, the index (class count, then the name and offset of each class), and the models of
+ * each class (model count, then the id of each model and its assignments).
+ */
+public class MethodSummaryBundle {
+
+    public static final String FILE_NAME = "summaries.bundle";
+
+    private static final int MAGIC = 0x564c4d53;
+    private static final int VERSION = 1;
+
+    private final byte[] data;
+    private final int dataStart;
+    private final Map<String, Integer> classOffsets = new HashMap<>();
+
+    private MethodSummaryBundle(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.readInt();
+        in.readInt();
+        in.readInt();
+        in.readLong();
+        int classCount = in.readInt();
+        for (int i = 0; i < classCount; i++) {
+            String className = in.readUTF();
+            classOffsets.put(className, in.readInt());
+        }
+        this.data = bytes;
+        this.dataStart = bytes.length - in.available();
+    }
+
+    /**
+     * Opens the bundle of a summary directory.
+     *
+     * @return The bundle, or null if the directory has no bundle or if its XML files changed since the bundle was compiled
+     */
+    public static MethodSummaryBundle openIfCurrent(String dir) {
+        Path bundleFile = Paths.get(dir, FILE_NAME);
+        if (!Files.isRegularFile(bundleFile)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(bundleFile);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                AnalysisLogger.log(true, "Method summary bundle %s has another version, will not use it%n", bundleFile);
+                return null;
+            }
+            File[] summaryFiles = listSummaryFiles(dir);
+            if (in.readInt() != summaryFiles.length || in.readLong() != latestModification(summaryFiles)) {
+                AnalysisLogger.log(true, "Method summaries changed since %s was compiled, will not use it%n", bundleFile);
+                return null;
+            }
+            return new MethodSummaryBundle(bytes);
+        } catch (IOException e) {
+            AnalysisLogger.log(true, "Cannot open method summary bundle %s: %s%n", bundleFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the models of a class.
+     *
+     * @return The models of the methods of the class, by model id, or null if the class has no summary
+     */
+    public Map<String, MethodModel> getModels(String className) {
+        Integer offset = classOffsets.get(className);
+        if (offset == null) {
+            return null;
+        }
+        Map<String, MethodModel> models = new LinkedHashMap<>();
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, dataStart + offset, data.length - dataStart - offset));
+            int modelCount = in.readInt();
+            for (int i = 0; i < modelCount; i++) {
+                String modelId = in.readUTF();
+                MethodModel model = new MethodModel(in.readUTF());
+                int assignCount = in.readInt();
+                for (int j = 0; j < assignCount; j++) {
+                    // Added in their compiled order, which addAssign would change
+                    model.getModel().add(new MethodModelAssignment(in.readInt(), in.readInt(), in.readUTF(), in.readUTF()));
+                }
+                models.put(modelId, model);
+            }
+        } catch (IOException e) {
+            throw new Error("Corrupt method summary bundle, class " + className, e);
+        }
+        return models;
+    }
+
+    /**
+     * Parses all the summaries of a directory and writes their bundle in it.
+     *
+     * @param dir The summary directory.
+     */
+    public static void compile(String dir) throws IOException {
+        File[] summaryFiles = listSummaryFiles(dir);
+        Arrays.sort(summaryFiles);
+
+        ByteArrayOutputStream classData = new ByteArrayOutputStream();
+        DataOutputStream dataOut = new DataOutputStream(classData);
+        Map<String, Integer> offsets = new LinkedHashMap<>();
+        int modelCount = 0;
+        for (File summaryFile : summaryFiles) {
+            String fileName = summaryFile.getName();
+            String className = fileName.substring(0, fileName.length() - ".xml".length());
+            Map<String, MethodModel> models = MethodModel.parseSummary(className, MethodModel.readSummary(summaryFile.toPath()));
+            offsets.put(className, dataOut.size());
+            dataOut.writeInt(models.size());
+            for (Map.Entry<String, MethodModel> entry : models.entrySet()) {
+                dataOut.writeUTF(entry.getKey());
+                dataOut.writeUTF(entry.getValue().getModelType());
+                dataOut.writeInt(entry.getValue().getModel().size());
+                for (MethodModelAssignment assign : entry.getValue().getModel()) {
+                    dataOut.writeInt(assign.leftParam);
+                    dataOut.writeInt(assign.rightParam);
+                    dataOut.writeUTF(assign.leftPath);
+                    dataOut.writeUTF(assign.rightPath);
+                }
+            }
+            modelCount += models.size();
+        }
+
+        Path bundleFile = Paths.get(dir, FILE_NAME);
+        Path temp = Paths.get(dir, FILE_NAME + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(summaryFiles.length);
+            out.writeLong(latestModification(summaryFiles));
+            out.writeInt(offsets.size());
+            for (Map.Entry<String, Integer> entry : offsets.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+            classData.writeTo(out);
+        }
+        Files.move(temp, bundleFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        System.out.format("Wrote %s with %s models of %s classes%n", bundleFile, modelCount, offsets.size());
+    }
+
+    /**
+     * Gets a stamp of a summary directory, which changes when a summary or the bundle is added, removed or modified.
+     */
+    static String stamp(String dir) {
+        File[] summaryFiles = new File(dir).listFiles((d, name) -> name.endsWith(".xml"));
+        if (summaryFiles == null) {
+            return null;
+        }
+        File bundleFile = new File(dir, FILE_NAME);
+        return summaryFiles.length + ":" + latestModification(summaryFiles) + ":" + bundleFile.lastModified() + ":" + bundleFile.length();
+    }
+
+    private static File[] listSummaryFiles(String dir) throws IOException {
+        File[] summaryFiles = new File(dir).listFiles((d, name) -> name.endsWith(".xml"));
+        if (summaryFiles == null) {
+            throw new IOException("Cannot list summary directory " + dir);
+        }
+        return summaryFiles;
+    }
+
+    private static long latestModification(File[] summaryFiles) {
+        long latest = 0;
+        for (File summaryFile : summaryFiles) {
+            latest = Math.max(latest, summaryFile.lastModified());
+        }
+        return latest;
+    }
+}
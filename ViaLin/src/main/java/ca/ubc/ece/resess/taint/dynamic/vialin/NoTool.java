@@ -179,17 +179,17 @@ public class NoTool implements TaintTool {
     }
 
     @Override
-    public String paramArray() {
+    public String arrayGet() {
         throw new Error("Shouldn't call methods of this class ");
     }
 
     @Override
-    public String getParamArray() {
+    public String paramArray() {
         throw new Error("Shouldn't call methods of this class ");
     }
 
     @Override
-    public String paramTaint(int i) {
+    public String getParamArray() {
         throw new Error("Shouldn't call methods of this class ");
     }
 
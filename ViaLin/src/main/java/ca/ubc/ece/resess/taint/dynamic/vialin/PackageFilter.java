@@ -0,0 +1,81 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides which classes are excluded from instrumentation by the prefix of their name. The prefixes
+ * are kept in a character trie, so a check walks the name once whatever the number of prefixes.
+ * When prefixes overlap, the longest one that matches decides, so a package can be excluded and
+ * one of its subpackages included again.
+ *
+ * <p>A policy file has one rule per line: {@code -Lcom/example/} excludes the classes whose name
+ * starts with {@code Lcom/example/}, {@code +Lcom/example/ui/} includes them. Empty lines and lines
+ * starting with # are skipped.
+ */
+public class PackageFilter {
+
+    private final Node root = new Node();
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // Null when no prefix ends here, otherwise whether the prefix excludes
+        private Boolean excluded;
+    }
+
+    public PackageFilter(String[] excludedPrefixes) {
+        for (String prefix : excludedPrefixes) {
+            add(prefix, true);
+        }
+    }
+
+    /**
+     * Adds a prefix, replacing the rule of the same prefix if there is one.
+     */
+    public void add(String prefix, boolean excluded) {
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), k -> new Node());
+        }
+        node.excluded = excluded;
+    }
+
+    /**
+     * Adds the rules of a policy file.
+     */
+    public void addPolicy(String policyFile) {
+        try {
+            for (String line : Files.readAllLines(Paths.get(policyFile))) {
+                String rule = line.trim();
+                if (rule.isEmpty() || rule.startsWith("#")) {
+                    continue;
+                }
+                if (rule.startsWith("-") || rule.startsWith("+")) {
+                    add(rule.substring(1).trim(), rule.startsWith("-"));
+                } else {
+                    throw new Error(String.format("Bad rule in package policy %s: %s", policyFile, line));
+                }
+            }
+        } catch (IOException e) {
+            throw new Error("Cannot open file: " + policyFile);
+        }
+    }
+
+    public boolean isExcluded(String className) {
+        boolean excluded = false;
+        Node node = root;
+        for (int i = 0; i < className.length(); i++) {
+            node = node.children.get(className.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.excluded != null) {
+                excluded = node.excluded;
+            }
+        }
+        return excluded;
+    }
+}
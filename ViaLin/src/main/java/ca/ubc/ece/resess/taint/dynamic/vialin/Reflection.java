@@ -12,7 +12,8 @@ public class Reflection {
         linesToAdd.add("    move-object/16 v" + String.valueOf(taintTempReg+3) + ", " + targetReg);
         String methodSig;
         if (tool instanceof ViaLinTool) {
-            methodSig = "injectTaintSeedIfReflectiveSource"+lineNumber+"(Ljava/lang/reflect/Method;Ljava/lang/PathTaint;Ljava/lang/String;Ljava/lang/Object;)Ljava/lang/PathTaint;";
+            String taintDesc = ((ViaLinTool) tool).taintDesc();
+            methodSig = "injectTaintSeedIfReflectiveSource"+lineNumber+"(Ljava/lang/reflect/Method;" + taintDesc + "Ljava/lang/String;Ljava/lang/Object;)" + taintDesc;
         } else {
             methodSig = "injectTaintSeedIfReflectiveSource"+lineNumber+"(Ljava/lang/reflect/Method;ILjava/lang/Thread;Ljava/lang/Object;)I";
         }
@@ -256,7 +257,7 @@ public class Reflection {
                 extraTaintMethods.add("    " + tool.getMoveTaint() + "/from16 v5, p1");
                 extraTaintMethods.add("    move-object/from16 v6, p2");
                 extraTaintMethods.add("    const v7, " + lineNumber);
-                extraTaintMethods.add("    invoke-static {v5, v6, v7}, Ljava/lang/PathTaint;->addTaintSource(Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;");
+                extraTaintMethods.add("    invoke-static {v5, v6, v7}, " + ((ViaLinTool) tool).addTaintSource());
                 extraTaintMethods.add("    " + tool.getMoveResultTaint() + " p1");
             } else { // TaintDroid
                 extraTaintMethods.add("    add-int/lit8 v30, v30, 1");
@@ -0,0 +1,110 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Matches method signatures against the patterns of a source or sink list. A pattern is either a full
+ * signature ({@code Lcom/example/Foo;->bar()V}), a method of any class ({@code *->bar()V}), or a method
+ * of the classes of a package and its subpackages ({@code Lcom/example/*->bar()V}). Full signatures
+ * and methods of any class are looked up in hash maps, packages in a trie of package names, so a
+ * lookup does not depend on the number of patterns.
+ *
+ * @param <V> The value of a pattern, returned when it matches.
+ */
+public class SignatureMatcher<V> {
+
+    private final Map<String, V> exact = new HashMap<>();
+    private final Map<String, V> anyClass = new HashMap<>();
+    private final PackageNode<V> packages = new PackageNode<>();
+    private int size = 0;
+
+    private static class PackageNode<V> {
+        private final Map<String, PackageNode<V>> subpackages = new HashMap<>();
+        private final Map<String, V> methods = new HashMap<>();
+    }
+
+    /**
+     * Adds a pattern, replacing the value of the same pattern if it was added already.
+     */
+    public void add(String pattern, V value) {
+        int arrow = pattern.indexOf("->");
+        if (arrow == -1) {
+            throw new Error("Not a method pattern: " + pattern);
+        }
+        String classPattern = pattern.substring(0, arrow);
+        String method = pattern.substring(arrow + 2);
+        if (classPattern.equals("*")) {
+            anyClass.put(method, value);
+        } else if (classPattern.startsWith("L") && classPattern.endsWith("/*")) {
+            PackageNode<V> node = packages;
+            for (String name : classPattern.substring(1, classPattern.length() - 2).split("/")) {
+                node = node.subpackages.computeIfAbsent(name, k -> new PackageNode<>());
+            }
+            node.methods.put(method, value);
+        } else {
+            exact.put(pattern, value);
+        }
+        size++;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Matches a signature. A full signature takes precedence over a package, and a package over its
+     * parent packages and over any class.
+     *
+     * @param signature The signature, in {@code Lcom/example/Foo;->bar()V} form.
+     * @return The value of the matching pattern, or null if none matches.
+     */
+    public V match(String signature) {
+        int arrow = signature.indexOf("->");
+        if (arrow == -1) {
+            return exact.get(signature);
+        }
+        V value = exact.get(signature);
+        if (value == null) {
+            value = matchWildcards(signature, arrow, signature.substring(arrow + 2));
+        }
+        return value;
+    }
+
+    /**
+     * Matches the method of a class, the same way as {@link #match(String)}.
+     */
+    public V match(String className, String methodNameAndDesc) {
+        String signature = className + "->" + methodNameAndDesc;
+        V value = exact.get(signature);
+        if (value == null) {
+            value = matchWildcards(signature, className.length(), methodNameAndDesc);
+        }
+        return value;
+    }
+
+    private V matchWildcards(String signature, int classEnd, String method) {
+        V value = null;
+        if (signature.startsWith("L")) {
+            PackageNode<V> node = packages;
+            int start = 1;
+            int slash;
+            // The last name of the class is not a package
+            while (!node.subpackages.isEmpty() && (slash = signature.indexOf('/', start)) != -1 && slash < classEnd) {
+                node = node.subpackages.get(signature.substring(start, slash));
+                if (node == null) {
+                    break;
+                }
+                V packageValue = node.methods.get(method);
+                if (packageValue != null) {
+                    value = packageValue;
+                }
+                start = slash + 1;
+            }
+        }
+        if (value == null) {
+            value = anyClass.get(method);
+        }
+        return value;
+    }
+}
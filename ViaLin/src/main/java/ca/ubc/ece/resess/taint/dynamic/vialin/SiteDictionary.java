@@ -0,0 +1,114 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Gives each instrumented method a short site ID, which the instrumented code passes to PathTaint instead of
+ * the signature of the method. The taints, sources, sinks and dumps then carry the IDs, and the tools resolve
+ * them with the table of IDs to signatures written to {@value #FILE_NAME}, next to class_info.
+ *
+ * <p>An ID is a hash of the signature, so it is the same in every run and the IDs of the framework and of
+ * the apps, instrumented in separate runs, do not clash. It starts with the prefix of the signature when that
+ * is one of the prefixes PathTaint and the tools treat as framework code, so they filter the IDs as they
+ * filter the signatures.
+ *
+ * <p>The runs that instrument the framework also merge their sites into the table next to the framework
+ * analysis, which the tools merge with the table of an app to resolve the IDs of framework methods.
+ */
+public class SiteDictionary {
+
+    static final boolean ENABLED = Boolean.getBoolean("vialin.siteIds");
+
+    static final String FILE_NAME = "site_ids.json";
+    private static final String[] FRAMEWORK_PREFIXES = {"Ljava", "Landroid", "Lcom/google", "Lcom/android", "Lkotlin"};
+    private static final Map<String, String> sites = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the site ID of a method, and adds it to the table.
+     *
+     * @param signature The signature of the method.
+     */
+    public static String getSite(String signature) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(signature.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new Error("Cannot hash site: " + signature, e);
+        }
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (digest[i] & 0xff);
+        }
+        String prefix = "";
+        for (String frameworkPrefix : FRAMEWORK_PREFIXES) {
+            if (signature.startsWith(frameworkPrefix)) {
+                prefix = frameworkPrefix;
+                break;
+            }
+        }
+        String site = prefix + "#" + Long.toUnsignedString(hash, 36);
+        String previous = sites.putIfAbsent(site, signature);
+        if (previous != null && !previous.equals(signature)) {
+            throw new Error(String.format("Site ID %s of %s is already the ID of %s", site, signature, previous));
+        }
+        return site;
+    }
+
+    /**
+     * Removes the sites given so far, for the next run in the same JVM.
+     */
+    public static void clear() {
+        sites.clear();
+    }
+
+    /**
+     * Writes the table of the sites given so far to {@value #FILE_NAME} in a directory.
+     */
+    public static void write(String outDir) {
+        try {
+            Files.write(Paths.get(outDir, FILE_NAME), JSONObject.toJSONString(new TreeMap<>(sites)).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        System.out.format("Wrote %s site IDs to: %s%n", sites.size(), Paths.get(outDir, FILE_NAME));
+    }
+
+    /**
+     * Merges the table of the sites given so far into {@value #FILE_NAME} in a directory, which other runs
+     * may be merging into at the same time.
+     */
+    @SuppressWarnings("unchecked")
+    public static void merge(String dir) {
+        Path table = Paths.get(dir, FILE_NAME);
+        Map<String, String> merged = new TreeMap<>();
+        try (FileChannel lockChannel = FileChannel.open(Paths.get(dir, FILE_NAME + ".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = lockChannel.lock()) {
+            if (Files.isRegularFile(table)) {
+                merged.putAll((Map<String, String>) new JSONParser().parse(new String(Files.readAllBytes(table), StandardCharsets.UTF_8)));
+            }
+            merged.putAll(sites);
+            Files.write(table, JSONObject.toJSONString(merged).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | ParseException e) {
+            e.printStackTrace();
+            return;
+        }
+        System.out.format("Merged %s site IDs into: %s%n", sites.size(), table);
+    }
+}
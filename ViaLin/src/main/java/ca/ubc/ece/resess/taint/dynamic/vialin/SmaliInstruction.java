@@ -0,0 +1,205 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jf.dexlib2.Opcode;
+
+/**
+ * An instruction line of a smali method, decoded once: its dexlib2 opcode, the kind of instruction the
+ * instrumentation passes dispatch on, and its operands. The passes switch on the kind instead of testing
+ * the instruction name against each group of names, and read the registers from the decoded operands
+ * instead of splitting the line again for each one.
+ */
+public class SmaliInstruction {
+
+    /**
+     * The groups of instructions the instrumentation passes handle alike. Opcodes the passes do not
+     * support (the odex-only ones) are {@link #OTHER}.
+     */
+    public enum Kind {
+        NOP,
+        MOVE,
+        MOVE_RESULT,
+        MOVE_EXCEPTION,
+        RETURN_VOID,
+        RETURN,
+        CONST,
+        MONITOR,
+        CHECK_CAST,
+        INSTANCE_OF,
+        ARRAY_LENGTH,
+        NEW_INSTANCE,
+        NEW_ARRAY,
+        FILL_ARRAY,
+        THROW,
+        GOTO,
+        SWITCH,
+        CMP,
+        IF_TEST,
+        IF_TESTZ,
+        ARRAY_OP,
+        INSTANCE_OP,
+        STATIC_OP,
+        INVOKE,
+        UN_OP,
+        BIN_OP,
+        BIN_OP_2ADDR,
+        BIN_OP_LIT,
+        CONST_METHOD,
+        OTHER
+    }
+
+    private static final Map<String, Opcode> OPCODES = new HashMap<>();
+    private static final Map<Opcode, Kind> KINDS = new EnumMap<>(Opcode.class);
+
+    static {
+        for (Opcode opcode : Opcode.values()) {
+            OPCODES.putIfAbsent(opcode.name, opcode);
+        }
+        kind(Kind.NOP, "nop");
+        kind(Kind.MOVE, "move", "move/from16", "move/16", "move-wide", "move-wide/from16", "move-wide/16",
+                "move-object", "move-object/from16", "move-object/16");
+        kind(Kind.MOVE_RESULT, "move-result", "move-result-wide", "move-result-object");
+        kind(Kind.MOVE_EXCEPTION, "move-exception");
+        kind(Kind.RETURN_VOID, "return-void");
+        kind(Kind.RETURN, "return", "return-wide", "return-object");
+        kind(Kind.CONST, "const/4", "const/16", "const", "const/high16", "const-wide/16", "const-wide/32", "const-wide",
+                "const-wide/high16", "const-string", "const-string/jumbo", "const-class");
+        kind(Kind.MONITOR, "monitor-enter", "monitor-exit");
+        kind(Kind.CHECK_CAST, "check-cast");
+        kind(Kind.INSTANCE_OF, "instance-of");
+        kind(Kind.ARRAY_LENGTH, "array-length");
+        kind(Kind.NEW_INSTANCE, "new-instance");
+        kind(Kind.NEW_ARRAY, "new-array");
+        kind(Kind.FILL_ARRAY, "filled-new-array", "filled-new-array/range", "fill-array-data");
+        kind(Kind.THROW, "throw");
+        kind(Kind.GOTO, "goto", "goto/16", "goto/32");
+        kind(Kind.SWITCH, "packed-switch", "sparse-switch");
+        kind(Kind.CMP, "cmpl-float", "cmpg-float", "cmpl-double", "cmpg-double", "cmp-long");
+        kind(Kind.IF_TEST, "if-eq", "if-ne", "if-lt", "if-ge", "if-gt", "if-le");
+        kind(Kind.IF_TESTZ, "if-eqz", "if-nez", "if-ltz", "if-gez", "if-gtz", "if-lez");
+        kind(Kind.ARRAY_OP, "aget", "aget-wide", "aget-object", "aget-boolean", "aget-byte", "aget-char", "aget-short",
+                "aput", "aput-wide", "aput-object", "aput-boolean", "aput-byte", "aput-char", "aput-short");
+        kind(Kind.INSTANCE_OP, "iget", "iget-wide", "iget-object", "iget-boolean", "iget-byte", "iget-char", "iget-short",
+                "iput", "iput-wide", "iput-object", "iput-boolean", "iput-byte", "iput-char", "iput-short");
+        kind(Kind.STATIC_OP, "sget", "sget-wide", "sget-object", "sget-boolean", "sget-byte", "sget-char", "sget-short",
+                "sput", "sput-wide", "sput-object", "sput-boolean", "sput-byte", "sput-char", "sput-short");
+        kind(Kind.INVOKE, "invoke-virtual", "invoke-super", "invoke-direct", "invoke-static", "invoke-interface",
+                "invoke-virtual/range", "invoke-super/range", "invoke-direct/range", "invoke-static/range", "invoke-interface/range",
+                "invoke-polymorphic", "invoke-polymorphic/range", "invoke-custom", "invoke-custom/range");
+        kind(Kind.UN_OP, "neg-int", "not-int", "neg-long", "not-long", "neg-float", "neg-double",
+                "int-to-long", "int-to-float", "int-to-double", "long-to-int", "long-to-float", "long-to-double",
+                "float-to-int", "float-to-long", "float-to-double", "double-to-int", "double-to-long", "double-to-float",
+                "int-to-byte", "int-to-char", "int-to-short");
+        kind(Kind.CONST_METHOD, "const-method-handle", "const-method-type");
+        for (String type : new String[]{"int", "long", "float", "double"}) {
+            for (String op : new String[]{"add", "sub", "mul", "div", "rem", "and", "or", "xor", "shl", "shr", "ushr"}) {
+                if ((type.equals("float") || type.equals("double")) && !(op.equals("add") || op.equals("sub")
+                        || op.equals("mul") || op.equals("div") || op.equals("rem"))) {
+                    continue;
+                }
+                kind(Kind.BIN_OP, op + "-" + type);
+                kind(Kind.BIN_OP_2ADDR, op + "-" + type + "/2addr");
+            }
+        }
+        kind(Kind.BIN_OP_LIT, "add-int/lit16", "rsub-int", "mul-int/lit16", "div-int/lit16", "rem-int/lit16",
+                "and-int/lit16", "or-int/lit16", "xor-int/lit16",
+                "add-int/lit8", "rsub-int/lit8", "mul-int/lit8", "div-int/lit8", "rem-int/lit8",
+                "and-int/lit8", "or-int/lit8", "xor-int/lit8", "shl-int/lit8", "shr-int/lit8", "ushr-int/lit8");
+    }
+
+    private static void kind(Kind kind, String... names) {
+        for (String name : names) {
+            Opcode opcode = OPCODES.get(name);
+            if (opcode == null) {
+                throw new Error("Unknown opcode: " + name);
+            }
+            KINDS.put(opcode, kind);
+        }
+    }
+
+    private final String line;
+    private final String[] tokens;
+    private final Opcode opcode;
+    private final Kind kind;
+
+    private SmaliInstruction(String line, String[] tokens, Opcode opcode) {
+        this.line = line;
+        this.tokens = tokens;
+        this.opcode = opcode;
+        this.kind = opcode == null ? Kind.OTHER : KINDS.getOrDefault(opcode, Kind.OTHER);
+    }
+
+    /**
+     * Decodes an instruction line. The line is split the same way as {@link TaintAnalysis#getToken(String, int)} does.
+     *
+     * @param line The line, as it appears in the smali file.
+     * @return The instruction. Its opcode is null if the first token is not an instruction name.
+     */
+    public static SmaliInstruction parse(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        return new SmaliInstruction(line, tokens, OPCODES.get(tokens[0]));
+    }
+
+    /**
+     * Gets the opcode of an instruction name.
+     *
+     * @return The opcode, or null if the name is not an instruction name.
+     */
+    public static Opcode getOpcode(String name) {
+        return OPCODES.get(name);
+    }
+
+    /**
+     * Gets the kind of an instruction name, without decoding a line.
+     */
+    public static Kind getKind(String name) {
+        Opcode opcode = OPCODES.get(name);
+        return opcode == null ? Kind.OTHER : KINDS.getOrDefault(opcode, Kind.OTHER);
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getName() {
+        return tokens[0];
+    }
+
+    public Opcode getOpcode() {
+        return opcode;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the nth token of the line with its comma removed, as {@link TaintAnalysis#getRegReference(String, int)} does.
+     * The name is token 0, so the first register is token 1.
+     */
+    public String getRegister(int n) {
+        return tokens[n].replace(",", "");
+    }
+
+    /**
+     * Gets the last token of the line, the field, method or type reference of the instructions that have one.
+     */
+    public String getReference() {
+        return tokens[tokens.length - 1];
+    }
+
+    /**
+     * Gets the size of the instruction in 16-bit code units, from the format of its opcode.
+     */
+    public static int getCodeUnits(Opcode opcode) {
+        return opcode.format.size / 2;
+    }
+
+    @Override
+    public String toString() {
+        return line;
+    }
+}
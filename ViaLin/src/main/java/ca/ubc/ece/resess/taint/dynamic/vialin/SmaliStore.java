@@ -0,0 +1,252 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.antlr.runtime.tree.CommonTree;
+import org.antlr.runtime.tree.CommonTreeNodeStream;
+import org.jf.baksmali.Baksmali;
+import org.jf.baksmali.BaksmaliOptions;
+import org.jf.baksmali.Adaptors.ClassDefinition;
+import org.jf.baksmali.formatter.BaksmaliWriter;
+import org.jf.dexlib2.Opcodes;
+import org.jf.dexlib2.iface.ClassDef;
+import org.jf.dexlib2.iface.DexFile;
+import org.jf.dexlib2.writer.builder.DexBuilder;
+import org.jf.dexlib2.writer.io.FileDataStore;
+import org.jf.smali.SmaliOptions;
+import org.jf.smali.smaliFlexLexer;
+import org.jf.smali.smaliParser;
+import org.jf.smali.smaliTreeWalker;
+import org.jf.util.ClassFileNameHandler;
+
+import com.google.common.collect.Ordering;
+
+/**
+ * Holds the smali text of the classes being instrumented, from baksmali to the assembler.
+ * Classes are keyed by the path baksmali would have written them to. A class stays in memory
+ * while the memory budget allows it and is spilled to its path on disk otherwise, so a store
+ * with a budget of 0 is the plain baksmali, files, smali pipeline.
+ */
+public class SmaliStore {
+
+    private final long memoryBudget;
+    private final AtomicLong memoryUsed = new AtomicLong();
+    private final Map<String, List<String>> inMemory = new ConcurrentHashMap<>();
+
+    /**
+     * @param memoryBudget approximate number of bytes of smali text to keep in memory, 0 keeps everything on disk
+     */
+    public SmaliStore(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    public static SmaliStore onDisk() {
+        return new SmaliStore(0);
+    }
+
+    public boolean isOnDisk() {
+        return memoryBudget <= 0;
+    }
+
+    public List<String> readLines(String file) throws IOException {
+        List<String> lines = inMemory.get(file);
+        if (lines != null) {
+            return lines;
+        }
+        return Files.readAllLines(Paths.get(file));
+    }
+
+    public void write(String file, List<String> lines) throws IOException {
+        if (!isOnDisk()) {
+            long size = estimateSize(lines);
+            long reserved = memoryUsed.addAndGet(size);
+            if (reserved <= memoryBudget) {
+                release(inMemory.put(file, lines));
+                return;
+            }
+            memoryUsed.addAndGet(-size);
+            release(inMemory.remove(file));
+        }
+        Path path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, lines);
+    }
+
+    private void release(List<String> lines) {
+        if (lines != null) {
+            memoryUsed.addAndGet(-estimateSize(lines));
+        }
+    }
+
+    private static long estimateSize(List<String> lines) {
+        // Two bytes per char plus the String and array headers and the list slot
+        long size = 0;
+        for (String line : lines) {
+            size += 2L * line.length() + 48;
+        }
+        return size;
+    }
+
+    private Reader reader(String file) throws IOException {
+        List<String> lines = inMemory.get(file);
+        if (lines == null) {
+            return Files.newBufferedReader(Paths.get(file));
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append('\n');
+        }
+        return new StringReader(builder.toString());
+    }
+
+    /**
+     * Disassembles a dex file into this store, the same way {@link Baksmali#disassembleDexFile} does
+     * into {@code outputDir}.
+     *
+     * @return the paths of the disassembled classes
+     */
+    public List<String> disassembleDexFile(DexFile dexFile, File outputDir, int jobs, BaksmaliOptions options) {
+        if (isOnDisk()) {
+            Baksmali.disassembleDexFile(dexFile, outputDir, jobs, options);
+            try (Stream<Path> walk = Files.walk(Paths.get(outputDir.getPath()))) {
+                return walk.filter(Files::isRegularFile).map(x -> x.toString()).collect(Collectors.toList());
+            } catch (IOException e) {
+                e.printStackTrace();
+                return new ArrayList<>();
+            }
+        }
+
+        List<? extends ClassDef> classDefs = Ordering.natural().sortedCopy(dexFile.getClasses());
+        ClassFileNameHandler fileNameHandler = new ClassFileNameHandler(outputDir, ".smali");
+        ExecutorService executor = Executors.newFixedThreadPool(jobs);
+        List<Future<String>> tasks = new ArrayList<>();
+        for (ClassDef classDef : classDefs) {
+            tasks.add(executor.submit(() -> disassembleClass(classDef, fileNameHandler, options)));
+        }
+
+        List<String> smaliFiles = new ArrayList<>();
+        try {
+            for (Future<String> task : tasks) {
+                String smaliFile = task.get();
+                if (smaliFile != null) {
+                    smaliFiles.add(smaliFile);
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new Error("Cannot disassemble dex file into " + outputDir, e);
+        } finally {
+            executor.shutdown();
+        }
+        return smaliFiles;
+    }
+
+    private String disassembleClass(ClassDef classDef, ClassFileNameHandler fileNameHandler, BaksmaliOptions options) throws IOException {
+        String classDescriptor = classDef.getType();
+        if (classDescriptor.charAt(0) != 'L' || classDescriptor.charAt(classDescriptor.length()-1) != ';') {
+            System.err.println("Unrecognized class descriptor - " + classDescriptor + " - skipping class");
+            return null;
+        }
+        String smaliFile = fileNameHandler.getUniqueFilenameForClass(classDescriptor).getPath();
+
+        StringWriter stringWriter = new StringWriter();
+        BaksmaliWriter writer = new BaksmaliWriter(stringWriter, options.implicitReferences ? classDescriptor : null);
+        new ClassDefinition(options, classDef).writeTo(writer);
+        writer.close();
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader bufferedReader = new BufferedReader(new StringReader(stringWriter.toString()))) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        write(smaliFile, lines);
+        return smaliFile;
+    }
+
+    /**
+     * Assembles classes from this store into {@code options.outputDexFile}, the same way
+     * {@link org.jf.smali.Smali#assemble} does from files.
+     *
+     * @return false if any of the classes had syntax errors
+     */
+    public boolean assemble(SmaliOptions options, List<String> smaliFiles) throws IOException {
+        DexBuilder dexBuilder = new DexBuilder(Opcodes.forApi(options.apiLevel));
+        ExecutorService executor = Executors.newFixedThreadPool(options.jobs);
+        List<Future<Boolean>> tasks = new ArrayList<>();
+        for (String smaliFile : new TreeSet<>(smaliFiles)) {
+            tasks.add(executor.submit(() -> assembleClass(smaliFile, dexBuilder, options)));
+        }
+
+        boolean errors = false;
+        try {
+            for (Future<Boolean> task : tasks) {
+                if (!task.get()) {
+                    errors = true;
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
+        }
+
+        if (errors) {
+            return false;
+        }
+        dexBuilder.writeTo(new FileDataStore(new File(options.outputDexFile)));
+        return true;
+    }
+
+    private boolean assembleClass(String smaliFile, DexBuilder dexBuilder, SmaliOptions options) throws IOException, RecognitionException {
+        try (Reader reader = reader(smaliFile)) {
+            smaliFlexLexer lexer = new smaliFlexLexer(reader, options.apiLevel);
+            lexer.setSourceFile(new File(smaliFile));
+            CommonTokenStream tokens = new CommonTokenStream(lexer);
+
+            smaliParser parser = new smaliParser(tokens);
+            parser.setVerboseErrors(options.verboseErrors);
+            parser.setAllowOdex(options.allowOdexOpcodes);
+            parser.setApiLevel(options.apiLevel);
+            smaliParser.smali_file_return result = parser.smali_file();
+            if (parser.getNumberOfSyntaxErrors() > 0 || lexer.getNumberOfSyntaxErrors() > 0) {
+                return false;
+            }
+
+            CommonTree tree = result.getTree();
+            CommonTreeNodeStream treeStream = new CommonTreeNodeStream(tree);
+            treeStream.setTokenStream(tokens);
+
+            smaliTreeWalker dexGen = new smaliTreeWalker(treeStream);
+            dexGen.setApiLevel(options.apiLevel);
+            dexGen.setVerboseErrors(options.verboseErrors);
+            dexGen.setDexBuilder(dexBuilder);
+            dexGen.smali_file();
+            return dexGen.getNumberOfSyntaxErrors() == 0;
+        }
+    }
+}
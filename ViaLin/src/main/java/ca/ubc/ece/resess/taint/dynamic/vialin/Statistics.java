@@ -1,37 +1,42 @@
 package ca.ubc.ece.resess.taint.dynamic.vialin;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Statistics {
 
     enum StatisticType {
-        sources, sinks, taintedMethods, notTaintedMethods
+        sources, sinks, taintedMethods, notTaintedMethods, removedTaintLines
     }
 
     Map<StatisticType, Integer> counts;
     public Statistics() {
-        counts = new HashMap<>();
+        counts = new ConcurrentHashMap<>();
         counts.put(StatisticType.sources, 0);
         counts.put(StatisticType.sinks, 0);
         counts.put(StatisticType.taintedMethods, 0);
         counts.put(StatisticType.notTaintedMethods, 0);
+        counts.put(StatisticType.removedTaintLines, 0);
     }
 
     public void addNotTainted() {
-        counts.put(StatisticType.notTaintedMethods, counts.get(StatisticType.notTaintedMethods) + 1);
+        counts.merge(StatisticType.notTaintedMethods, 1, Integer::sum);
     }
 
     public void addTainted() {
-        counts.put(StatisticType.taintedMethods, counts.get(StatisticType.taintedMethods) + 1);
+        counts.merge(StatisticType.taintedMethods, 1, Integer::sum);
     }
 
     public void addSource() {
-        counts.put(StatisticType.sources, counts.get(StatisticType.sources) + 1);
+        counts.merge(StatisticType.sources, 1, Integer::sum);
     }
 
     public void addSink() {
-        counts.put(StatisticType.sinks, counts.get(StatisticType.sinks) + 1);
+        counts.merge(StatisticType.sinks, 1, Integer::sum);
+    }
+
+    public void addRemovedTaintLines(int removedLines) {
+        counts.merge(StatisticType.removedTaintLines, removedLines, Integer::sum);
     }
 
     public void print() {
@@ -39,5 +44,6 @@ public class Statistics {
         System.out.format("# sinks %s%n", counts.get(StatisticType.sinks));
         System.out.format("# tainted methods %s%n", counts.get(StatisticType.taintedMethods));
         System.out.format("# not tainted methods %s%n", counts.get(StatisticType.notTaintedMethods));
+        System.out.format("# removed taint code lines %s%n", counts.get(StatisticType.removedTaintLines));
     }
 }
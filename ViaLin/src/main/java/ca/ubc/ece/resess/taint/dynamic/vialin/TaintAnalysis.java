@@ -6,6 +6,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -15,9 +17,16 @@ import ca.ubc.ece.resess.taint.dynamic.vialin.MethodModel.MethodModelAssignment;
 class TaintAnalysis {
 
     public static final int MAX_METHOD_DELTA = 512;
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern REGISTER = Pattern.compile("([vp])(\\d+)");
+    // Gives every register of a method a taint register, also the ones the method does not use
+    static final boolean TAINT_ALL_REGS = Boolean.getBoolean("vialin.taintAllRegs");
+    // Passes the taints of parameters in the parameter array of the thread, with aput and aget, instead of calls
+    static final boolean PACKED_PARAM_TAINT = Boolean.getBoolean("vialin.packedParamTaint");
     public static boolean debug;
     protected ClassAnalysis classAnalysis;
     protected Statistics statistics;
+    protected SmaliStore smaliStore = SmaliStore.onDisk();
     public boolean isFramework;
 
     public static Set<String> forbiddenClasses = new HashSet<>(Arrays.asList(
@@ -94,8 +103,18 @@ class TaintAnalysis {
 
      };
 
-     private static final Set<String> ignoreClass = new HashSet<>(Arrays.asList(ignoreArray));
-     private static final Set<String> ignore = new HashSet<>(Arrays.asList(ignoreArray));
+     // The ignored packages, with the rules of the policy file in vialin.packagePolicy on top of them. Read by
+     // each analysis, as the jobs of a batch or daemon can have different policies
+     private final PackageFilter ignore = createIgnoreFilter();
+
+     private static PackageFilter createIgnoreFilter() {
+        PackageFilter filter = new PackageFilter(ignoreArray);
+        String policyFile = System.getProperty("vialin.packagePolicy");
+        if (policyFile != null) {
+            filter.addPolicy(policyFile);
+        }
+        return filter;
+     }
 
     public void analyze() {
         throw new UnsupportedOperationException("Should override this method");
@@ -105,42 +124,28 @@ class TaintAnalysis {
         throw new UnsupportedOperationException("Should override this method");
     }
 
+    public void setSmaliStore(SmaliStore smaliStore) {
+        this.smaliStore = smaliStore;
+    }
+
 
 
 
     public boolean isIgnored(Set<String> classNames) {
         for (String className : classNames) {
-            if (className.startsWith("[")) {
+            if (className.startsWith("[") || ignore.isExcluded(className)) {
                 return true;
             }
-            for (String c : ignore) {
-                if (className.startsWith(c)) {
-                    return true;
-                }
-            }
         }
         return false;
     }
 
     public boolean isIgnored(String className) {
-        if (className.startsWith("[")) {
-            return true;
-        }
-        for (String c : ignore) {
-            if (className.startsWith(c)) {
-                return true;
-            }
-        }
-        return false;
+        return className.startsWith("[") || ignore.isExcluded(className);
     }
 
     public boolean isIgnoredClass(String className) {
-        for (String c : ignoreClass) {
-            if (className.startsWith(c)) {
-                return true;
-            }
-        }
-        return false;
+        return ignore.isExcluded(className);
     }
 
     public String getMoveByInstruction(String instruction) {
@@ -184,7 +189,7 @@ class TaintAnalysis {
     }
 
     public void initTaintRegs(TaintTool tool, MethodInfo methodInfo, Integer taintTempReg, Map<String, String> taintRegMap,
-            List<String> linesToAdd, int firstTaintReg, String regToUseForInit, String v0MoveInstruction,
+            List<String> linesToAdd, String regToUseForInit, String v0MoveInstruction,
             boolean alreadyMovedV0, Set<String> erasedTaintRegs) {
         int paramReg = methodInfo.getNumBaseLocalRegs() + methodInfo.getParams().size();
 
@@ -201,8 +206,10 @@ class TaintAnalysis {
         }
 
         for (int i = 0; i < methodInfo.getNumBaseLocalRegs(); i++) {
-            taintReg = "v"+String.valueOf(firstTaintReg + i);
-            addEraseTaint(linesToAdd, regToUseForInit, taintReg, erasedTaintRegs);
+            taintReg = taintRegMap.get("v" + i);
+            if (taintReg != null) {
+                addEraseTaint(linesToAdd, regToUseForInit, taintReg, erasedTaintRegs);
+            }
         }
 
         if (v0MoveInstruction != null && (methodInfo.getBaseNumRegs() > 255)) {
@@ -235,7 +242,7 @@ class TaintAnalysis {
             String targReg, String sourceReg, String destTaintReg, String srcTaintReg, InstrumentationContext context) {
 
         if (tool instanceof ViaLinTool) {
-            context.maxRegs = addCreateTaintWithLeftViaLin(context.taintTempReg, context.maxRegs, linesToAdd, instruction, targReg, sourceReg, destTaintReg, context.signatureRegister, context.deltaReg, srcTaintReg, context.methodDelta, context.regType);
+            context.maxRegs = addCreateTaintWithLeftViaLin((ViaLinTool) tool, context.taintTempReg, context.maxRegs, linesToAdd, instruction, targReg, sourceReg, destTaintReg, context.signatureRegister, context.deltaReg, srcTaintReg, context.methodDelta, context.regType);
         } else if (tool instanceof TaintDroidTool) {
             context.maxRegs = addCreateTaintWithLeftTaintDroid(context.maxRegs, linesToAdd, destTaintReg, srcTaintReg);
         }
@@ -249,7 +256,7 @@ class TaintAnalysis {
         return maxRegs;
     }
 
-    public Integer addCreateTaintWithLeftViaLin(Integer taintTempReg, Integer maxRegs, List<String> linesToAdd, String instruction, String targReg, String sourceReg, String taintTargReg, String signatureRegister, String deltaReg, String leftTaint, int delta, Map<String, String> regType) {
+    public Integer addCreateTaintWithLeftViaLin(ViaLinTool tool, Integer taintTempReg, Integer maxRegs, List<String> linesToAdd, String instruction, String targReg, String sourceReg, String taintTargReg, String signatureRegister, String deltaReg, String leftTaint, int delta, Map<String, String> regType) {
 
         String moveInstruction = getMoveByInstruction(instruction);
 
@@ -280,7 +287,7 @@ class TaintAnalysis {
         }
 
         if (getRegNumFromRef(leftTaint) > 255) {
-            linesToAdd.add("    move-object/16 " + smallReg + ", " + leftTaint);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + smallReg + ", " + leftTaint);
             linesToAdd.add("    if-eqz "+ smallReg + ", :cond_taint_" + label);
         } else {
             linesToAdd.add("    if-eqz "+ leftTaint + ", :cond_taint_" + label);
@@ -290,17 +297,17 @@ class TaintAnalysis {
 
         addConstTaint(linesToAdd, smallReg, deltaReg, delta);
 
-        String newLine = "    invoke-static {" + leftTaint + ", " + signatureRegister + ", " + deltaReg + "}, Ljava/lang/PathTaint;->propagateOneArg(Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+        String newLine = "    invoke-static {" + leftTaint + ", " + signatureRegister + ", " + deltaReg + "}, " + tool.propagateOneArg();
         Pair<List<String>, Integer> rangedInvoke = makeInvokeToRange(newLine, taintTempReg);
         linesToAdd.addAll(rangedInvoke.first);
         int newMaxRegs = rangedInvoke.second;
         maxRegs = (maxRegs > newMaxRegs)? maxRegs : newMaxRegs;
         if (getRegNumFromRef(taintTargReg) > 255) {
-            linesToAdd.add("    move-result-object "+ smallReg);
-            linesToAdd.add("    move-object/16 " + taintTargReg + ", "  + smallReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + smallReg);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintTargReg + ", "  + smallReg);
 
         } else {
-            linesToAdd.add("    move-result-object "+ taintTargReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
         }
 
         // }
@@ -666,7 +673,7 @@ class TaintAnalysis {
                 context.maxRegs = handleOneSourceOneDest(tool,
                         linesToAdd, moveInstruction, passedRegs[i], passedRegs[i], taintReg, taintReg, context);
             }
-            context.maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context.threadReg, taintTempReg, context.maxRegs);
+            context.maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context, taintTempReg, context.maxRegs);
         }
 
         if ((forbiddenClasses.contains(calledMethodInfo.getClassName())) || isIgnored(classAnalysis.getClassOfMethod(calledMethodInfo.getClassName(), calledMethodInfo.getNameAndDesc())) ) {
@@ -796,7 +803,7 @@ class TaintAnalysis {
 
         MethodInfo calledMethodInfo = new MethodInfo(calledMethod, instruction.contains("static"));
 
-        Set<String> classesOfMethod = classAnalysis.getClassOfMethod(calledMethodInfo.getClassName(), calledMethodInfo.getNameAndDesc());
+        Set<String> classesOfMethod = new HashSet<>(classAnalysis.getClassOfMethod(calledMethodInfo.getClassName(), calledMethodInfo.getNameAndDesc()));
         classesOfMethod.add(calledMethodInfo.getClassName());
         int[] sinkParams = TaintSink.sinkParams(classesOfMethod, calledMethodInfo.getNameAndDesc());
         String[] passedRegs = null;
@@ -857,7 +864,7 @@ class TaintAnalysis {
             }
 
             if (tool instanceof ViaLinTool && sinkParams.length != 0) {
-                linesToAdd.add("    invoke-static {}, Ljava/lang/PathTaint;->finishDumpTaint()V");
+                linesToAdd.add("    invoke-static {}, " + ((ViaLinTool) tool).finishDumpTaint());
             }
         } catch (ArrayIndexOutOfBoundsException e) {
             System.out.println("Failed to inject at sink: " + line);
@@ -869,15 +876,81 @@ class TaintAnalysis {
 
     /**
      * Creates a mapping between the original register names and the corresponding taint registers.
-     * The mapping is stored in the provided taintRegMap.
-     * @param methodInfo the method information object
+     * The mapping is stored in the provided taintRegMap. The taint registers are allocated in the order
+     * of the registers, so the two registers of a wide pair get consecutive taint registers.
+     * @param taintedRegs the numbers of the registers that get a taint register
      * @param taintRegMap the map to store the register mapping
      * @param firstTaintReg the number of the first taint register
+     * @return the number of taint registers
      */
-    public void createTaintTargRegMap(MethodInfo methodInfo, Map<String, String> taintRegMap, int firstTaintReg) {
-        for (int i = 0; i < methodInfo.getBaseNumRegs() + 1; i++) {
-            taintRegMap.put("v" + i, "v" + (firstTaintReg + i));
+    public int createTaintTargRegMap(SortedSet<Integer> taintedRegs, Map<String, String> taintRegMap, int firstTaintReg) {
+        int taintReg = firstTaintReg;
+        for (int reg : taintedRegs) {
+            taintRegMap.put("v" + reg, "v" + taintReg++);
         }
+        return taintedRegs.size();
+    }
+
+    /**
+     * Collects the registers of a method that need a taint register: the registers its instructions use,
+     * with the second register of the wide values, and the parameters and the register after them, whose
+     * taint registers are read and written at the start of the method and at its returns. A register the
+     * method never uses cannot carry taint, so it gets no taint register, which keeps the taint registers
+     * of large methods below the 8-bit and 4-bit register limits more often.
+     *
+     * @param classLines the lines of the class
+     * @param lineNum the line of the .registers directive of the method
+     * @param methodInfo the method, with its number of registers set
+     * @return the register numbers, in ascending order
+     */
+    public SortedSet<Integer> collectTaintedRegs(List<String> classLines, int lineNum, MethodInfo methodInfo) {
+        SortedSet<Integer> taintedRegs = new TreeSet<>();
+        int firstReg = TAINT_ALL_REGS ? 0 : methodInfo.getNumBaseLocalRegs();
+        for (int i = firstReg; i <= methodInfo.getBaseNumRegs(); i++) {
+            taintedRegs.add(i);
+        }
+        if (TAINT_ALL_REGS) {
+            return taintedRegs;
+        }
+        for (int i = lineNum + 1; i < classLines.size() && !classLines.get(i).startsWith(".end method"); i++) {
+            String line = classLines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(".") || line.startsWith(":") || line.startsWith("#") || line.startsWith("0x") || line.startsWith("-")) {
+                continue;
+            }
+            // Registers come before string literals
+            int quote = line.indexOf('"');
+            if (quote != -1) {
+                line = line.substring(0, quote);
+            }
+            String[] tokens = line.split("\\s+");
+            boolean wide = tokens[0].contains("wide") || tokens[0].contains("long") || tokens[0].contains("double");
+            int rangeStart = -1;
+            boolean inRange = false;
+            for (String token : tokens) {
+                if (token.equals("..")) {
+                    inRange = true;
+                    continue;
+                }
+                Matcher matcher = REGISTER.matcher(token.replace(",", "").replace("{", "").replace("}", ""));
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int reg = Integer.parseInt(matcher.group(2));
+                if (matcher.group(1).equals("p")) {
+                    reg += methodInfo.getNumBaseLocalRegs();
+                }
+                int from = inRange ? rangeStart : reg;
+                for (int r = from; r <= reg; r++) {
+                    taintedRegs.add(r);
+                    if (wide) {
+                        taintedRegs.add(r + 1);
+                    }
+                }
+                rangeStart = reg;
+                inRange = false;
+            }
+        }
+        return taintedRegs;
     }
 
     /**
@@ -934,6 +1007,7 @@ class TaintAnalysis {
 
     /**
      * Initializes the signature register for a given method with the provided signature register and lines to add.
+     * The register holds the signature of the method, or its site ID when site IDs are on (see {@link SiteDictionary}).
      *
      * @param methodInfo the method information
      * @param signatureRegister the signature register
@@ -942,11 +1016,12 @@ class TaintAnalysis {
      */
     public void initSignatureReg(MethodInfo methodInfo, String signatureRegister, List<String> linesToAdd,
             String regToUseForInit) {
+        String site = SiteDictionary.ENABLED ? SiteDictionary.getSite(methodInfo.signature()) : methodInfo.signature();
         if (getRegNumFromRef(signatureRegister) > 255) {
-            linesToAdd.add("    const-string/jumbo "+regToUseForInit+", \"" + methodInfo.signature() + "\"");
+            linesToAdd.add("    const-string/jumbo "+regToUseForInit+", \"" + site + "\"");
             linesToAdd.add("    move-object/16 " + signatureRegister + ", "+regToUseForInit);
         } else {
-            linesToAdd.add("    const-string/jumbo "+signatureRegister+", \"" + methodInfo.signature() + "\"");
+            linesToAdd.add("    const-string/jumbo "+signatureRegister+", \"" + site + "\"");
         }
     }
 
@@ -972,17 +1047,17 @@ class TaintAnalysis {
 
     /**
      * Initializes the parameter array register.
-     * If the parameter array register integer is greater than 15, the register to use for initialization is specified.
+     * If the parameter array register integer is greater than 255, the register to use for initialization is specified.
      * Otherwise, the parameter array register is initialized directly.
      *
      * @param tool the TaintTool object to initialize the parameter array register for
      * @param paramArrayReg the name of the parameter array register
      * @param linesToAdd the list of lines to add the initialization code to
      * @param paramArrayRegInt the integer value of the parameter array register
-     * @param regToUseForInit the register to use for initialization if the parameter array register integer is greater than 15
+     * @param regToUseForInit the register to use for initialization if the parameter array register integer is greater than 255
      */
     public void initParamArrayReg(TaintTool tool, String paramArrayReg, List<String> linesToAdd, int paramArrayRegInt, String regToUseForInit) {
-        if (paramArrayRegInt > 15) {
+        if (paramArrayRegInt > 255) {
             linesToAdd.add("    invoke-static {}, " + tool.getParamArray());
             linesToAdd.add("    move-result-object " + regToUseForInit);
             linesToAdd.add("    move-object/16 " + paramArrayReg + ", " + regToUseForInit);
@@ -1002,9 +1077,11 @@ class TaintAnalysis {
      * @param taintRegMap the map of register names to their taint information, example: p0: v3 --> means that register v3 holds the taint for p0
      * @param linesToAdd the list of lines to add to the method body
      * @param regToUseForInit the register to use for initialization
+     * @param paramArrayReg the register holding the parameter array, or null to get the taints through calls
+     * @param paramIndexReg the register for the index into the parameter array
      */
     public void getParamTaintsAtMethodStart(TaintTool tool, MethodInfo methodInfo, String threadReg, Map<String, String> taintRegMap,
-            List<String> linesToAdd, String regToUseForInit) {
+            List<String> linesToAdd, String regToUseForInit, String paramArrayReg, String paramIndexReg) {
 
         for (int i = 0; i < methodInfo.getParams().size(); i++) {
 
@@ -1014,7 +1091,9 @@ class TaintAnalysis {
                 continue;
             }
 
-            if (getRegNumFromRef(taintReg) > 255) {
+            if (paramArrayReg != null && getRegNumFromRef(taintReg) <= 255) {
+                addGetParamTaintFromArray(tool, linesToAdd, i, taintReg, paramArrayReg, paramIndexReg);
+            } else if (getRegNumFromRef(taintReg) > 255) {
                 linesToAdd.add("    invoke-static/range {" + threadReg + " .. " + threadReg + "}, " + tool.getGetParamTaintInstr(i));
                 linesToAdd.add("    " + tool.getMoveResultTaint() + " " + regToUseForInit);
                 linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintReg + ", " + regToUseForInit);
@@ -1067,7 +1146,7 @@ class TaintAnalysis {
 
             for (int i = 0; i < passedRegs.length; i++) {
                 maxRegs = handleOneSourceOneDest(tool, linesToAdd, getMoveInstructionByType(calledMethodInfo.getParams().get(i)), passedRegs[i], passedRegs[i], taintReg, taintReg, context);
-                maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context.threadReg, taintTempReg, maxRegs);
+                maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context, taintTempReg, maxRegs);
             }
 
             String taintTargReg = context.taintRegMap.get(passedRegs[0]);
@@ -1102,7 +1181,7 @@ class TaintAnalysis {
             List<String> linesToAdd, String instruction,
             String targReg, String sourceReg, String destTaintReg, String firstSrcTaintReg, String secondSrcTaintReg, InstrumentationContext context) {
         if (tool instanceof ViaLinTool) {
-            return addCreateTaintWithLeftRightViaLin(taintTempReg, context.maxRegs, linesToAdd, instruction, targReg, sourceReg, destTaintReg, context.signatureRegister, context.deltaReg, firstSrcTaintReg, secondSrcTaintReg, context.methodDelta, context.regType);
+            return addCreateTaintWithLeftRightViaLin((ViaLinTool) tool, taintTempReg, context.maxRegs, linesToAdd, instruction, targReg, sourceReg, destTaintReg, context.signatureRegister, context.deltaReg, firstSrcTaintReg, secondSrcTaintReg, context.methodDelta, context.regType);
         } else if (tool instanceof TaintDroidTool) {
             return addCreateTaintWithLeftRightTaintDroid(taintTempReg, context.maxRegs, linesToAdd, instruction, targReg, destTaintReg, firstSrcTaintReg, secondSrcTaintReg, context.regType);
         }
@@ -1181,7 +1260,7 @@ class TaintAnalysis {
      * @param regType the map of register types
      * @return the new maximum number of registers used after adding the new line
      */
-    private Integer addCreateTaintWithLeftRightViaLin(Integer taintTempReg, Integer maxRegs, List<String> linesToAdd, String instruction, String targReg, String sourceReg, String taintTargReg, String signatureRegister, String deltaReg, String leftTaint, String rightTaint, int delta, Map<String, String> regType) {
+    private Integer addCreateTaintWithLeftRightViaLin(ViaLinTool tool, Integer taintTempReg, Integer maxRegs, List<String> linesToAdd, String instruction, String targReg, String sourceReg, String taintTargReg, String signatureRegister, String deltaReg, String leftTaint, String rightTaint, int delta, Map<String, String> regType) {
 
         String moveInstruction = getMoveByInstruction(instruction);
 
@@ -1207,7 +1286,7 @@ class TaintAnalysis {
             if (moveInstruction != null) {
                 linesToAdd.add("    " + moveInstruction + "/16 v" + taintTempReg + ", " + smallReg);
             }
-            linesToAdd.add("    move-object/16 " + smallReg + ", " + rightTaint);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + smallReg + ", " + rightTaint);
         }
 
         if (getRegNumFromRef(leftTaint) > 255) {
@@ -1227,16 +1306,16 @@ class TaintAnalysis {
 
         addConstTaint(linesToAdd, smallReg, deltaReg, delta);
 
-        String newLine = "    invoke-static {" + leftTaint + ", " + rightTaint + ", " + signatureRegister + ", " + deltaReg + "}, Ljava/lang/PathTaint;->propagateTwoArgs(Ljava/lang/PathTaint;Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+        String newLine = "    invoke-static {" + leftTaint + ", " + rightTaint + ", " + signatureRegister + ", " + deltaReg + "}, " + tool.propagateTwoArgs();
         Pair<List<String>, Integer> rangedInvoke = makeInvokeToRange(newLine, taintTempReg+2);
         linesToAdd.addAll(rangedInvoke.first);
         int newMaxRegs = rangedInvoke.second;
         maxRegs = (maxRegs > newMaxRegs)? maxRegs : newMaxRegs;
         if (getRegNumFromRef(taintTargReg) > 255) {
-            linesToAdd.add("    move-result-object "+ smallReg);
-            linesToAdd.add("    move-object/16 " + taintTargReg + ", "  + smallReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + smallReg);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintTargReg + ", "  + smallReg);
         } else {
-            linesToAdd.add("    move-result-object "+ taintTargReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
         }
 
 
@@ -1273,6 +1352,45 @@ class TaintAnalysis {
         return maxRegs;
     }
 
+    /**
+     * Adds the code that sets a parameter taint, into the parameter array of the context if it has one and the
+     * taint register fits an aput, otherwise with a call.
+     *
+     * @param tool the TaintTool object to use for setting parameter taint
+     * @param linesToAdd the list of lines to add the new lines to
+     * @param i the index of the parameter to set taint for
+     * @param taintReg the register containing the taint value
+     * @param context the InstrumentationContext instance to use
+     * @param taintTempReg the temporary register to use for taint operations
+     * @param maxRegs the maximum number of registers used so far
+     * @return the new maximum number of registers used after adding the new lines
+     */
+    public int addSetParamTaintLine(TaintTool tool, List<String> linesToAdd, int i, String taintReg, InstrumentationContext context, int taintTempReg, int maxRegs) {
+        if (context.paramArrayReg != null && getRegNumFromRef(taintReg) <= 255) {
+            addConstTaint(linesToAdd, null, context.paramIndexReg, i);
+            linesToAdd.add("    " + tool.arraySet() + " " + taintReg + ", " + context.paramArrayReg + ", " + context.paramIndexReg);
+            return maxRegs;
+        }
+        return addSetParamTaintLine(tool, linesToAdd, i, taintReg, context.threadReg, taintTempReg, maxRegs);
+    }
+
+    /**
+     * Adds the code that gets a parameter taint from the parameter array, where
+     * {@link #addSetParamTaintLine(TaintTool, List, int, String, InstrumentationContext, int, int)} sets it.
+     * The taint register, the array register and the index register must all be below 256.
+     *
+     * @param tool the TaintTool object to use for getting parameter taint
+     * @param linesToAdd the list of lines to add the new lines to
+     * @param i the index of the parameter to get taint for
+     * @param taintReg the register to get the taint into
+     * @param paramArrayReg the register holding the parameter array
+     * @param paramIndexReg the register for the index into the parameter array
+     */
+    public void addGetParamTaintFromArray(TaintTool tool, List<String> linesToAdd, int i, String taintReg, String paramArrayReg, String paramIndexReg) {
+        addConstTaint(linesToAdd, null, paramIndexReg, i);
+        linesToAdd.add("    " + tool.arrayGet() + " " + taintReg + ", " + paramArrayReg + ", " + paramIndexReg);
+    }
+
     /**
      * Adds taint to the exception thrown by a method call.
      * @param tool The TaintTool instance.
@@ -1313,7 +1431,7 @@ class TaintAnalysis {
             String originalType = context.currentMethod.getParams().get(i);
             String currentType = context.regType.get("v" + context.newParams.get(i));
             if (originalType.equals(currentType) || currentType == null) {
-                context.maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context.threadReg, context.taintTempReg, context.maxRegs);
+                context.maxRegs = addSetParamTaintLine(tool, linesToAdd, i, taintReg, context, context.taintTempReg, context.maxRegs);
             }
         }
         return context.maxRegs;
@@ -1512,6 +1630,8 @@ class TaintAnalysis {
                 if (moveInstruction != null) {
                     linesToAdd.add("    " + moveInstruction + " " + smallReg + ", v" + taintTempReg);
                 }
+            } else if (context.paramArrayReg != null) {
+                addGetParamTaintFromArray(tool, linesToAdd, i, taintReg, context.paramArrayReg, context.paramIndexReg);
             } else {
                 if (getRegNumFromRef(context.threadReg) > 15) {
                     linesToAdd.add("    invoke-static/range {" + context.threadReg + " .. " + context.threadReg + "}, " + tool.getGetParamTaintInstr(i));
@@ -1718,7 +1838,7 @@ class TaintAnalysis {
 
         if (getRegNumFromRef(taintTargReg) > 255) {
             linesToAdd.add("    " + tool.getMoveResultTaint() + " " + targetReg);
-            linesToAdd.add("    move-object/16 " + taintTargReg + ", " + targetReg);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintTargReg + ", " + targetReg);
             linesToAdd.add("    " + moveInstruction + "/16 " + targetReg + ", v" + context.taintTempReg);
         } else {
             linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
@@ -1753,7 +1873,7 @@ class TaintAnalysis {
 
         if (getRegNumFromRef(taintTargReg) > 255) {
             linesToAdd.add("    " + tool.getMoveResultTaint() + " " + targetReg);
-            linesToAdd.add("    move-object/16 " + taintTargReg + ", " + targetReg);
+            linesToAdd.add("    " + tool.getMoveTaint() + "/16 " + taintTargReg + ", " + targetReg);
         } else {
             linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
         }
@@ -1871,12 +1991,12 @@ class TaintAnalysis {
 
         if (tool instanceof ViaLinTool) {
             addConstTaint(linesToAdd, "v"+taintTempReg, deltaReg, delta);
-            String newLine = "    invoke-static {" + taintTargReg + ", " + signatureRegister + ", " + deltaReg + "}, Ljava/lang/PathTaint;->addTaintSource(Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+            String newLine = "    invoke-static {" + taintTargReg + ", " + signatureRegister + ", " + deltaReg + "}, " + ((ViaLinTool) tool).addTaintSource();
             Pair<List<String>, Integer> rangedInvoke = makeInvokeToRange(newLine, taintTempReg);
             linesToAdd.addAll(rangedInvoke.first);
             int newMaxRegs = rangedInvoke.second;
             maxRegs = (maxRegs > newMaxRegs)? maxRegs : newMaxRegs;
-            linesToAdd.add("    move-result-object "+ taintTargReg);
+            linesToAdd.add("    " + tool.getMoveResultTaint() + " " + taintTargReg);
         } else if (tool instanceof TaintDroidTool) {
             linesToAdd.add("    or-int/lit8 " + taintTargReg + ", " + taintTargReg + ", " + (1 << taintNum));
         }
@@ -2283,7 +2403,7 @@ class TaintAnalysis {
             }
 
             // Replace the parameter with the local variable
-            Matcher matcher = Pattern.compile("\\d+").matcher(line.subSequence(indexOfParam, line.length()));
+            Matcher matcher = NUMBER.matcher(line.subSequence(indexOfParam, line.length()));
             matcher.find();
             int i = Integer.parseInt(matcher.group());
 
@@ -3710,253 +3830,17 @@ class TaintAnalysis {
     }
 
     /**
-     * Returns the size of the instruction in bits.
+     * Returns the size of the instruction in 16-bit code units, from the format of its opcode.
      *
      * @param instruction the instruction to get the size of
-     * @return the size of the instruction in bits
+     * @return the size of the instruction in 16-bit code units
      * @throws InvalidInstructionError if the instruction is invalid
      */
     public int getSizeBit(String instruction) {
-        int num16Bits = 0;
-        num16Bits = getSizeIfNop(instruction, num16Bits);
-        num16Bits = getSizeIfMove(instruction, num16Bits);
-        num16Bits = getSizeIfMoveResult(instruction, num16Bits);
-        num16Bits = getSizeIfReturn(instruction, num16Bits);
-        num16Bits = getSizeIfConst(instruction, num16Bits);
-        num16Bits = getSizeIfMonitor(instruction, num16Bits);
-        num16Bits = getSizeIfSpecial(instruction, num16Bits);
-        num16Bits = getSizeIfGoto(instruction, num16Bits);
-        num16Bits = getSizeIfTest(instruction, num16Bits);
-        num16Bits = getSizeIfStruct(instruction, num16Bits);
-        num16Bits = getSizeIfInvoke(instruction, num16Bits);
-        num16Bits = getSizeIfOperator(instruction, num16Bits);
-        num16Bits = getSizeIfConstMethod(instruction, num16Bits);
-        if (num16Bits == 0) {
+        if (SmaliInstruction.getKind(instruction) == SmaliInstruction.Kind.OTHER) {
             throw new InvalidInstructionError("Invalid instruction: " + instruction);
         }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a constant method handle or a constant method type.
-     * If the instruction is a constant method handle or a constant method type, the size is 2.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfConstMethod(String instruction, int num16Bits) {
-        if (isConstMethodHandle(instruction) || isConstMethodType(instruction)) {
-            num16Bits = 2;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a monitor enter or a monitor exit.
-     * If the instruction is a monitor enter or a monitor exit, the size is 1.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfMonitor(String instruction, int num16Bits) {
-        if (isMonitorEnter(instruction) || isMonitorExit(instruction)) {
-            num16Bits = 1;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a nop.
-     * If the instruction is a nop, the size is 1.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfNop(String instruction, int num16Bits) {
-        if (isNop(instruction)) {
-            num16Bits = 1;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a special instruction.
-     * If the instruction is a special instruction, the size is 1, 2, or 3.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfSpecial(String instruction, int num16Bits) {
-        if (isCheckCast(instruction)) {
-            num16Bits = 2;
-        } else if (isInstanceOf(instruction)) {
-            num16Bits = 2;
-        } else if (isArrayLength(instruction)) {
-            num16Bits = 1;
-        } else if (isNewInstance(instruction) || isNewArray(instruction)) {
-            num16Bits = 2;
-        } else if (isFilledNewArray(instruction) || isFilledNewArrayRange(instruction) || isFillArrayData(instruction)) {
-            num16Bits = 3;
-        }
-        if (isThrow(instruction)) {
-            num16Bits = 1;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is an invoke instruction.
-     * If the instruction is an invoke instruction, the size is 3 or 4.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfInvoke(String instruction, int num16Bits) {
-        if (isInvokeKind(instruction) || isInvokeKindRange(instruction) ||
-            isInvokeCustom(instruction) || isInvokeCustomRange(instruction)) {
-            num16Bits = 3;
-        } else if (isInvokePolymorphic(instruction) || isInvokePolymorphicRange(instruction)) {
-            num16Bits = 4;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a struct instruction.
-     * If the instruction is a struct instruction, the size is 2.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfStruct(String instruction, int num16Bits) {
-        if (isArrayOp(instruction) || isIinstanceOp(instruction) || isSstaticOp(instruction)) {
-            num16Bits = 2;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a test instruction.
-     * If the instruction is a test instruction, the size is 2 or 3.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfTest(String instruction, int num16Bits) {
-        if (isPackedSwitch(instruction) || isSparseSwitch(instruction)) {
-            num16Bits = 3;
-        } else if (isCmpkind(instruction)) {
-            num16Bits = 2;
-        } else if (isIfTest(instruction) || isIfTestz(instruction)) {
-            num16Bits = 2;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is an operator instruction.
-     * If the instruction is an operator instruction, the size is 1, 2, or 5.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfOperator(String instruction, int num16Bits) {
-        if (isUnOp(instruction)) {
-            num16Bits = 1;
-        } else if (isBinOp(instruction)) {
-            num16Bits = 2;
-        } else if (isBinOp2addr(instruction)) {
-            num16Bits = 1;
-        } else if (isBinOpLit16(instruction) || isBinOpLit8(instruction)) {
-            num16Bits = 2;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a goto instruction.
-     * If the instruction is a goto instruction, the size is 1, 2, or 3.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfGoto(String instruction, int num16Bits) {
-        if (isGoto(instruction)) {
-            num16Bits = 1;
-        } else if (isGoto16(instruction)) {
-            num16Bits = 2;
-        } else if (isGoto32(instruction)) {
-            num16Bits = 3;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a const instruction.
-     * If the instruction is a const instruction, the size is 1, 2, 3, or 5.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfConst(String instruction, int num16Bits) {
-        if (isConst4(instruction)) {
-            num16Bits = 1;
-        } else if (isConst16(instruction) || isConstHigh16(instruction) || isConstWide16(instruction) || isConstWideHigh16(instruction)
-                || isConstString(instruction) || isConstClass(instruction)) {
-            num16Bits = 2;
-        } else if (isConst(instruction) || isConstWide32(instruction) || isConstStringJumbo(instruction)) {
-            num16Bits = 3;
-        } else if (isConstWide(instruction)) {
-            num16Bits = 5;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a return instruction.
-     * If the instruction is a return instruction, the size is 1 or 2.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfReturn(String instruction, int num16Bits) {
-        if (isReturnVoid(instruction) || isReturn(instruction) || isReturnWide(instruction) || isReturnObject(instruction)) {
-            num16Bits = 1;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a move result instruction.
-     * If the instruction is a move result instruction, the size is 1 or 2.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     */
-    private int getSizeIfMoveResult(String instruction, int num16Bits) {
-        if (isMoveResult(instruction) || isMoveResultWide(instruction) || isMoveResultObject(instruction) || isMoveException(instruction)) {
-            return 1;
-        }
-        return num16Bits;
-    }
-
-    /**
-     * Returns the size of the instruction if it is a move instruction.
-     * If the instruction is a move instruction, the size is 1, 2, or 3.
-     * @param instruction the instruction to check
-     * @param num16Bits the current size of the instruction
-     * @return the size of the instruction
-     * @throws InvalidInstructionError if the instruction is invalid
-     */
-    private int getSizeIfMove(String instruction, int num16Bits) {
-        if (isMove(instruction) || isMoveWide(instruction) || isMoveObject(instruction) ) {
-            num16Bits = 1;
-        } else if (isMoveFrom16(instruction) || isMoveWideFrom16(instruction) || isMoveObjectFrom16(instruction)) {
-            num16Bits = 2;
-        } else if (isMove16(instruction) || isMoveWide16(instruction) || isMoveObject16(instruction)) {
-            num16Bits = 3;
-        }
-        return num16Bits;
+        return SmaliInstruction.getCodeUnits(SmaliInstruction.getOpcode(instruction));
     }
 
     /**
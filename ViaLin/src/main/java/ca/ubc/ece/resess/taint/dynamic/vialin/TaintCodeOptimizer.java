@@ -0,0 +1,522 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A peephole pass over an instrumented method that removes the taint code the instrumentation emits
+ * more than once. It only changes instructions that write the registers the instrumentation added,
+ * the ones numbered from the original register count up, and leaves the code of the app as it is.
+ *
+ * <p>The pass walks the method once and tracks, for each register, a number that stands for its value:
+ * two registers with the same number hold the same value. A label that is only reached by branches
+ * before it and by falling through joins the values the paths agree on, any other label starts with
+ * nothing known. With that, the pass:
+ * <ul>
+ * <li>removes a {@code const} or {@code move} that writes the value the register already holds, such as
+ *     erasing a taint register that is already erased;</li>
+ * <li>folds an {@code if-eqz} or {@code if-nez} on a taint register whose value is known to be zero or
+ *     not, such as a guard on an erased register, into a {@code goto} or nothing, and removes the
+ *     code that can no longer be reached;</li>
+ * <li>removes a write to a taint register that is written again before it is read, unless an exception
+ *     thrown between the writes can reach a handler of the method.</li>
+ * </ul>
+ */
+public class TaintCodeOptimizer {
+
+    static final boolean ENABLED = !Boolean.getBoolean("vialin.noPeephole");
+
+    private final List<String> lines;
+    private final int firstTaintReg;
+    private final int firstParamReg;
+    private final Map<String, Label> labels = new HashMap<>();
+    private final Map<Long, Integer> constValues = new HashMap<>();
+    private final Map<Integer, Long> valueConsts = new HashMap<>();
+    private int numValues = 0;
+    private boolean hasHandlers = false;
+
+    private static class Label {
+        private int definedAt = -1;
+        // Whether every reference to the label is a branch before it
+        private boolean joinable = true;
+        private State incoming = null;
+    }
+
+    private static class State {
+        private final Map<Integer, Integer> values = new HashMap<>();
+        private final Set<Integer> zero = new HashSet<>();
+        private final Set<Integer> nonZero = new HashSet<>();
+
+        private State copy() {
+            State state = new State();
+            state.values.putAll(values);
+            state.zero.addAll(zero);
+            state.nonZero.addAll(nonZero);
+            return state;
+        }
+
+        private State join(State other) {
+            if (other == null) {
+                return this;
+            }
+            values.entrySet().removeIf(e -> !e.getValue().equals(other.values.get(e.getKey())));
+            zero.retainAll(other.zero);
+            nonZero.retainAll(other.nonZero);
+            return this;
+        }
+    }
+
+    private TaintCodeOptimizer(List<String> lines, int firstTaintReg, int numParamRegs) {
+        this.lines = lines;
+        this.firstTaintReg = firstTaintReg;
+        int numRegs = -1;
+        for (String line : lines) {
+            if (line.trim().startsWith(".registers")) {
+                numRegs = Integer.parseInt(TaintAnalysis.getLastToken(line));
+                break;
+            }
+        }
+        if (numRegs == -1) {
+            throw new Error("No register count in method: " + lines.get(0));
+        }
+        this.firstParamReg = numRegs - numParamRegs;
+    }
+
+    /**
+     * Optimizes the taint code of a method in place.
+     *
+     * @param methodLines The lines of the method, from its .method line to its .end method line.
+     * @param firstTaintReg The first register the instrumentation added, the original register count.
+     * @param numParamRegs The number of registers the parameters of the method take.
+     * @return The number of lines removed.
+     */
+    public static int optimize(List<String> methodLines, int firstTaintReg, int numParamRegs) {
+        TaintCodeOptimizer optimizer = new TaintCodeOptimizer(methodLines, firstTaintReg, numParamRegs);
+        int numLines = methodLines.size();
+        optimizer.findLabels();
+        List<String> optimized = removeJumpsToNext(optimizer.removeDeadStores(optimizer.propagateValues()));
+        methodLines.clear();
+        methodLines.addAll(optimized);
+        return numLines - optimized.size();
+    }
+
+    private void findLabels() {
+        boolean inAnnotation = false;
+        boolean inPayload = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.startsWith(".annotation")) {
+                inAnnotation = true;
+                continue;
+            } else if (line.startsWith(".end annotation")) {
+                inAnnotation = false;
+                continue;
+            } else if (inAnnotation || line.isEmpty() || line.startsWith("#")) {
+                continue;
+            } else if (isPayloadStart(line)) {
+                inPayload = true;
+                continue;
+            } else if (isPayloadEnd(line)) {
+                inPayload = false;
+                continue;
+            } else if (!inPayload && line.startsWith(":")) {
+                label(line).definedAt = i;
+                continue;
+            }
+            if (line.startsWith(".catch")) {
+                hasHandlers = true;
+            }
+            boolean isBranch = false;
+            if (!inPayload && !line.startsWith(".")) {
+                SmaliInstruction.Kind kind = SmaliInstruction.getKind(TaintAnalysis.getToken(line, 0));
+                isBranch = kind == SmaliInstruction.Kind.GOTO || kind == SmaliInstruction.Kind.IF_TEST
+                    || kind == SmaliInstruction.Kind.IF_TESTZ;
+            }
+            // The labels of switch payloads and of catch directives, and backward branches, are not joined
+            for (String token : line.split("[\\s{},]+")) {
+                if (token.startsWith(":")) {
+                    Label label = label(token);
+                    if (!isBranch || label.definedAt != -1) {
+                        label.joinable = false;
+                    }
+                }
+            }
+        }
+    }
+
+    private Label label(String name) {
+        return labels.computeIfAbsent(name, k -> new Label());
+    }
+
+    /**
+     * Walks the method, removing redundant writes and folding known guards.
+     *
+     * @return The lines that remain.
+     */
+    private List<String> propagateValues() {
+        List<String> out = new ArrayList<>(lines.size());
+        State state = new State();
+        boolean inCode = true;
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith(".annotation")) {
+                inCode = false;
+            } else if (trimmed.startsWith(".end annotation")) {
+                inCode = true;
+            } else if (isPayloadStart(trimmed)) {
+                inCode = false;
+            } else if (isPayloadEnd(trimmed)) {
+                inCode = true;
+            } else if (inCode && trimmed.startsWith(":")) {
+                Label label = labels.get(trimmed);
+                if (label != null && label.joinable) {
+                    state = label.incoming == null ? state : label.incoming.join(state);
+                } else {
+                    state = new State();
+                }
+            } else if (inCode && !trimmed.isEmpty() && !trimmed.startsWith(".") && !trimmed.startsWith("#")) {
+                if (state == null) {
+                    // Unreachable
+                    continue;
+                }
+                SmaliInstruction insn = SmaliInstruction.parse(line);
+                String replacement = line;
+                switch (insn.getKind()) {
+                    case CONST:
+                        replacement = propagateConst(insn, state);
+                        break;
+                    case MOVE:
+                        replacement = propagateMove(insn, state);
+                        break;
+                    case IF_TESTZ:
+                        replacement = foldGuard(insn, state);
+                        if (replacement != null && replacement.trim().startsWith("goto")) {
+                            state = null;
+                        }
+                        break;
+                    case IF_TEST:
+                        branch(insn.getReference(), state);
+                        break;
+                    case GOTO:
+                        branch(insn.getReference(), state);
+                        state = null;
+                        break;
+                    case RETURN:
+                    case RETURN_VOID:
+                    case THROW:
+                        state = null;
+                        break;
+                    case OTHER:
+                        state = new State();
+                        break;
+                    default:
+                        if (writesRegister(insn)) {
+                            kill(insn, state);
+                        }
+                        break;
+                }
+                if (replacement == null) {
+                    continue;
+                }
+                line = replacement;
+            }
+            out.add(line);
+        }
+        return out;
+    }
+
+    private String propagateConst(SmaliInstruction insn, State state) {
+        String name = insn.getName();
+        if (!name.equals("const/4") && !name.equals("const/16") && !name.equals("const")) {
+            kill(insn, state);
+            return insn.getLine();
+        }
+        int reg = register(insn.getRegister(1));
+        Integer value = constValue(Long.decode(insn.getRegister(2)));
+        if (reg >= firstTaintReg && value.equals(state.values.get(reg))) {
+            return null;
+        }
+        state.values.put(reg, value);
+        return insn.getLine();
+    }
+
+    private String propagateMove(SmaliInstruction insn, State state) {
+        if (insn.getName().contains("wide")) {
+            kill(insn, state);
+            return insn.getLine();
+        }
+        int dest = register(insn.getRegister(1));
+        Integer value = valueOf(register(insn.getRegister(2)), state);
+        if (dest >= firstTaintReg && value.equals(state.values.get(dest))) {
+            return null;
+        }
+        state.values.put(dest, value);
+        return insn.getLine();
+    }
+
+    private String foldGuard(SmaliInstruction insn, State state) {
+        String name = insn.getName();
+        String target = insn.getReference();
+        if (!name.equals("if-eqz") && !name.equals("if-nez")) {
+            branch(target, state);
+            return insn.getLine();
+        }
+        int reg = register(insn.getRegister(1));
+        Integer value = valueOf(reg, state);
+        Long constant = valueConsts.get(value);
+        boolean isZero = state.zero.contains(value) || (constant != null && constant == 0);
+        boolean isNonZero = state.nonZero.contains(value) || (constant != null && constant != 0);
+        boolean branchesOnZero = name.equals("if-eqz");
+        if (reg >= firstTaintReg && (isZero || isNonZero)) {
+            if (isZero == branchesOnZero) {
+                branch(target, state);
+                return "    goto " + target;
+            }
+            return null;
+        }
+        State taken = state.copy();
+        (branchesOnZero ? taken.zero : taken.nonZero).add(value);
+        branch(target, taken);
+        (branchesOnZero ? state.nonZero : state.zero).add(value);
+        return insn.getLine();
+    }
+
+    private void branch(String target, State state) {
+        Label label = labels.get(target);
+        if (label != null && label.joinable) {
+            label.incoming = label.incoming == null ? state.copy() : label.incoming.join(state);
+        }
+    }
+
+    private Integer valueOf(int reg, State state) {
+        return state.values.computeIfAbsent(reg, k -> numValues++);
+    }
+
+    private Integer constValue(long constant) {
+        return constValues.computeIfAbsent(constant, k -> {
+            valueConsts.put(numValues, k);
+            return numValues++;
+        });
+    }
+
+    private void kill(SmaliInstruction insn, State state) {
+        int reg = register(insn.getRegister(1));
+        state.values.remove(reg);
+        if (isWide(insn.getName())) {
+            state.values.remove(reg + 1);
+        }
+    }
+
+    /**
+     * Removes the writes to taint registers that are written again before they are read.
+     */
+    private List<String> removeDeadStores(List<String> code) {
+        List<String> out = new ArrayList<>(code.size());
+        for (int i = 0; i < code.size(); i++) {
+            String line = code.get(i);
+            Integer dest = narrowWrite(line);
+            if (dest == null || dest < firstTaintReg || !isOverwritten(code, i, dest)) {
+                out.add(line);
+            }
+        }
+        return out;
+    }
+
+    private boolean isOverwritten(List<String> code, int writeAt, int reg) {
+        for (int i = writeAt + 1; i < code.size(); i++) {
+            String line = code.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#") || line.startsWith(".line") || line.startsWith(".local")
+                    || line.startsWith(".end local") || line.startsWith(".restart local")) {
+                continue;
+            }
+            if (line.startsWith(":") || line.startsWith(".")) {
+                return false;
+            }
+            SmaliInstruction insn = SmaliInstruction.parse(line);
+            if (insn.getKind() == SmaliInstruction.Kind.OTHER) {
+                return false;
+            }
+            Integer dest = narrowWrite(line);
+            List<Integer> read = registers(insn);
+            if (dest != null) {
+                read.remove(0);
+            }
+            if (read.contains(reg)) {
+                return false;
+            }
+            if (dest != null && dest == reg) {
+                return true;
+            }
+            if (writesRegister(insn) && (register(insn.getRegister(1)) == reg
+                    || (isWide(insn.getName()) && register(insn.getRegister(1)) + 1 == reg))) {
+                // Partly written, by a wide write
+                return false;
+            }
+            switch (insn.getKind()) {
+                case NOP:
+                case MOVE:
+                case MOVE_RESULT:
+                case CONST:
+                    break;
+                case GOTO:
+                case IF_TEST:
+                case IF_TESTZ:
+                case SWITCH:
+                case RETURN:
+                case RETURN_VOID:
+                case THROW:
+                    return false;
+                default:
+                    if (hasHandlers) {
+                        return false;
+                    }
+                    break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the register a line writes, if it is a const or move of a narrow value, otherwise null.
+     */
+    private Integer narrowWrite(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith(":") || trimmed.startsWith(".") || trimmed.startsWith("#")) {
+            return null;
+        }
+        SmaliInstruction insn = SmaliInstruction.parse(line);
+        String name = insn.getName();
+        switch (insn.getKind()) {
+            case CONST:
+                if (name.equals("const/4") || name.equals("const/16") || name.equals("const")) {
+                    return register(insn.getRegister(1));
+                }
+                return null;
+            case MOVE:
+            case MOVE_RESULT:
+                if (!name.contains("wide")) {
+                    return register(insn.getRegister(1));
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Removes the gotos to the label right after them, which folding a guard leaves.
+     */
+    private static List<String> removeJumpsToNext(List<String> code) {
+        List<String> out = new ArrayList<>(code.size());
+        for (int i = 0; i < code.size(); i++) {
+            String line = code.get(i).trim();
+            if (SmaliInstruction.getKind(TaintAnalysis.getToken(line, 0)) == SmaliInstruction.Kind.GOTO) {
+                String target = TaintAnalysis.getLastToken(line);
+                int next = i + 1;
+                while (next < code.size() && (code.get(next).trim().isEmpty() || code.get(next).trim().startsWith("#"))) {
+                    next++;
+                }
+                if (next < code.size() && code.get(next).trim().equals(target)) {
+                    continue;
+                }
+            }
+            out.add(code.get(i));
+        }
+        return out;
+    }
+
+    private static boolean writesRegister(SmaliInstruction insn) {
+        String name = insn.getName();
+        switch (insn.getKind()) {
+            case NOP:
+            case RETURN_VOID:
+            case RETURN:
+            case MONITOR:
+            case FILL_ARRAY:
+            case THROW:
+            case GOTO:
+            case SWITCH:
+            case IF_TEST:
+            case IF_TESTZ:
+            case INVOKE:
+                return false;
+            case ARRAY_OP:
+            case INSTANCE_OP:
+            case STATIC_OP:
+                return name.contains("get");
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isWide(String name) {
+        return name.contains("wide") || name.contains("long") || name.contains("double");
+    }
+
+    /**
+     * Gets the registers an instruction names, in order, with ranges expanded and the second half of
+     * wide values added.
+     */
+    private List<Integer> registers(SmaliInstruction insn) {
+        String line = insn.getLine();
+        // Registers come before string literals and comments
+        int quote = line.indexOf('"');
+        if (quote != -1) {
+            line = line.substring(0, quote);
+        }
+        int comment = line.indexOf('#');
+        if (comment != -1) {
+            line = line.substring(0, comment);
+        }
+        boolean wide = isWide(insn.getName());
+        List<Integer> regs = new ArrayList<>();
+        String[] tokens = line.trim().split("[\\s{},]+");
+        for (int i = 1; i < tokens.length; i++) {
+            if (!isRegister(tokens[i])) {
+                continue;
+            }
+            int reg = register(tokens[i]);
+            int from = reg;
+            if (i + 2 < tokens.length && tokens[i + 1].equals("..")) {
+                i += 2;
+                reg = register(tokens[i]);
+            }
+            for (int r = from; r <= reg; r++) {
+                regs.add(r);
+                if (wide) {
+                    regs.add(r + 1);
+                }
+            }
+        }
+        return regs;
+    }
+
+    private static boolean isRegister(String token) {
+        if (token.length() < 2 || (token.charAt(0) != 'v' && token.charAt(0) != 'p')) {
+            return false;
+        }
+        for (int i = 1; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int register(String reg) {
+        int num = Integer.parseInt(reg.substring(1));
+        return reg.charAt(0) == 'p' ? firstParamReg + num : num;
+    }
+
+    private static boolean isPayloadStart(String line) {
+        return line.startsWith(".packed-switch") || line.startsWith(".sparse-switch") || line.startsWith(".array-data");
+    }
+
+    private static boolean isPayloadEnd(String line) {
+        return line.startsWith(".end packed-switch") || line.startsWith(".end sparse-switch") || line.startsWith(".end array-data");
+    }
+}
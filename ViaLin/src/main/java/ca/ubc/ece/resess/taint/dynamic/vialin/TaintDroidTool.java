@@ -166,6 +166,11 @@ public class TaintDroidTool implements TaintTool{
         return "aput";
     }
 
+    @Override
+    public String arrayGet() {
+        return "aget";
+    }
+
 
 
     @Override
@@ -178,11 +183,6 @@ public class TaintDroidTool implements TaintTool{
         return "Ljava/lang/Thread;->getParamArrayTaintDroid()[I";
     }
 
-    @Override
-    public String paramTaint(int i) {
-        return "Ljava/lang/Thread;->paramTaintTaintDroid" + i + "int:I";
-    }
-
     @Override
     public String getIntent() {
         return "Landroid/app/Activity;->getIntent()Landroid/content/Intent;";
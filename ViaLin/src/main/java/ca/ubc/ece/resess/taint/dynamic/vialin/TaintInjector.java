@@ -1,40 +1,42 @@
 package ca.ubc.ece.resess.taint.dynamic.vialin;
 
 import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import javax.annotation.Nonnull;
 
-import org.jf.baksmali.Baksmali;
 import org.jf.baksmali.BaksmaliOptions;
 import org.jf.dexlib2.DexFileFactory;
 import org.jf.dexlib2.Opcodes;
 import org.jf.dexlib2.dexbacked.DexBackedDexFile;
 import org.jf.dexlib2.dexbacked.reference.DexBackedTypeReference;
 import org.jf.dexlib2.iface.DexFile;
-import org.jf.smali.Smali;
 import org.jf.smali.SmaliOptions;
 import org.jf.util.ExceptionWithContext;
 
@@ -45,6 +47,13 @@ public class TaintInjector {
     enum AnalysisDestination {APP, FRAMEWORK}
 
     private static final int JOBS = 8;
+    private static final int INSTRUMENTATION_JOBS = Integer.getInteger("vialin.instrumentationJobs", Runtime.getRuntime().availableProcessors());
+    // Megabytes of smali text kept in memory between baksmali and smali, 0 goes through the dex directories on disk
+    private static final long SMALI_MEMORY_MB = Long.getLong("vialin.smaliMemoryMb", 0);
+    // Directory of the persistent instrumentation cache, unset disables the cache
+    private static final String CACHE_DIR = System.getProperty("vialin.cacheDir");
+    // Most methods, fields, types or prototypes a dex file is packed with
+    private static final int DEX_REFERENCE_LIMIT = Integer.getInteger("vialin.dexReferenceLimit", DexSharder.MAX_REFERENCES);
     private static final int BUFFER_SIZE = 4096;
     @Nonnull private final List<FileType> fileTypes;
     @Nonnull private final List<String> jarFiles;
@@ -58,13 +67,22 @@ public class TaintInjector {
     @Nonnull private final String coverageFile;
     @Nonnull private final TaintTool tool;
     @Nonnull private final AnalysisDestination analysisDestination;
-    private List<String> cannotInstrument = new ArrayList<>();
+    @Nonnull private final SmaliStore smaliStore;
+    @Nonnull private final String srcFile;
+    @Nonnull private final String sinkFile;
+    private List<String> cannotInstrument = Collections.synchronizedList(new ArrayList<>());
     private final boolean isFramework;
     private boolean injected = false;
+    // Filled by analyze() so that inject() on the same injector does not extract and disassemble again
+    private List<List<String>> extractedSmaliFiles = null;
+    private ClassAnalysis appClassAnalysis = null;
+    private TaintReachability reachability = null;
     private boolean bytecodeCov = false;
 
     public TaintInjector(List<String> jarFiles, String outDir, String analysisDir, String srcFile, String sinkFile, TaintTool tool, boolean isFramework, AnalysisDestination analysisDestination) {
         this.jarFiles = jarFiles;
+        this.srcFile = srcFile;
+        this.sinkFile = sinkFile;
 
         if (tool instanceof ViaLinTool || tool instanceof TaintDroidTool) {
             TaintSource.loadSources(srcFile);
@@ -118,12 +136,14 @@ public class TaintInjector {
         this.frameworkAnalysisDir = analysisDir;
         this.coverageFile = this.outDir + File.separator + "full_coverage.log";
         try {
+            Files.createDirectories(Paths.get(this.outDir));
             Files.write(Paths.get(coverageFile), ("").getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
         } catch (IOException e) {
             throw new Error("Cannot create coverage file: " + coverageFile);
         }
 
         this.analysisDestination = analysisDestination;
+        this.smaliStore = new SmaliStore(SMALI_MEMORY_MB * 1024 * 1024);
     }
 
     public void setBytecodeCov(boolean bytecodeCov) {
@@ -150,7 +170,10 @@ public class TaintInjector {
 
         collectDexFiles();
         List<String> smaliFiles = extractDexFiles(dexFiles);
-        analyzeDex(smaliFiles, frameworkAnalysisDir, analysisDestination);
+        ClassAnalysis classAnalysis = analyzeDex(smaliFiles, frameworkAnalysisDir, analysisDestination);
+        if (analysisDestination.equals(AnalysisDestination.APP)) {
+            appClassAnalysis = classAnalysis;
+        }
         return true;
     }
 
@@ -160,14 +183,16 @@ public class TaintInjector {
             return true;
         }
 
-        try {
-            extractJar();
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
-        }
+        if (extractedSmaliFiles == null) {
+            try {
+                extractJar();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
+            }
 
-        collectDexFiles();
+            collectDexFiles();
+        }
 
         if (dexFiles.size() == 0) {
             return true;
@@ -176,26 +201,31 @@ public class TaintInjector {
         int fileNum = 0;
         int api = readDexFile(dexFiles.get(fileNum)).getOpcodes().api;
 
+        InstrumentationCache instrumentationCache = createInstrumentationCache();
+        reachability = createReachability();
 
         for (int i = 0; i < dexFiles.size(); i++) {
             String dexFile = dexFiles.get(i);
-            List<String> smaliFiles = extractDexFile(dexFile, i);
+            List<String> smaliFiles = (extractedSmaliFiles != null)? extractedSmaliFiles.get(i) : extractDexFile(dexFile, i);
             long startTime = System.currentTimeMillis();
-            addTaint(tool, smaliFiles, frameworkAnalysisDir);
+            if (instrumentationCache != null) {
+                Map<String, String> missedKeys = instrumentationCache.restore(smaliFiles, smaliStore, outDir);
+                TaintAnalysis taintAnalysis = addTaint(tool, new ArrayList<>(missedKeys.keySet()), frameworkAnalysisDir);
+                instrumentationCache.save(missedKeys, smaliStore, (ClassTaint) taintAnalysis);
+                instrumentationCache.printStatistics();
+            } else {
+                addTaint(tool, smaliFiles, frameworkAnalysisDir);
+            }
             long endTime = System.currentTimeMillis();
             System.out.format("Taint addition took: %s%n", (endTime - startTime)/1000);
-            while (!smaliFiles.isEmpty()) {
-                try {
-                    startTime = System.currentTimeMillis();
-                    smaliFiles = packageDexFile(smaliFiles, api, fileNum);
-                    endTime = System.currentTimeMillis();
-                    System.out.format("Packaging took: %s%n", (endTime - startTime)/1000);
-
-                    fileNum++;
-                } catch (IOException e) {
-                    e.printStackTrace();
-                    return false;
-                }
+            try {
+                startTime = System.currentTimeMillis();
+                fileNum = packageDexFiles(smaliFiles, api, fileNum);
+                endTime = System.currentTimeMillis();
+                System.out.format("Packaging took: %s%n", (endTime - startTime)/1000);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return false;
             }
 
             if (!cannotInstrument.isEmpty()) {
@@ -221,10 +251,11 @@ public class TaintInjector {
         } catch (IOException e) {
             e.printStackTrace();
         }
-        for (Map.Entry<String, Set<String>> entry : InstrumentationContext.modeledMethods.entrySet()) {
+        // Sorted so that the log does not depend on the order the classes were instrumented in
+        for (Map.Entry<String, Set<String>> entry : new TreeMap<>(InstrumentationContext.modeledMethods).entrySet()) {
             String methodSignature = entry.getKey();
             Set<String> methodModels = entry.getValue();
-            String methodModelStr = methodModels.toString();
+            String methodModelStr = new TreeSet<>(methodModels).toString();
             try {
                 Files.write(Paths.get(outDir, "modeled_methods.log"), (methodSignature + ": " + methodModelStr + "\n").getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
             } catch (IOException e) {
@@ -232,6 +263,15 @@ public class TaintInjector {
             }
         }
         System.out.println("Wrote modeled methods to: " + Paths.get(outDir, "modeled_methods.log"));
+        if (MethodCostReport.ENABLED) {
+            MethodCostReport.write(outDir);
+        }
+        if (SiteDictionary.ENABLED) {
+            SiteDictionary.write(outDir);
+            if (isFramework) {
+                SiteDictionary.merge(frameworkAnalysisDir);
+            }
+        }
     }
 
     private void extractJar() throws IOException {
@@ -249,11 +289,12 @@ public class TaintInjector {
                 Files.copy(Paths.get(jarFile), Paths.get(jarDir, fileName));
                 System.out.println("Copied from " + Paths.get(jarFile) + " to " + Paths.get(jarDir, fileName));
             } else if (fileType.equals(FileType.JAR) || fileType.equals(FileType.APK)) {
-                System.out.println("Will unzip: " + jarFile);
-                unzip(jarFile, jarDir);
+                System.out.println("Will unzip dex files of: " + jarFile);
+                unzipDexFiles(jarFile, jarDir);
             }
         }
-        copyFolder(Paths.get(this.jarDir), Paths.get(this.newJardir));
+        // Everything else in the archives is copied as it is when they are packaged back
+        Files.createDirectories(Paths.get(this.newJardir));
     }
 
 
@@ -299,18 +340,11 @@ public class TaintInjector {
         System.out.println("Extracting dex file: " + dexDirFile.getName());
         DexFile dexFile = readDexFile(dexFileStr);
         options.apiLevel = dexFile.getOpcodes().api;
-        Baksmali.disassembleDexFile(dexFile, dexDirFile, JOBS, options);
-        try (Stream<Path> walk = Files.walk(Paths.get(dexDirFile.getPath()))) {
-            List<String> smaliFilesInDexFile = walk.filter(Files::isRegularFile)
-                    .map(x -> x.toString()).collect(Collectors.toList());
-            for (String f : smaliFilesInDexFile) {
-                if (!smaliFiles.contains(f)) {
-                    smaliFiles.add(f);
-                }
+        List<String> smaliFilesInDexFile = smaliStore.disassembleDexFile(dexFile, dexDirFile, JOBS, options);
+        for (String f : smaliFilesInDexFile) {
+            if (!smaliFiles.contains(f)) {
+                smaliFiles.add(f);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return smaliFiles;
         }
         return smaliFiles;
     }
@@ -320,6 +354,7 @@ public class TaintInjector {
         options.debugInfo = true;
 
         List<String> smaliFiles = new ArrayList<>();
+        extractedSmaliFiles = new ArrayList<>();
         int i = 0;
         for (String dexFileStr : dexFiles) {
             File dexDirFile = new File(dexDir + i);
@@ -331,34 +366,82 @@ public class TaintInjector {
             dexDirFile.mkdir();
             DexFile dexFile = readDexFile(dexFileStr);
             options.apiLevel = dexFile.getOpcodes().api;
-            Baksmali.disassembleDexFile(dexFile, dexDirFile, JOBS, options);
-            try (Stream<Path> walk = Files.walk(Paths.get(dexDirFile.getPath()))) {
-                List<String> smaliFilesInDexFile = walk.filter(Files::isRegularFile)
-                        .map(x -> x.toString()).collect(Collectors.toList());
-                for (String f : smaliFilesInDexFile) {
-                    if (!smaliFiles.contains(f)) {
-                        smaliFiles.add(f);
-                    }
+            List<String> smaliFilesInDexFile = smaliStore.disassembleDexFile(dexFile, dexDirFile, JOBS, options);
+            List<String> newSmaliFiles = new ArrayList<>();
+            for (String f : smaliFilesInDexFile) {
+                if (!smaliFiles.contains(f)) {
+                    smaliFiles.add(f);
+                    newSmaliFiles.add(f);
                 }
-
-            } catch (IOException e) {
-                e.printStackTrace();
-                return smaliFiles;
             }
+            extractedSmaliFiles.add(newSmaliFiles);
         }
         return smaliFiles;
     }
 
-    private void addTaint (TaintTool tool, List<String> smaliFiles, String analysisDir) {
+    private InstrumentationCache createInstrumentationCache() {
+        if (CACHE_DIR == null) {
+            return null;
+        }
+        if (TaintReachability.ENABLED && !isFramework) {
+            // What the pre-pass keeps of a class depends on the whole app, not on the class alone
+            System.out.println("Instrumentation cache is not used with the reachability pre-pass, will not use: " + CACHE_DIR);
+            return null;
+        }
+        if (MethodCostReport.ENABLED) {
+            // The classes restored from the cache are not instrumented, so they would have no rows
+            System.out.println("Instrumentation cache is not used with the cost report, will not use: " + CACHE_DIR);
+            return null;
+        }
+        if (SiteDictionary.ENABLED) {
+            // The sites of the classes restored from the cache would be missing from the table of this run
+            System.out.println("Instrumentation cache is not used with site IDs, will not use: " + CACHE_DIR);
+            return null;
+        }
+        if (appClassAnalysis == null || !(tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) {
+            // Without the class analysis of the whole app there is nothing to key the classes on
+            System.out.println("Instrumentation cache is only used when analyzing and injecting taint in one run, will not use: " + CACHE_DIR);
+            return null;
+        }
+        System.out.println("Using instrumentation cache: " + CACHE_DIR);
+        return new InstrumentationCache(CACHE_DIR, tool, isFramework, srcFile, sinkFile, appClassAnalysis);
+    }
+
+    private TaintReachability createReachability() {
+        if (!TaintReachability.ENABLED || isFramework || !(tool instanceof ViaLinTool || tool instanceof TaintDroidTool)) {
+            return null;
+        }
+        if (appClassAnalysis == null) {
+            // The pre-pass looks at the classes of every dex file at once
+            System.out.println("Reachability pre-pass is only used when analyzing and injecting taint in one run, will not use it");
+            return null;
+        }
+        List<String> allSmaliFiles = new ArrayList<>();
+        for (List<String> smaliFiles : extractedSmaliFiles) {
+            allSmaliFiles.addAll(smaliFiles);
+        }
+        return new TaintReachability(allSmaliFiles, appClassAnalysis, smaliStore);
+    }
+
+    private TaintAnalysis addTaint (TaintTool tool, List<String> smaliFiles, String analysisDir) {
         System.out.println("Tainting " + smaliFiles.size() + " files from: " + this.jarNames);
         TaintAnalysis taintAnalysis;
         if (tool instanceof ViaLinTool || tool instanceof TaintDroidTool) {
-            taintAnalysis = new ClassTaint(tool, smaliFiles, analysisDir, isFramework, outDir);
-            taintAnalysis.analyze();
+            if (appClassAnalysis != null) {
+                // analyze() already ran the class analysis over these classes
+                taintAnalysis = new ClassTaint(tool, smaliFiles, appClassAnalysis, isFramework, outDir, INSTRUMENTATION_JOBS);
+                taintAnalysis.setSmaliStore(smaliStore);
+                ((ClassTaint) taintAnalysis).setReachability(reachability);
+            } else {
+                taintAnalysis = new ClassTaint(tool, smaliFiles, analysisDir, isFramework, outDir, INSTRUMENTATION_JOBS);
+                taintAnalysis.setSmaliStore(smaliStore);
+                taintAnalysis.analyze();
+            }
         } else if(tool instanceof NoTool) {
             throw new Error("Unsupported taint tool (NoTool)");
         } else if(tool instanceof CovTool) {
             taintAnalysis = new Coverage(smaliFiles, this.bytecodeCov, coverageFile);
+            taintAnalysis.setSmaliStore(smaliStore);
         } else {
             throw new Error("Unsupported taint tool");
         }
@@ -366,10 +449,12 @@ public class TaintInjector {
         taintAnalysis.addTaint();
 
         TransformConds transformConds = new TransformConds(smaliFiles, analysisDir, analysisDir);
+        transformConds.setSmaliStore(smaliStore);
         transformConds.transform();
+        return taintAnalysis;
     };
 
-    private void analyzeDex (List<String> smaliFiles, String frameworkAnalysisDir, AnalysisDestination destination) {
+    private ClassAnalysis analyzeDex (List<String> smaliFiles, String frameworkAnalysisDir, AnalysisDestination destination) {
         System.out.println("Analyzing " + smaliFiles.size() + " files from: " + this.jarNames);
         ClassAnalysis classAnalysis;
         if (destination.equals(AnalysisDestination.APP)) {
@@ -377,9 +462,11 @@ public class TaintInjector {
         } else {
             classAnalysis = new ClassAnalysis(frameworkAnalysisDir);
         }
+        classAnalysis.setSmaliStore(smaliStore);
         classAnalysis.analyze(smaliFiles);
         classAnalysis.save();
         System.out.println("Analyses done");
+        return classAnalysis;
     };
 
     public static DexFile addType(DexFile dexFile) {
@@ -391,55 +478,88 @@ public class TaintInjector {
         return dexBackedDexFile;
       }
 
-    private List<String> packageDexFile(List<String> smaliFiles, int apiLevel, int fileNum) throws IOException {
+    /**
+     * Assembles the classes into as many dex files as their references need, starting at {@code fileNum}.
+     *
+     * @return The number of the next dex file
+     */
+    private int packageDexFiles(List<String> smaliFiles, int apiLevel, int fileNum) throws IOException {
+        List<List<String>> shards = new DexSharder(smaliStore, DEX_REFERENCE_LIMIT).shard(smaliFiles);
+        System.out.format("-------------------%nPacking %s smali files into %s dex files%n", smaliFiles.size(), shards.size());
+
+        Path shardDir = Paths.get(outDir, "dex-shards");
+        Files.createDirectories(shardDir);
+        int threads = Math.max(1, Math.min(shards.size(), JOBS));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<Path>>> tasks = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            List<String> shard = shards.get(i);
+            Path shardDexFile = shardDir.resolve("shard" + i);
+            tasks.add(executor.submit(() -> packageShard(shard, apiLevel, Math.max(1, JOBS / threads), shardDexFile)));
+        }
+
+        try {
+            for (Future<List<Path>> task : tasks) {
+                for (Path shardDexFile : task.get()) {
+                    Path dexFile = Paths.get(newJardir, "classes" + ((fileNum==0)? "" : String.valueOf(fileNum+1)) + ".dex");
+                    Files.move(shardDexFile, dexFile, StandardCopyOption.REPLACE_EXISTING);
+                    System.out.format("Packed %s%n", dexFile);
+                    fileNum++;
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IOException("Cannot package dex files", e);
+        } finally {
+            executor.shutdown();
+        }
+        deleteDirectory(shardDir.toFile());
+        return fileNum;
+    }
+
+    private List<Path> packageShard(List<String> smaliFiles, int apiLevel, int jobs, Path shardDexFile) throws IOException {
         SmaliOptions options = new SmaliOptions();
-        options.outputDexFile = this.newJardir + File.separator + "classes" + ((fileNum==0)? "" : String.valueOf(fileNum+1)) + ".dex";
+        options.outputDexFile = shardDexFile.toString();
         options.apiLevel = apiLevel;
-        options.jobs = JOBS;
+        options.jobs = jobs;
         options.verboseErrors = true;
 
-        int divider = 1;
-
-        System.out.format("-------------------%nTrying to pack %s, num smali files %s %n", options.outputDexFile, smaliFiles.size());
-        while (divider <= smaliFiles.size()) {
-            try {
-                System.out.format("Divider: %s, # files %s%n", divider, smaliFiles.size());
-                Smali.assemble(options, smaliFiles.subList(0, smaliFiles.size()/divider));
-                if (divider == 1) {
-                    return new ArrayList<>();
-                }
-                return smaliFiles.subList(smaliFiles.size()/divider, smaliFiles.size());
-            } catch (ExceptionWithContext e) {
-                divider = divider *2;
-                System.out.println("Error when packaging, will retry with less files: " + e.getMessage());
+        List<Path> packaged = new ArrayList<>();
+        try {
+            if (!smaliStore.assemble(options, smaliFiles)) {
+                System.out.println("Syntax errors when packaging: " + shardDexFile);
+            } else {
+                packaged.add(shardDexFile);
+            }
+        } catch (ExceptionWithContext e) {
+            // The references of the classes are over-approximated, so this should only be hit by classes that cannot be assembled at all
+            System.out.println("Error when packaging, will retry with less files: " + e.getMessage());
+            if (smaliFiles.size() == 1) {
+                cannotInstrument.addAll(smaliFiles);
+            } else {
+                int half = smaliFiles.size()/2;
+                packaged.addAll(packageShard(smaliFiles.subList(0, half), apiLevel, jobs, Paths.get(shardDexFile + "-0")));
+                packaged.addAll(packageShard(smaliFiles.subList(half, smaliFiles.size()), apiLevel, jobs, Paths.get(shardDexFile + "-1")));
             }
-
         }
-        List<String> badFiles = smaliFiles.subList(0, 1);
-        cannotInstrument.addAll(badFiles);
-        return smaliFiles.subList(1, smaliFiles.size());
+        return packaged;
     }
 
     private void packageJar() throws IOException {
+        List<Path> newDexFiles;
+        try (Stream<Path> list = Files.list(Paths.get(newJardir))) {
+            newDexFiles = list.filter(f -> f.getFileName().toString().matches("classes[0-9]*\\.dex"))
+                    .sorted(Comparator.comparingInt(f -> dexFileNumber(f.getFileName().toString())))
+                    .collect(Collectors.toList());
+        }
+
         for (int i = 0; i < fileTypes.size(); i++) {
             String jarName = jarNames.get(i);
             FileType fileType = fileTypes.get(i);
-            if (fileType.equals(FileType.JAR)) {
-                ProcessBuilder process = new ProcessBuilder();
-                process.directory(new File(newJardir));
-                process.command("jar", "cf", jarName, ".");
-                process.start();
-            } else if (fileType.equals(FileType.APK)) {
-                System.out.println("Will zip back apk at: " + newJardir);
+            if (fileType.equals(FileType.JAR) || fileType.equals(FileType.APK)) {
+                System.out.println("Will package back " + jarFiles.get(i) + " at: " + newJardir);
                 System.out.println("jar name is: " + jarName);
-                ProcessBuilder process = new ProcessBuilder();
-                process.directory(new File(newJardir));
-                process.command("zip", "-r", jarName, ".");
-                Process started = process.start();
-                InputStream inputStream = started.getInputStream();
-                getStringFromInputStream(inputStream);
-                getStringFromInputStream(started.getErrorStream());
-
+                // All dex files were extracted and instrumented into newDexFiles
+                ApkRewriter.rewrite(Paths.get(jarFiles.get(i)), Paths.get(newJardir, jarName), name -> name.endsWith(".dex"), newDexFiles);
             } else if (fileType.equals(FileType.DEX)) {
                 // pass
             } else {
@@ -448,68 +568,39 @@ public class TaintInjector {
         }
     }
 
-    private String getStringFromInputStream(InputStream inputStream) throws IOException {
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-        StringBuilder builder = new StringBuilder();
-        String line = null;
-        while ( (line = reader.readLine()) != null) {
-            builder.append(line);
-            builder.append(System.getProperty("line.separator"));
-        }
-        String result = builder.toString();
-        return result;
+    private static int dexFileNumber(String dexFileName) {
+        String number = dexFileName.substring("classes".length(), dexFileName.length() - ".dex".length());
+        return number.isEmpty()? 1 : Integer.parseInt(number);
     }
 
-    public void copyFolder(Path source, Path target) throws IOException {
-        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
-
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                Files.createDirectories(target.resolve(source.relativize(dir)));
-                return FileVisitResult.CONTINUE;
-            }
-
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                if (!file.toString().endsWith(".dex")) {
-                    Files.copy(file, target.resolve(source.relativize(file)));
-                }
-                return FileVisitResult.CONTINUE;
-            }
-        });
-    }
-
-    public void unzip(String zipFilePath, String destDirectory) throws IOException {
+    public void unzipDexFiles(String zipFilePath, String destDirectory) throws IOException {
         File destDir = new File(destDirectory);
         if (!destDir.exists()) {
             destDir.mkdir();
         }
-        ZipInputStream zipIn = new ZipInputStream(new FileInputStream(zipFilePath));
-        ZipEntry entry = zipIn.getNextEntry();
-        // iterates over entries in the zip file
-        while (entry != null) {
-            String filePath = destDirectory + File.separator + entry.getName();
-            File parentPath = new File(filePath).getParentFile();
-            if (!parentPath.exists()) {
-                parentPath.mkdirs();
-            }
-            if (!entry.isDirectory()) {
-                // if the entry is a file, extracts it
+        try (ZipFile zipFile = new ZipFile(zipFilePath)) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            // only the dex files are extracted, the other entries are never inflated
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.isDirectory() || !entry.getName().endsWith(".dex")) {
+                    continue;
+                }
+                String filePath = destDirectory + File.separator + entry.getName();
+                File parentPath = new File(filePath).getParentFile();
+                if (!parentPath.exists()) {
+                    parentPath.mkdirs();
+                }
                 if (!new File(filePath).isDirectory()) {
-                    extractFile(zipIn, filePath);
+                    try (InputStream zipIn = zipFile.getInputStream(entry)) {
+                        extractFile(zipIn, filePath);
+                    }
                 }
-            } else {
-                // if the entry is a directory, make the directory
-                File dir = new File(filePath);
-                dir.mkdirs();
             }
-            zipIn.closeEntry();
-            entry = zipIn.getNextEntry();
         }
-        zipIn.close();
     }
 
-    private void extractFile(ZipInputStream zipIn, String filePath) throws IOException {
+    private void extractFile(InputStream zipIn, String filePath) throws IOException {
         BufferedOutputStream bos = new BufferedOutputStream(new FileOutputStream(filePath));
         byte[] bytesIn = new byte[BUFFER_SIZE];
         int read = 0;
@@ -0,0 +1,240 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An optional whole-app pass, run before the instrumentation, that finds the methods that can lie on a flow
+ * from a source to a sink. When it is on, ViaLin instruments only those methods and leaves the others as they are.
+ *
+ * <p>The pass builds a graph of the ways data moves between methods. A call carries data both ways, the
+ * arguments to the callee and the return value and the mutated arguments back, and is resolved with the class
+ * hierarchy to every class that can declare the called method. An app field carries data from the methods that
+ * write it to the methods that read it. A framework class, merged with its framework superclasses, stands for the
+ * state the framework keeps, such as intents, preferences, views and threads: it carries data both ways between
+ * the app methods that call its methods or access its fields, and the app methods that may override one of its
+ * methods and be called back. The value classes in {@link #STATELESS_CLASSES} keep no state and are not part of
+ * the graph. A method can lie on a flow if it can be reached from a method that calls a source and can reach a
+ * method that calls a sink.
+ *
+ * <p>As the instrumentation does, the pass treats {@code Method.invoke} as a possible source. It does not model
+ * native code, and it does not link the calls the framework makes to the {@code java.lang.Object} methods of app
+ * classes, such as {@code toString}, to the methods that pass the objects to the framework.
+ */
+public class TaintReachability extends TaintAnalysis {
+
+    static final boolean ENABLED = Boolean.getBoolean("vialin.reachabilityPrepass");
+
+    private static final Set<String> STATELESS_CLASSES = new HashSet<>(Arrays.asList(
+        "Ljava/lang/Object;", "Ljava/lang/String;", "Ljava/lang/StringBuilder;", "Ljava/lang/StringBuffer;",
+        "Ljava/lang/CharSequence;", "Ljava/lang/Math;", "Ljava/lang/StrictMath;", "Ljava/lang/Number;",
+        "Ljava/lang/Integer;", "Ljava/lang/Long;", "Ljava/lang/Short;", "Ljava/lang/Byte;", "Ljava/lang/Character;",
+        "Ljava/lang/Boolean;", "Ljava/lang/Float;", "Ljava/lang/Double;", "Ljava/lang/Enum;",
+        "Ljava/lang/Comparable;", "Ljava/lang/Cloneable;", "Ljava/io/Serializable;"
+    ));
+
+    private static final Pattern METHOD_REFERENCE = Pattern.compile("(L[^;\\s]+;|\\[[^\\s>]+)->([^\\s,]+)");
+    private static final String REFLECTIVE_CALL = "Ljava/lang/reflect/Method;->invoke(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String FIELD_PREFIX = "field:";
+    private static final String FRAMEWORK_PREFIX = "framework:";
+
+    private final Set<String> appClasses = new HashSet<>();
+    private final Map<String, Set<String>> successors = new HashMap<>();
+    private final Map<String, Set<String>> predecessors = new HashMap<>();
+    private final Set<String> sourceCallers = new HashSet<>();
+    private final Set<String> sinkCallers = new HashSet<>();
+    private final Map<String, String> frameworkGroups = new HashMap<>();
+    private final Set<String> declaredMethods = new HashSet<>();
+    private final Set<String> relevantMethods = new HashSet<>();
+
+    /**
+     * Runs the pass over the classes of an app.
+     *
+     * @param smaliFiles The smali files of the app.
+     * @param classAnalysis The class analysis of the app, with the framework analysis.
+     * @param smaliStore The store the smali files are read from.
+     */
+    public TaintReachability(List<String> smaliFiles, ClassAnalysis classAnalysis, SmaliStore smaliStore) {
+        this.classAnalysis = classAnalysis;
+        this.smaliStore = smaliStore;
+        Map<String, List<String>> classes = new HashMap<>();
+        for (String file : smaliFiles) {
+            List<String> classLines;
+            try {
+                classLines = smaliStore.readLines(file);
+            } catch (IOException e) {
+                throw new Error("Cannot open class file: " + file);
+            }
+            String className = getLastToken(classLines.get(0));
+            appClasses.add(className);
+            classes.put(className, classLines);
+        }
+        for (Map.Entry<String, List<String>> entry : classes.entrySet()) {
+            addClass(entry.getKey(), entry.getValue());
+        }
+        Set<String> fromSources = reach(sourceCallers, successors);
+        Set<String> toSinks = reach(sinkCallers, predecessors);
+        for (String node : fromSources) {
+            if (toSinks.contains(node) && declaredMethods.contains(node)) {
+                relevantMethods.add(node);
+            }
+        }
+        System.out.format("Reachability pre-pass: %s of %s methods can lie on a flow from %s source callers to %s sink callers%n",
+            relevantMethods.size(), declaredMethods.size(), sourceCallers.size(), sinkCallers.size());
+    }
+
+    /**
+     * Checks whether a method can lie on a flow from a source to a sink.
+     *
+     * @param signature The signature of the method.
+     */
+    public boolean isRelevant(String signature) {
+        return relevantMethods.contains(signature);
+    }
+
+    private void addClass(String className, List<String> classLines) {
+        Set<String> frameworkSuperClasses = new HashSet<>();
+        for (String superClass : classAnalysis.getSuperClasses(className, new HashSet<>())) {
+            if (!appClasses.contains(superClass)) {
+                frameworkSuperClasses.add(superClass);
+            }
+        }
+
+        String method = null;
+        boolean inAnnon = false;
+        for (String line : classLines) {
+            if (line.trim().startsWith(".annotation")) {
+                inAnnon = true;
+            } else if (line.trim().startsWith(".end annotation")) {
+                inAnnon = false;
+            } else if (line.startsWith(".method")) {
+                MethodInfo methodInfo = getMethodInfo(className, line);
+                method = methodInfo.signature();
+                declaredMethods.add(method);
+                boolean mayBeCalledBack = !line.contains(" static ") && !line.contains(" private ") && !line.contains(" constructor ");
+                if (mayBeCalledBack) {
+                    for (String superClass : frameworkSuperClasses) {
+                        linkFramework(method, superClass);
+                    }
+                }
+            } else if (line.startsWith(".end method")) {
+                method = null;
+            } else if (method != null && !inAnnon && !line.isEmpty()) {
+                addInstruction(method, line);
+            }
+        }
+    }
+
+    private void addInstruction(String method, String line) {
+        String instruction = getToken(line, 0);
+        SmaliInstruction.Kind kind = SmaliInstruction.getKind(instruction);
+        if (kind == SmaliInstruction.Kind.INVOKE) {
+            Matcher matcher = METHOD_REFERENCE.matcher(line);
+            if (!matcher.find()) {
+                // A call site, whose target the framework links
+                linkFramework(method, "Ljava/lang/invoke/CallSite;");
+                return;
+            }
+            String calledClass = matcher.group(1);
+            String nameAndDesc = matcher.group(2);
+            String calledMethod = calledClass + "->" + nameAndDesc;
+            if ((!nameAndDesc.endsWith(")V") && TaintSource.isSource(calledClass, calledMethod)) || calledMethod.equals(REFLECTIVE_CALL)) {
+                sourceCallers.add(method);
+            }
+            Set<String> classesOfMethod = new HashSet<>(classAnalysis.getClassOfMethod(calledClass, nameAndDesc));
+            classesOfMethod.add(calledClass);
+            if (TaintSink.sinkParams(classesOfMethod, nameAndDesc).length > 0) {
+                sinkCallers.add(method);
+            }
+            for (String cls : classesOfMethod) {
+                if (appClasses.contains(cls)) {
+                    link(method, cls + "->" + nameAndDesc);
+                    link(cls + "->" + nameAndDesc, method);
+                } else {
+                    linkFramework(method, cls);
+                }
+            }
+        } else if (kind == SmaliInstruction.Kind.INSTANCE_OP || kind == SmaliInstruction.Kind.STATIC_OP) {
+            String fieldRef = getLastToken(line);
+            String fieldClass = getFieldClass(fieldRef);
+            String fieldName = getFieldName(fieldRef);
+            String whereIsField = classAnalysis.getClassOfField(fieldClass, fieldName);
+            if (whereIsField == null) {
+                whereIsField = fieldClass;
+            }
+            if (!appClasses.contains(whereIsField)) {
+                linkFramework(method, whereIsField);
+            } else if (instruction.startsWith("iput") || instruction.startsWith("sput")) {
+                link(method, FIELD_PREFIX + whereIsField + "->" + fieldName);
+            } else {
+                link(FIELD_PREFIX + whereIsField + "->" + fieldName, method);
+            }
+        }
+    }
+
+    private void link(String from, String to) {
+        successors.computeIfAbsent(from, k -> new HashSet<>()).add(to);
+        predecessors.computeIfAbsent(to, k -> new HashSet<>()).add(from);
+    }
+
+    private void linkFramework(String method, String frameworkClass) {
+        String group = getFrameworkGroup(frameworkClass);
+        if (group != null) {
+            link(method, group);
+            link(group, method);
+        }
+    }
+
+    /**
+     * Gets the node of a framework class, which it shares with its framework superclasses, or null if the class
+     * keeps no state.
+     */
+    private String getFrameworkGroup(String frameworkClass) {
+        if (STATELESS_CLASSES.contains(frameworkClass)) {
+            return null;
+        }
+        String group = frameworkGroups.get(frameworkClass);
+        if (group != null) {
+            return group;
+        }
+        group = FRAMEWORK_PREFIX + frameworkClass;
+        for (String superClass : classAnalysis.getSuperClasses(frameworkClass, new HashSet<>())) {
+            if (STATELESS_CLASSES.contains(superClass) || superClass.equals(frameworkClass)) {
+                continue;
+            }
+            String superGroup = frameworkGroups.get(superClass);
+            if (superGroup != null) {
+                // Both sides of the hierarchy already have a node, so data reaches one through the other
+                link(group, superGroup);
+                link(superGroup, group);
+            } else {
+                frameworkGroups.put(superClass, group);
+            }
+        }
+        frameworkGroups.put(frameworkClass, group);
+        return group;
+    }
+
+    private static Set<String> reach(Set<String> start, Map<String, Set<String>> edges) {
+        Set<String> reached = new HashSet<>(start);
+        Deque<String> toVisit = new ArrayDeque<>(start);
+        while (!toVisit.isEmpty()) {
+            for (String next : edges.getOrDefault(toVisit.pop(), Collections.emptySet())) {
+                if (reached.add(next)) {
+                    toVisit.push(next);
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -3,13 +3,14 @@ package ca.ubc.ece.resess.taint.dynamic.vialin;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.List;
 
 public class TaintSink {
-    private static Map<String, int[]> sinks = new HashMap<>();
+    // Returned when a method is not a sink, shared as callers only read the parameters
+    private static final int[] NO_PARAMS = new int[0];
+
+    private static SignatureMatcher<int[]> sinks = new SignatureMatcher<>();
 
     public static boolean isEmpty () {
         return sinks.isEmpty();
@@ -22,8 +23,11 @@ public class TaintSink {
             throw new Error("Cannot open file: " + sinkFile);
         }
 
+        // Replaces the sinks of a previous run in the same JVM
+        SignatureMatcher<int[]> matcher = new SignatureMatcher<>();
+
         for (String sink : sinkList) {
-            if (sink.startsWith("//")) {
+            if (sink.startsWith("//") || sink.startsWith("#") || sink.trim().isEmpty()) {
                 continue;
             }
             String [] splitArr = sink.split(",\\s+");
@@ -38,24 +42,26 @@ public class TaintSink {
                 }
             }
 
-            sinks.put(sinkStmt, params);
+            matcher.add(sinkStmt, params);
         }
+        sinks = matcher;
     }
 
 
     public static int[] sinkParams(Set<String> classesOfMethod, String methodNameAndDesc) {
         for (String cls : classesOfMethod) {
             // System.out.format("Signature %s%n", cls + "->" + methodNameAndDesc);
-            int [] params = sinks.get(cls + "->" + methodNameAndDesc);
+            int [] params = sinks.match(cls, methodNameAndDesc);
             if (params != null) {
                 return params;
             }
         }
-        return new int[0];
+        return NO_PARAMS;
     }
 
     public static int[] sinkParams(String signature) {
-        return sinks.getOrDefault(signature, new int[0]);
+        int [] params = sinks.match(signature);
+        return (params == null)? NO_PARAMS : params;
     }
 
 }
@@ -4,12 +4,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 public class TaintSource {
     private static List<String> sources = new ArrayList<>();
-    private static List<String> sourceMethods = new ArrayList<>();
+    // All the sources, with the index of the first occurrence of the exact ones in sources and -1 for the others
+    private static SignatureMatcher<Integer> sourceMatcher = new SignatureMatcher<>();
 
     public static void loadSources(String sourceFile) {
         List<String> sourceList;
@@ -19,23 +22,32 @@ public class TaintSource {
             throw new Error("Cannot open file: " + sourceFile);
         }
 
+        // Replaces the sources of a previous run in the same JVM
+        sources.clear();
+        SignatureMatcher<Integer> matcher = new SignatureMatcher<>();
+        Set<String> exactSources = new HashSet<>();
+
         for (String src : sourceList) {
-            if (src.startsWith("*->")) { // for sources that match by method, regardless of the class name
-                sourceMethods.add(src.replace("*->", ""));
+            if (src.trim().isEmpty() || src.startsWith("#")) {
+                // Not a pattern, but kept in the list so that the taint numbers of the sources stay their line numbers
+                sources.add(src);
+                continue;
+            }
+            if (src.startsWith("*->") || src.contains("/*->")) { // for sources that match by method, regardless of the class name or within a package
+                matcher.add(src, -1);
             } else { // for exact matching
+                if (exactSources.add(src)) {
+                    matcher.add(src, sources.size());
+                }
                 sources.add(src);
             }
 
         }
+        sourceMatcher = matcher;
     }
 
     public static boolean isSource(String className, String signature) {
-        if (sources.contains(signature)) {
-            return true;
-        } else if (sourceMethods.contains(signature.split("->")[1])) {
-            return true;
-        }
-        return false;
+        return sourceMatcher.match(signature) != null;
     }
 
     public static List<String> getSources() {
@@ -43,7 +55,8 @@ public class TaintSource {
     }
 
     public static int getTaintNum(String signature) {
-        return sources.indexOf(signature);
+        Integer taintNum = sourceMatcher.match(signature);
+        return (taintNum == null)? -1 : taintNum;
     }
 }
 
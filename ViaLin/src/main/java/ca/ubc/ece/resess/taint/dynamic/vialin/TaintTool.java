@@ -41,9 +41,9 @@ public interface TaintTool {
     public String setOrderedIntentParam();
     public String getOrderedIntentParam();
     public String arraySet();
+    public String arrayGet();
     public String paramArray();
     public String getParamArray();
-    public String paramTaint(int i);
     public String getIntent();
 }
 
@@ -1,8 +1,6 @@
 package ca.ubc.ece.resess.taint.dynamic.vialin;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,10 +29,10 @@ public class TransformConds extends TaintAnalysis {
         }
     }
 
-    private void transformFile(String file) {
+    void transformFile(String file) {
         List<String> classLines;
         try {
-            classLines = Files.readAllLines(Paths.get(file));
+            classLines = smaliStore.readLines(file);
         } catch (IOException e) {
             throw new Error("Cannot open class file: " + file);
         }
@@ -113,92 +111,44 @@ public class TransformConds extends TaintAnalysis {
                     } else if (instruction.startsWith("#")) {
                     } else {
                         methodSize += getSizeBit(instruction);
-                        if (isNop(instruction)) {
-                            // pass
-                        } else if (isMove(instruction) || isMoveFrom16(instruction) || isMove16(instruction) ||
-                            isMoveWide(instruction) || isMoveWideFrom16(instruction) || isMoveWide16(instruction) ||
-                            isMoveObject(instruction) || isMoveObjectFrom16(instruction) || isMoveObject16(instruction)) {
-                            // pass
-                        } else if (isMoveResult(instruction) || isMoveResultWide(instruction) || isMoveResultObject(instruction)) {
-                            // pass
-                        } else if (isMoveException(instruction)) {
-                            // pass
-                        } else if (isReturnVoid(instruction)) {
-                            // pass
-                        } else if (isReturn(instruction) || isReturnWide(instruction) || isReturnObject(instruction)) {
-                            // pass
-                        } else if (isConst4(instruction) || isConst16(instruction) || isConst(instruction) || isConstHigh16(instruction) ||
-                                isConstWide16(instruction) || isConstWide32(instruction) || isConstWide(instruction) || isConstWideHigh16(instruction) ||
-                                isConstString(instruction) || isConstStringJumbo(instruction) || isConstClass(instruction)) {
-                            // pass
-                        } else if (isMonitorEnter(instruction) || isMonitorExit(instruction)) {
-                            // pass
-                        } else if (isCheckCast(instruction)) {
-                            // pass
-                        } else if (isInstanceOf(instruction) || isArrayLength(instruction)) {
-                            // pass
-                        } else if (isNewInstance(instruction) || isNewArray(instruction)) {
-                            // pass
-                        } else if (isFilledNewArray(instruction) || isFilledNewArrayRange(instruction) || isFillArrayData(instruction)) {
-                            // pass
-                        } else if (isThrow(instruction)) {
-                            // pass
-                        } else if (isGoto(instruction) || isGoto16(instruction) || isGoto32(instruction)) {
-                            // pass
-                        } else if (isPackedSwitch(instruction) || isSparseSwitch(instruction)) {
-                            // pass
-                        } else if (isCmpkind(instruction)) {
-                            // pass
-                        } else if (isIfTest(instruction) || isIfTestz(instruction)) {
-                            // pass
-                            String srcReg1 = getRegReference(line, 1);
-                            String label = getRegReference(line, 2);
-                            // System.out.println("At line: " + line);
-
-                            String srcReg2 = "";
-                            if (isIfTest(instruction)) {
-                                srcReg2 = label;
-                                label = getRegReference(line, 3);
+                        SmaliInstruction insn = SmaliInstruction.parse(line);
+                        switch (insn.getKind()) {
+                            case IF_TEST:
+                            case IF_TESTZ: {
+                                String srcReg1 = insn.getRegister(1);
+                                String label = insn.getRegister(2);
+                                // System.out.println("At line: " + line);
+
+                                String srcReg2 = "";
+                                if (insn.getKind() == SmaliInstruction.Kind.IF_TEST) {
+                                    srcReg2 = label;
+                                    label = insn.getRegister(3);
+                                }
+                                // System.out.printf("Label %s, Distance %s%n", label, labelDistanceMap.get(label));
+                                String oppositeConditional = getOppositeConditional(instruction);
+                                int labelNum = lineNum;
+                                String newLabel = ":TransformedLabel_" + labelNum;
+                                String newInstruction = oppositeConditional + " " + srcReg1 + ", " + (srcReg2.equals("")? "" : srcReg2 + ", ") + newLabel;
+                                String gotoInstruction = "goto/32 " + label;
+                                // System.out.println("New Instruction: " + newInstruction);
+                                int delta = labelDistanceMap.get(label) - methodSize;
+                                // if (delta < -32768 || delta > 32767) {
+                                if (delta < -4096 || delta > 4095) { // made more safe
+                                    // System.out.format("Bad delta To cond %s in method%s%n", delta, methodInfo.signature());
+                                    linesToAdd.clear();
+                                    linesToAdd.add("    " + newInstruction);
+                                    linesToAdd.add("    " + gotoInstruction);
+                                    linesToAdd.add("    " + newLabel);
+                                }
+                                break;
                             }
-                            // System.out.printf("Label %s, Distance %s%n", label, labelDistanceMap.get(label));
-                            String oppositeConditional = getOppositeConditional(instruction);
-                            int labelNum = lineNum;
-                            String newLabel = ":TransformedLabel_" + labelNum;
-                            String newInstruction = oppositeConditional + " " + srcReg1 + ", " + (srcReg2.equals("")? "" : srcReg2 + ", ") + newLabel;
-                            String gotoInstruction = "goto/32 " + label;
-                            // System.out.println("New Instruction: " + newInstruction);
-                            int delta = labelDistanceMap.get(label) - methodSize;
-                            // if (delta < -32768 || delta > 32767) {
-                            if (delta < -4096 || delta > 4095) { // made more safe
-                                // System.out.format("Bad delta To cond %s in method%s%n", delta, methodInfo.signature());
-                                linesToAdd.clear();
-                                linesToAdd.add("    " + newInstruction);
-                                linesToAdd.add("    " + gotoInstruction);
-                                linesToAdd.add("    " + newLabel);
-                            }
-
-                        } else if (isArrayOp(instruction)) {
-                            // pass
-                        } else if (isIinstanceOp(instruction)) {
-                            // pass
-                        } else if (isSstaticOp(instruction)) {
-                            // pass
-                        } else if (isInvokeKind(instruction) || isInvokeKindRange(instruction) ||
-                            isInvokePolymorphic(instruction) || isInvokePolymorphicRange(instruction) ||
-                            isInvokeCustom(instruction) || isInvokeCustomRange(instruction)) {
-                            throw new Error("Invokes are handled in a separate branch");
-                        } else if (isUnOp(instruction)) {
-                            // pass
-                        } else if (isBinOp(instruction)) {
-                            // pass
-                        } else if (isBinOp2addr(instruction)) {
-                            // pass
-                        } else if (isBinOpLit16(instruction) || isBinOpLit8(instruction)) {
-                            // pass
-                        } else if (isConstMethodHandle(instruction) || isConstMethodType(instruction)) {
-                            // pass
-                        } else {
-                            throw new Error("Invalid instruction: " + line);
+                            case INVOKE:
+                                throw new Error("Invokes are handled in a separate branch");
+                            case OTHER:
+                                throw new Error("Invalid instruction: " + line);
+                            default:
+                                // pass
+                                break;
                         }
                     }
                 }
@@ -208,7 +158,7 @@ public class TransformConds extends TaintAnalysis {
 
 
         try {
-            Files.write(Paths.get(file), taintedClassLines);
+            smaliStore.write(file, taintedClassLines);
         } catch (IOException e) {
             throw new Error("Cannot modify class file: " + file);
         }
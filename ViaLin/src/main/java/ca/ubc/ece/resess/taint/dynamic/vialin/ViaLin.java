@@ -1,6 +1,15 @@
 package ca.ubc.ece.resess.taint.dynamic.vialin;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +22,98 @@ public class ViaLin {
 
 
   public static void main(String args[]) throws IOException {
+    if (args[0].equals("batch")) {
+      if (!runBatch(args[1])) {
+        System.exit(1);
+      }
+    } else if (args[0].equals("daemon")) {
+      runDaemon(Integer.parseInt(args[1]));
+    } else if (args[0].equals("convert")) {
+      ClassAnalysis.convertToStore(args[1]);
+    } else if (args[0].equals("summaries")) {
+      for (int i = 1; i < args.length; i++) {
+        MethodSummaryBundle.compile(args[i]);
+      }
+    } else {
+      run(args);
+    }
+  }
+
+  /**
+   * Runs the jobs of a manifest one after the other in this JVM. Each line of the manifest holds the
+   * arguments of one run, separated by whitespace, empty lines and lines starting with # are skipped.
+   *
+   * @return false if any of the jobs failed
+   */
+  public static boolean runBatch(String manifest) throws IOException {
+    ClassAnalysis.setKeepFrameworkAnalysis(true);
+    List<String> failed = new ArrayList<>();
+    int jobs = 0;
+    for (String line : Files.readAllLines(Paths.get(manifest))) {
+      if (line.trim().isEmpty() || line.trim().startsWith("#")) {
+        continue;
+      }
+      jobs++;
+      String error = runJob(line);
+      if (error != null) {
+        failed.add(line);
+      }
+    }
+    System.out.format("Batch done: %s jobs, %s failed%n", jobs, failed.size());
+    for (String line : failed) {
+      System.out.println("Failed: " + line);
+    }
+    return failed.isEmpty();
+  }
+
+  /**
+   * Serves jobs on a socket of the loopback interface until it receives "shutdown". A client sends the
+   * arguments of one run on one line, and gets back "OK <ms>" or "FAILED <error>" once the run is done.
+   * Jobs are run one at a time, in the order they arrive.
+   */
+  public static void runDaemon(int port) throws IOException {
+    ClassAnalysis.setKeepFrameworkAnalysis(true);
+    try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+      System.out.println("Waiting for jobs on " + serverSocket.getLocalSocketAddress());
+      while (true) {
+        try (Socket socket = serverSocket.accept();
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true)) {
+          String line = in.readLine();
+          if (line == null || line.trim().isEmpty()) {
+            continue;
+          }
+          if (line.trim().equals("shutdown")) {
+            out.println("OK");
+            return;
+          }
+          long start = System.currentTimeMillis();
+          String error = runJob(line);
+          out.println((error == null)? "OK " + (System.currentTimeMillis() - start) : "FAILED " + error);
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
+    }
+  }
+
+  private static String runJob(String line) {
+    System.out.println("Running job: " + line);
+    // The modeled methods, the cost report and the site IDs are written per run, the rest of the static state is
+    // reloaded by the run
+    InstrumentationContext.modeledMethods.clear();
+    MethodCostReport.clear();
+    SiteDictionary.clear();
+    try {
+      run(line.trim().split("\\s+"));
+      return null;
+    } catch (Throwable t) {
+      t.printStackTrace();
+      return String.valueOf(t);
+    }
+  }
+
+  public static void run(String args[]) throws IOException {
 
     List<String> inFiles = new ArrayList<>();
     String mode = args[0];
@@ -53,7 +154,7 @@ public class ViaLin {
 
     TaintTool tool;
     if (toolStr.equals("vl")) {
-      tool = new ViaLinTool();
+      tool = ViaLinArenaTool.ENABLED ? new ViaLinArenaTool() : new ViaLinTool();
     } else if (toolStr.equals("td")) {
       tool = new TaintDroidTool();
     } else if (toolStr.equals("orig")) {
@@ -75,7 +176,7 @@ public class ViaLin {
       injector.analyze();
       long afterAnalysis = System.currentTimeMillis() - start;
       System.out.println("Analysis done in " + afterAnalysis + " ms");
-      injector = new TaintInjector(inFiles, outDir, analysisDir, srcFile, sinkFile, tool, isFramework, AnalysisDestination.APP);
+      // Same injector, so the extracted and disassembled classes are reused
       injector.inject();
       long afterInject = System.currentTimeMillis() - start;
       System.out.println("Analysis + injection done in " + afterInject + " ms");
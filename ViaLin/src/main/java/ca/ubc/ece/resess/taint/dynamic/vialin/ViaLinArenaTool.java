@@ -0,0 +1,250 @@
+package ca.ubc.ece.resess.taint.dynamic.vialin;
+
+/**
+ * ViaLin with the path taints kept in the arenas of {@code PathTaintArena} on the device instead of as objects.
+ * The taint registers, fields and array elements hold int handles to the nodes, 0 for no taint, so they are
+ * moved, stored and passed as TaintDroid passes its taints, and the parameter, return and throw taints go
+ * through the same int slots of the thread. The propagation, the sources and the sinks call the handle-based
+ * helpers of {@code PathTaintArena}, and the models of intents, bundles, preferences and files call the
+ * {@code Arena} variants of the ViaLin models, which convert the handles at the boundary.
+ *
+ * <p>The framework and the apps must be instrumented in the same mode.
+ */
+public class ViaLinArenaTool extends ViaLinTool {
+
+    static final boolean ENABLED = Boolean.getBoolean("vialin.arenaTaint");
+
+    private static final String FIELD_NAME_DESC = "_pathTaintArena:I";
+    private static final TaintDroidTool INT_SLOTS = new TaintDroidTool();
+
+    @Override
+    public String putInstanceFieldInstr() {
+        return "iput";
+    }
+
+    @Override
+    public String putStaticFieldInstr() {
+        return "sput";
+    }
+
+    @Override
+    public String getInstanceFieldInstr() {
+        return "iget";
+    }
+
+    @Override
+    public String getStaticFieldInstr() {
+        return "sget";
+    }
+
+    @Override
+    public String fieldNameAndDesc() {
+        return FIELD_NAME_DESC;
+    }
+
+    @Override
+    public String getMoveResultTaint() {
+        return "move-result";
+    }
+
+    @Override
+    public String getMoveTaint() {
+        return "move";
+    }
+
+    @Override
+    public String getTaintDumpInstrOneArg() {
+        return "Ljava/lang/PathTaintArena;->addToTaintDump(I)V";
+    }
+
+    @Override
+    public String getTaintDumpInstrTwoArg() {
+        return "Ljava/lang/PathTaintArena;->addToTaintDump(ILjava/lang/Object;)V";
+    }
+
+    @Override
+    public String getGetParamTaintInstr(int i) {
+        return INT_SLOTS.getGetParamTaintInstr(i);
+    }
+
+    @Override
+    public String getGetReturnTaintInstr() {
+        return INT_SLOTS.getGetReturnTaintInstr();
+    }
+
+    @Override
+    public String getGetAsyncTaskParam() {
+        return INT_SLOTS.getGetAsyncTaskParam();
+    }
+
+    @Override
+    public String getSetAsyncTaskParam() {
+        return INT_SLOTS.getSetAsyncTaskParam();
+    }
+
+    @Override
+    public String getSetParamTaintInstr(int i) {
+        return INT_SLOTS.getSetParamTaintInstr(i);
+    }
+
+    @Override
+    public String getGetThrowTaintInstr() {
+        return INT_SLOTS.getGetThrowTaintInstr();
+    }
+
+    @Override
+    public String getSetReturnTaintInstr() {
+        return INT_SLOTS.getSetReturnTaintInstr();
+    }
+
+    @Override
+    public String getSetThrowTaintInstr() {
+        return INT_SLOTS.getSetThrowTaintInstr();
+    }
+
+    @Override
+    public String getSharedPrefsTaintAll() {
+        return "Landroid/content/SharedPreferences;->getSharedPrefsTaintAllArena(Landroid/content/SharedPreferences;)I";
+    }
+
+    @Override
+    public String getSharedPrefsTaint() {
+        return "Landroid/content/SharedPreferences;->getSharedPrefsTaintArena(Landroid/content/SharedPreferences;Ljava/lang/String;)I";
+    }
+
+    @Override
+    public String addSharedPrefsTaint() {
+        return "Landroid/content/SharedPreferences$Editor;->addSharedPrefsTaintArena(Landroid/content/SharedPreferences$Editor;Ljava/lang/String;I)V";
+    }
+
+    @Override
+    public String addSharedPrefsTaintAndObject() {
+        return "Landroid/content/SharedPreferences$Editor;->addSharedPrefsTaintArena(Landroid/content/SharedPreferences$Editor;Ljava/lang/String;ILjava/lang/Object;)V";
+    }
+
+    @Override
+    public String formatterAddTaint() {
+        return "Ljava/util/Formatter;->addTaintArena()V";
+    }
+
+    @Override
+    public String addFileTaint() {
+        return "Ljava/lang/PathTaintArena;->addFileTaint(Ljava/io/File;I)V";
+    }
+
+    @Override
+    public String addFileTaintAndObject() {
+        return "Ljava/lang/PathTaintArena;->addFileTaint(Ljava/io/File;ILjava/lang/Object;)V";
+    }
+
+    @Override
+    public String getFileTaint() {
+        return "Ljava/lang/PathTaintArena;->getFileTaint(Ljava/io/File;)I";
+    }
+
+    @Override
+    public String returnInstr() {
+        return "return";
+    }
+
+    @Override
+    public String addParcelTaint() {
+        return "Landroid/content/Intent;->addParcelTaintArena(Landroid/content/Intent;I)V";
+    }
+
+    @Override
+    public String addMapTaint() {
+        // The map keeps the taint as it is, so the int slot of TaintDroid holds a handle as well
+        return INT_SLOTS.addMapTaint();
+    }
+
+    @Override
+    public String getMapTaint() {
+        return INT_SLOTS.getMapTaint();
+    }
+
+    @Override
+    public String addParcelTaintAndObject() {
+        return "Landroid/content/Intent;->addParcelTaintArena(Landroid/content/Intent;ILjava/lang/Object;)V";
+    }
+
+    @Override
+    public String getParcelTaint() {
+        return "Landroid/content/Intent;->getParcelTaintArena(Landroid/content/Intent;)I";
+    }
+
+    @Override
+    public String addBundleTaint() {
+        return "Landroid/os/Bundle;->addBundleTaintArena(Landroid/os/Bundle;I)V";
+    }
+
+    @Override
+    public String addBundleTaintAndObject() {
+        return "Landroid/os/Bundle;->addBundleTaintArena(Landroid/os/Bundle;ILjava/lang/Object;)V";
+    }
+
+    @Override
+    public String getBundleTaint() {
+        return "Landroid/os/Bundle;->getBundleTaintArena(Landroid/os/Bundle;)I";
+    }
+
+    @Override
+    public String setOrderedIntentParam() {
+        return INT_SLOTS.setOrderedIntentParam();
+    }
+
+    @Override
+    public String getOrderedIntentParam() {
+        return INT_SLOTS.getOrderedIntentParam();
+    }
+
+    @Override
+    public String arraySet() {
+        return "aput";
+    }
+
+    @Override
+    public String arrayGet() {
+        return "aget";
+    }
+
+    @Override
+    public String paramArray() {
+        return INT_SLOTS.paramArray();
+    }
+
+    @Override
+    public String getParamArray() {
+        return INT_SLOTS.getParamArray();
+    }
+
+    @Override
+    public String taintDesc() {
+        return "I";
+    }
+
+    @Override
+    public String addTaintSource() {
+        return "Ljava/lang/PathTaintArena;->addTaintSource(ILjava/lang/String;I)I";
+    }
+
+    @Override
+    public String propagateOneArg() {
+        return "Ljava/lang/PathTaintArena;->propagateOneArg(ILjava/lang/String;I)I";
+    }
+
+    @Override
+    public String propagateTwoArgs() {
+        return "Ljava/lang/PathTaintArena;->propagateTwoArgs(IILjava/lang/String;I)I";
+    }
+
+    @Override
+    public String finishDumpTaint() {
+        return "Ljava/lang/PathTaintArena;->finishDumpTaint()V";
+    }
+
+    @Override
+    public String getTaintContainer() {
+        return "Ljava/lang/PathTaintArena;->getTaintContainer(I)I";
+    }
+}
@@ -1,6 +1,10 @@
 package ca.ubc.ece.resess.taint.dynamic.vialin;
 
 public class ViaLinTool implements TaintTool{
+
+    // Propagates through the variants of PathTaint that return the existing node with the same site, delta and operands
+    static final boolean INTERN_TAINTS = Boolean.getBoolean("vialin.internTaints");
+
     private static String MOVE_TAINT = "move-object";
     private static String FIELD_NAME_DESC = "_pathTaint:Ljava/lang/PathTaint;";
 
@@ -165,6 +169,11 @@ public class ViaLinTool implements TaintTool{
         return "aput-object";
     }
 
+    @Override
+    public String arrayGet() {
+        return "aget-object";
+    }
+
     @Override
     public String paramArray() {
         return "Ljava/lang/Thread;->paramTaintArray:[Ljava/lang/PathTaint;";
@@ -175,15 +184,36 @@ public class ViaLinTool implements TaintTool{
         return "Ljava/lang/Thread;->getParamArray()[Ljava/lang/PathTaint;";
     }
 
-    @Override
-    public String paramTaint(int i) {
-        return "Ljava/lang/Thread;->paramTaint" + i + ":Ljava/lang/PathTaint;";
-    }
-
     @Override
     public String getIntent() {
         return "Landroid/app/Activity;->getIntent()Landroid/content/Intent;";
     }
 
+    public String taintDesc() {
+        return "Ljava/lang/PathTaint;";
+    }
+
+    public String addTaintSource() {
+        return "Ljava/lang/PathTaint;->addTaintSource(Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+    }
+
+    public String propagateOneArg() {
+        return "Ljava/lang/PathTaint;->" + (INTERN_TAINTS ? "propagateOneArgInterned" : "propagateOneArg")
+            + "(Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+    }
+
+    public String propagateTwoArgs() {
+        return "Ljava/lang/PathTaint;->" + (INTERN_TAINTS ? "propagateTwoArgsInterned" : "propagateTwoArgs")
+            + "(Ljava/lang/PathTaint;Ljava/lang/PathTaint;Ljava/lang/String;I)Ljava/lang/PathTaint;";
+    }
+
+    public String finishDumpTaint() {
+        return "Ljava/lang/PathTaint;->finishDumpTaint()V";
+    }
+
+    public String getTaintContainer() {
+        return "Ljava/lang/Thread;->getTaintContainer(Ljava/lang/PathTaint;)Ljava/lang/PathTaint;";
+    }
+
 }
 
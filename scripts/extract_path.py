@@ -38,6 +38,7 @@ def translate_file(f):
     print(f, flush=True)
     log = utils.read_file(f)
     report, parcels = utils.get_dumptaint_report_from_log(log)
+    report = utils.resolve_site_ids(report, [f.replace(".log", ".site_ids.json"), os.path.join(os.path.dirname(f), "framework.site_ids.json")])
     del log
 
     print(f"Done processing file in {timer() - time_now}")
@@ -35,6 +35,14 @@ cp $temp_dir/new-jar/*.apk $out_dir/apps/$out_apk
 rm -r $out_dir/results_vialin/$app_name.class_info/
 cp -r $temp_dir/class_info/ $out_dir/results_vialin/$app_name.class_info
 
+rm -f $out_dir/results_vialin/$app_name.site_ids.json
+if [ -f $temp_dir/site_ids.json ]; then
+    cp $temp_dir/site_ids.json $out_dir/results_vialin/$app_name.site_ids.json
+fi
+if [ -f framework_analysis_results/site_ids.json ]; then
+    cp framework_analysis_results/site_ids.json $out_dir/results_vialin/framework.site_ids.json
+fi
+
 yes vialin | apksigner sign --ks vialin.keystore $out_dir/apps/$out_apk
 
 
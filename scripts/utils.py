@@ -7,6 +7,7 @@ from scipy.stats import shapiro
 from scipy.stats import lognorm
 import xlsxwriter
 import json
+import re
 from multiprocessing import Pool
 from timeit import default_timer as timer
 
@@ -54,6 +55,8 @@ def get_dumptaint_report_from_log(log):
             parcels.append(int(line.split("DumpTaint for parcel: ")[1]))
         if "DumpTaint for file: " in line:
             parcels.append(int(line.split("DumpTaint for file: ")[1]))
+        if "DumpTaint for arena: " in line:
+            parcels.append(int(line.split("DumpTaint for arena: ")[1]))
         if "DumpTaint-" in line:
             report.append(line.split("System.out: ")[1])
         if "SourceFound:" in line:
@@ -64,6 +67,20 @@ def get_dumptaint_report_from_log(log):
     return report, parcels
 
 
+def resolve_site_ids(report, site_ids_files):
+    # Site IDs are replaced by the signatures they stand for, logs of apps instrumented without them are kept as they are.
+    # The tables of the app and of the framework are merged, as the framework is instrumented in runs of its own
+    site_ids = dict()
+    for site_ids_file in site_ids_files:
+        if os.path.isfile(site_ids_file):
+            with open(site_ids_file, 'r') as f:
+                site_ids.update(json.load(f))
+    if not site_ids:
+        return report
+    site_id = re.compile(r"(?:Ljava|Landroid|Lcom/google|Lcom/android|Lkotlin)?#[0-9a-z]+")
+    return [site_id.sub(lambda m: site_ids.get(m.group(0), m.group(0)), line) for line in report]
+
+
 def get_debug_paths(log):
     path = []
     for line in reversed(log):